@@ -7,10 +7,13 @@ import com.autoloan.backend.service.DocumentService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -37,6 +40,23 @@ public class DocumentController {
                 .body(documentService.uploadDocument(applicationId, userId, docType, file));
     }
 
+    // Raw file bytes as the body instead of multipart: read once, hashed and written to disk as
+    // they arrive, never buffered or spooled first
+    @PostMapping(path = "/applications/{applicationId}/documents/stream",
+            consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<DocumentResponse> uploadDocumentStream(
+            HttpServletRequest request,
+            @PathVariable Long applicationId,
+            @RequestParam("doc_type") String docType,
+            @RequestParam("file_name") String fileName) throws IOException {
+        Long userId = getUserIdFromRequest(request);
+        String contentType = MediaTypeFactory.getMediaType(fileName)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(documentService.uploadDocumentStream(applicationId, userId, docType, fileName,
+                        contentType, request.getContentLengthLong(), request.getInputStream()));
+    }
+
     @GetMapping("/applications/{applicationId}/documents")
     public ResponseEntity<List<DocumentResponse>> getDocumentsByApplication(
             HttpServletRequest request,
@@ -3,6 +3,7 @@ package com.autoloan.backend.controller;
 
 import java.util.List;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -17,13 +18,18 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.autoloan.backend.dto.application.AllowedActionsResponse;
 import com.autoloan.backend.dto.application.ApplicationSignRequest;
 import com.autoloan.backend.dto.application.StatusHistoryResponse;
 import com.autoloan.backend.dto.application.StatusUpdateRequest;
 import com.autoloan.backend.dto.loan.LoanApplicationRequest;
 import com.autoloan.backend.dto.loan.LoanApplicationResponse;
 import com.autoloan.backend.dto.loan.PaginatedResponse;
+import com.autoloan.backend.dto.loan.PaymentScheduleResponse;
+import com.autoloan.backend.model.enums.Role;
 import com.autoloan.backend.security.JwtTokenProvider;
 import com.autoloan.backend.service.AgreementPdfService;
 import com.autoloan.backend.service.ApplicationWorkflowService;
@@ -66,10 +72,11 @@ public class LoanController {
             @RequestParam(name = "$filter", required = false) String filter,
             @RequestParam(name = "$orderby", required = false) String orderby,
             @RequestParam(required = false) String status,
+            @RequestParam(name = "$count", required = false) String count,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(name = "per_page", defaultValue = "20") int perPage) {
         Long userId = getUserIdFromRequest(request);
-        return ResponseEntity.ok(loanService.getApplicationsPaginated(userId, filter, orderby, status, page, perPage));
+        return ResponseEntity.ok(loanService.getApplicationsPaginated(userId, filter, orderby, status, count, page, perPage));
     }
 
     @GetMapping("/{id}")
@@ -126,7 +133,7 @@ public class LoanController {
             @PathVariable Long id,
             @Valid @RequestBody StatusUpdateRequest statusRequest) {
         Long userId = getUserIdFromRequest(request);
-        return ResponseEntity.ok(workflowService.updateStatus(id, userId,
+        return ResponseEntity.ok(workflowService.updateStatus(id, userId, Role.valueOf(getRoleFromRequest(request)),
                 statusRequest.getStatus(), statusRequest.getComment()));
     }
 
@@ -137,24 +144,58 @@ public class LoanController {
             @PathVariable Long id,
             @Valid @RequestBody StatusUpdateRequest statusRequest) {
         Long userId = getUserIdFromRequest(request);
-        return ResponseEntity.ok(workflowService.updateStatus(id, userId,
+        return ResponseEntity.ok(workflowService.updateStatus(id, userId, Role.valueOf(getRoleFromRequest(request)),
                 statusRequest.getStatus(), statusRequest.getComment()));
     }
 
+    @GetMapping("/{id}/actions")
+    public ResponseEntity<AllowedActionsResponse> allowedActions(HttpServletRequest request, @PathVariable Long id) {
+        Long userId = getUserIdFromRequest(request);
+        return ResponseEntity.ok(workflowService.getAllowedActions(id, userId, Role.valueOf(getRoleFromRequest(request))));
+    }
+
+    @GetMapping("/{id}/schedule")
+    public ResponseEntity<PaymentScheduleResponse> paymentSchedule(HttpServletRequest request, @PathVariable Long id) {
+        Long userId = getUserIdFromRequest(request);
+        return ResponseEntity.ok(loanService.getPaymentSchedule(id, userId, Role.valueOf(getRoleFromRequest(request))));
+    }
+
+    // Strong ETag from the rendered inputs: a repeat download with If-None-Match is a 304, and
+    // otherwise an unchanged agreement is served from the PDF cache without re-rendering. The
+    // body streams to the client, from the cached file (with Content-Length) or from the render.
     @GetMapping("/{id}/agreement_pdf")
-    public ResponseEntity<byte[]> agreementPdf(HttpServletRequest request, @PathVariable Long id) {
+    public ResponseEntity<StreamingResponseBody> agreementPdf(HttpServletRequest request, @PathVariable Long id,
+                                                              WebRequest webRequest) {
         Long userId = getUserIdFromRequest(request);
         String role = getRoleFromRequest(request);
         AgreementPdfService.PdfResult result = agreementPdfService.generate(id, userId, role);
+        if (webRequest.checkNotModified(result.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(result.getEtag())
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .build();
+        }
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_PDF);
         headers.setContentDispositionFormData("attachment", result.getFilename());
-        return new ResponseEntity<>(result.getBuffer(), headers, HttpStatus.OK);
+        headers.setETag(result.getEtag());
+        headers.setCacheControl(CacheControl.noCache().cachePrivate());
+        result.getContentLength().ifPresent(headers::setContentLength);
+        return new ResponseEntity<>(result::writeTo, headers, HttpStatus.OK);
     }
 
+    // Poll with If-None-Match: an unchanged timeline is a 304 without reading any history rows.
+    // since=<last seen history id> returns only newer entries.
     @GetMapping("/{id}/history")
-    public ResponseEntity<List<StatusHistoryResponse>> getHistory(@PathVariable Long id) {
-        return ResponseEntity.ok(workflowService.getHistory(id));
+    public ResponseEntity<List<StatusHistoryResponse>> getHistory(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long since,
+            WebRequest webRequest) {
+        String etag = workflowService.getHistoryTag(id);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(workflowService.getHistory(id, since));
     }
 
     private Long getUserIdFromRequest(HttpServletRequest request) {
@@ -1,23 +1,45 @@
 // backend/src/main/java/com/autoloan/backend/controller/LoanOfficerController.java
 package com.autoloan.backend.controller;
 
+import com.autoloan.backend.dto.application.AgingSummaryResponse;
+import com.autoloan.backend.dto.application.AgreementBatchResponse;
+import com.autoloan.backend.dto.application.AllowedActionsRequest;
+import com.autoloan.backend.dto.application.AllowedActionsResponse;
 import com.autoloan.backend.dto.application.ApplicationApprovalRequest;
 import com.autoloan.backend.dto.application.ApplicationRejectRequest;
+import com.autoloan.backend.dto.application.BulkActionRequest;
+import com.autoloan.backend.dto.application.BulkActionResponse;
+import com.autoloan.backend.dto.application.ClaimResponse;
+import com.autoloan.backend.dto.application.QueueSummaryResponse;
 import com.autoloan.backend.dto.application.StatusHistoryResponse;
+import com.autoloan.backend.dto.loan.CursorPaginatedResponse;
 import com.autoloan.backend.dto.loan.LoanApplicationResponse;
 import com.autoloan.backend.dto.loan.PaginatedResponse;
 import com.autoloan.backend.dto.note.NoteCreateRequest;
 import com.autoloan.backend.dto.note.NoteResponse;
+import com.autoloan.backend.model.enums.Role;
 import com.autoloan.backend.security.JwtTokenProvider;
+import com.autoloan.backend.service.AgreementBatchService;
+import com.autoloan.backend.service.ApplicationAgingService;
+import com.autoloan.backend.service.ApplicationClaimService;
+import com.autoloan.backend.service.ApplicationExportService;
+import com.autoloan.backend.service.ApplicationQueueCounters;
 import com.autoloan.backend.service.ApplicationWorkflowService;
+import com.autoloan.backend.service.ExportFormat;
 import com.autoloan.backend.service.LoanService;
 import com.autoloan.backend.service.NoteService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -28,15 +50,30 @@ public class LoanOfficerController {
     private final LoanService loanService;
     private final ApplicationWorkflowService workflowService;
     private final NoteService noteService;
+    private final ApplicationExportService exportService;
+    private final ApplicationQueueCounters queueCounters;
+    private final ApplicationClaimService claimService;
+    private final ApplicationAgingService agingService;
+    private final AgreementBatchService agreementBatchService;
     private final JwtTokenProvider jwtTokenProvider;
 
     public LoanOfficerController(LoanService loanService,
                                   ApplicationWorkflowService workflowService,
                                   NoteService noteService,
+                                  ApplicationExportService exportService,
+                                  ApplicationQueueCounters queueCounters,
+                                  ApplicationClaimService claimService,
+                                  ApplicationAgingService agingService,
+                                  AgreementBatchService agreementBatchService,
                                   JwtTokenProvider jwtTokenProvider) {
         this.loanService = loanService;
         this.workflowService = workflowService;
         this.noteService = noteService;
+        this.exportService = exportService;
+        this.queueCounters = queueCounters;
+        this.claimService = claimService;
+        this.agingService = agingService;
+        this.agreementBatchService = agreementBatchService;
         this.jwtTokenProvider = jwtTokenProvider;
     }
 
@@ -45,9 +82,105 @@ public class LoanOfficerController {
             @RequestParam(name = "$filter", required = false) String filter,
             @RequestParam(name = "$orderby", required = false) String orderby,
             @RequestParam(required = false) String status,
+            @RequestParam(name = "$count", required = false) String count,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(name = "per_page", defaultValue = "20") int perPage) {
-        return ResponseEntity.ok(loanService.getApplicationsPaginated(null, filter, orderby, status, page, perPage));
+        return ResponseEntity.ok(loanService.getApplicationsPaginated(null, filter, orderby, status, count, page, perPage));
+    }
+
+    @GetMapping(params = "$skiptoken")
+    public ResponseEntity<CursorPaginatedResponse<LoanApplicationResponse>> findAllByCursor(
+            @RequestParam(name = "$filter", required = false) String filter,
+            @RequestParam(name = "$orderby", required = false) String orderby,
+            @RequestParam(required = false) String status,
+            @RequestParam(name = "$skiptoken", required = false) String skipToken,
+            @RequestParam(name = "per_page", defaultValue = "20") int perPage) {
+        return ResponseEntity.ok(loanService.getApplicationsByCursor(null, filter, orderby, status, skipToken, perPage));
+    }
+
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkActionResponse> bulkAction(
+            HttpServletRequest request, @Valid @RequestBody BulkActionRequest bulkRequest) {
+        Long userId = getUserIdFromRequest(request);
+        return ResponseEntity.ok(workflowService.bulkAction(bulkRequest, userId, getRoleFromRequest(request)));
+    }
+
+    @PostMapping("/actions")
+    public ResponseEntity<List<AllowedActionsResponse>> allowedActions(
+            HttpServletRequest request, @Valid @RequestBody AllowedActionsRequest actionsRequest) {
+        return ResponseEntity.ok(workflowService.getAllowedActions(actionsRequest.getIds(),
+                getRoleFromRequest(request)));
+    }
+
+    // Takes the oldest unclaimed SUBMITTED application for the caller (204 when the queue is empty).
+    // Calling again while holding a live claim extends and returns that claim.
+    @PostMapping("/claim")
+    public ResponseEntity<ClaimResponse> claimNext(HttpServletRequest request) {
+        return claimService.claimNext(getUserIdFromRequest(request))
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    @DeleteMapping("/{id}/claim")
+    public ResponseEntity<Void> releaseClaim(HttpServletRequest request, @PathVariable Long id) {
+        claimService.release(id, getUserIdFromRequest(request));
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/queue-summary")
+    public ResponseEntity<QueueSummaryResponse> queueSummary() {
+        return ResponseEntity.ok(queueCounters.summary());
+    }
+
+    // Time in current status per status: <1d, 1-3d, >3d (defaults to the open queues)
+    @GetMapping("/aging")
+    public ResponseEntity<AgingSummaryResponse> aging(
+            @RequestParam(name = "status", required = false) List<String> statuses) {
+        return ResponseEntity.ok(agingService.summary(statuses));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "$filter", required = false) String filter,
+            @RequestParam(name = "$orderby", required = false) String orderby,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String format) {
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        ApplicationExportService.ExportQuery query = exportService.prepare(filter, orderby, status);
+        StreamingResponseBody body = out -> exportService.export(query, exportFormat, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("applications." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    // Every agreement decided from..to (UTC dates, inclusive) as one streamed ZIP. The X-Batch-Id
+    // response header names the batch for progress polling while the download runs.
+    @GetMapping("/agreements")
+    public ResponseEntity<StreamingResponseBody> agreements(
+            HttpServletRequest request,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        AgreementBatchService.Batch batch = agreementBatchService.prepare(from, to, getRoleFromRequest(request));
+        StreamingResponseBody body = out -> agreementBatchService.write(batch, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("agreements_" + from + "_" + to + ".zip")
+                        .build()
+                        .toString())
+                .header("X-Batch-Id", batch.getId())
+                .body(body);
+    }
+
+    @GetMapping("/agreements/batches/{batchId}")
+    public ResponseEntity<AgreementBatchResponse> agreementBatch(@PathVariable String batchId) {
+        return ResponseEntity.ok(agreementBatchService.progress(batchId));
     }
 
     @GetMapping("/{id}")
@@ -146,4 +279,9 @@ public class LoanOfficerController {
         String token = request.getHeader("Authorization").substring(7);
         return jwtTokenProvider.getUserIdFromToken(token);
     }
+
+    private Role getRoleFromRequest(HttpServletRequest request) {
+        String token = request.getHeader("Authorization").substring(7);
+        return Role.valueOf(jwtTokenProvider.getRoleFromToken(token));
+    }
 }
@@ -5,6 +5,7 @@ import com.autoloan.backend.dto.application.ApplicationApprovalRequest;
 import com.autoloan.backend.dto.application.ApplicationRejectRequest;
 import com.autoloan.backend.dto.application.StatusHistoryResponse;
 import com.autoloan.backend.dto.document.DocumentResponse;
+import com.autoloan.backend.dto.loan.CursorPaginatedResponse;
 import com.autoloan.backend.dto.loan.LoanApplicationResponse;
 import com.autoloan.backend.dto.loan.PaginatedResponse;
 import com.autoloan.backend.dto.note.NoteCreateRequest;
@@ -50,9 +51,20 @@ public class UnderwriterController {
             @RequestParam(name = "$filter", required = false) String filter,
             @RequestParam(name = "$orderby", required = false) String orderby,
             @RequestParam(required = false) String status,
+            @RequestParam(name = "$count", required = false) String count,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(name = "per_page", defaultValue = "20") int perPage) {
-        return ResponseEntity.ok(loanService.getApplicationsPaginated(null, filter, orderby, status, page, perPage));
+        return ResponseEntity.ok(loanService.getApplicationsPaginated(null, filter, orderby, status, count, page, perPage));
+    }
+
+    @GetMapping(params = "$skiptoken")
+    public ResponseEntity<CursorPaginatedResponse<LoanApplicationResponse>> findAllByCursor(
+            @RequestParam(name = "$filter", required = false) String filter,
+            @RequestParam(name = "$orderby", required = false) String orderby,
+            @RequestParam(required = false) String status,
+            @RequestParam(name = "$skiptoken", required = false) String skipToken,
+            @RequestParam(name = "per_page", defaultValue = "20") int perPage) {
+        return ResponseEntity.ok(loanService.getApplicationsByCursor(null, filter, orderby, status, skipToken, perPage));
     }
 
     @GetMapping("/{id}")
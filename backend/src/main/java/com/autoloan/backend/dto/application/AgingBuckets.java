@@ -0,0 +1,22 @@
+package com.autoloan.backend.dto.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgingBuckets {
+    // Applications that entered the status less than a day ago, 1-3 days ago, and more than 3 days ago
+    private long underOneDay;
+    private long oneToThreeDays;
+    private long overThreeDays;
+    private long total;
+    // Longest waiter; null when the status is empty
+    private Instant oldestEnteredAt;
+}
@@ -0,0 +1,19 @@
+package com.autoloan.backend.dto.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgingSummaryResponse {
+    private Map<String, AgingBuckets> statuses;
+    // Bucket boundaries are measured back from this instant
+    private Instant asOf;
+}
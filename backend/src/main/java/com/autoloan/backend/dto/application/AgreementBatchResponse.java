@@ -0,0 +1,27 @@
+package com.autoloan.backend.dto.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgreementBatchResponse {
+    private String batchId;
+    // PENDING until the ZIP download starts, then RUNNING, COMPLETED or FAILED (download aborted)
+    private String status;
+    private LocalDate from;
+    private LocalDate to;
+    // APPROVED and SIGNED applications decided in the range when the batch was prepared
+    private long total;
+    private long rendered;
+    private long failed;
+    private Instant startedAt;
+    private Instant finishedAt;
+}
@@ -0,0 +1,16 @@
+package com.autoloan.backend.dto.application;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class AllowedActionsRequest {
+    @NotEmpty(message = "At least one application id is required")
+    private List<Long> ids;
+}
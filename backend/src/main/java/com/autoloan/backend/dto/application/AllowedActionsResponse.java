@@ -0,0 +1,19 @@
+package com.autoloan.backend.dto.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AllowedActionsResponse {
+    private Long id;
+    private String status;
+    // Route segments the caller may POST next (submit, approve, request_documents, ...)
+    private List<String> actions;
+}
@@ -0,0 +1,26 @@
+package com.autoloan.backend.dto.application;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkActionRequest {
+    @NotBlank(message = "Action is required")
+    private String action;
+    @NotEmpty(message = "At least one application id is required")
+    private List<Long> ids;
+    // reject
+    private String reason;
+    // approve
+    private Integer loanTerm;
+    private BigDecimal interestRate;
+    private BigDecimal monthlyPayment;
+}
@@ -0,0 +1,19 @@
+package com.autoloan.backend.dto.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkActionResponse {
+    private String action;
+    private int succeeded;
+    private int failed;
+    private List<BulkActionResult> results;
+}
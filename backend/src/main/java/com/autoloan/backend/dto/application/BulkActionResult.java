@@ -0,0 +1,18 @@
+package com.autoloan.backend.dto.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkActionResult {
+    private Long id;
+    private boolean success;
+    // New status on success, current status (if the application exists) on failure
+    private String status;
+    private String error;
+}
@@ -0,0 +1,26 @@
+package com.autoloan.backend.dto.application;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClaimResponse {
+    private Long id;
+    private String applicationNumber;
+    private String status;
+    private BigDecimal loanAmount;
+    private Instant submittedAt;
+    private Long claimedBy;
+    // Claim again before this to keep the application; afterwards any officer may take it
+    private Instant claimExpiresAt;
+    // true when the caller already held this claim and it was extended
+    private boolean renewed;
+}
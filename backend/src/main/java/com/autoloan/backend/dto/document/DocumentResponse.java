@@ -16,6 +16,7 @@ public class DocumentResponse {
     private String fileUrl;
     private Integer fileSize;
     private String contentType;
+    private String sha256;
     private String status;
     private String requestNote;
     private String rejectionNote;
@@ -0,0 +1,16 @@
+// backend/src/main/java/com/autoloan/backend/dto/loan/CountKind.java
+package com.autoloan.backend.dto.loan;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+// How PaginatedResponse.total was obtained: exact COUNT(*), planner estimate, or skipped
+public enum CountKind {
+    EXACT,
+    ESTIMATE,
+    NONE;
+
+    @JsonValue
+    public String toValue() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,20 @@
+// backend/src/main/java/com/autoloan/backend/dto/loan/CursorPaginatedResponse.java
+package com.autoloan.backend.dto.loan;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPaginatedResponse<T> {
+    private List<T> data;
+    private int perPage;
+    private String nextSkipToken;
+    private boolean hasMore;
+}
@@ -16,6 +16,13 @@ public class PaginatedResponse<T> {
     private List<T> data;
     private int page;
     private int perPage;
-    private long total;
-    private int totalPages;
+    // null when countKind is NONE
+    private Long total;
+    private Integer totalPages;
+    private CountKind countKind;
+    private boolean hasMore;
+
+    public PaginatedResponse(List<T> data, int page, int perPage, long total, int totalPages) {
+        this(data, page, perPage, total, totalPages, CountKind.EXACT, page < totalPages);
+    }
 }
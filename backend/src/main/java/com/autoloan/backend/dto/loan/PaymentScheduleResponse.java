@@ -0,0 +1,25 @@
+package com.autoloan.backend.dto.loan;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentScheduleResponse {
+    private Long applicationId;
+    // Loan amount less down payment
+    private BigDecimal amountFinanced;
+    private BigDecimal interestRate;
+    private Integer loanTerm;
+    private BigDecimal monthlyPayment;
+    private BigDecimal totalOfPayments;
+    private BigDecimal totalInterest;
+    private List<ScheduledPayment> payments;
+}
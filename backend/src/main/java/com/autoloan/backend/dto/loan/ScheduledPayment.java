@@ -0,0 +1,21 @@
+package com.autoloan.backend.dto.loan;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledPayment {
+    private int number;
+    private BigDecimal payment;
+    private BigDecimal principal;
+    private BigDecimal interest;
+    // Amount financed still owed after this payment
+    private BigDecimal balance;
+}
@@ -0,0 +1,17 @@
+// backend/src/main/java/com/autoloan/backend/event/ApplicationStatusChanged.java
+package com.autoloan.backend.event;
+
+import java.time.Instant;
+
+import com.autoloan.backend.model.enums.ApplicationStatus;
+
+public record ApplicationStatusChanged(
+        Long applicationId,
+        String applicationNumber,
+        Long applicantId,
+        Long actorId,
+        ApplicationStatus fromStatus,
+        ApplicationStatus toStatus,
+        String comment,
+        Instant occurredAt) implements DomainEvent {
+}
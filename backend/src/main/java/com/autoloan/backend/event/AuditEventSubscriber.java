@@ -0,0 +1,50 @@
+// backend/src/main/java/com/autoloan/backend/event/AuditEventSubscriber.java
+package com.autoloan.backend.event;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.autoloan.backend.service.SecurityAuditService;
+
+import tools.jackson.databind.json.JsonMapper;
+
+// Records workflow changes in the security audit log
+@Component
+public class AuditEventSubscriber implements DomainEventSubscriber {
+
+    private final SecurityAuditService securityAuditService;
+    private final JsonMapper jsonMapper;
+
+    public AuditEventSubscriber(SecurityAuditService securityAuditService, JsonMapper jsonMapper) {
+        this.securityAuditService = securityAuditService;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public String name() {
+        return "audit";
+    }
+
+    @Override
+    public void onEvent(DomainEvent event, EventOrigin origin) {
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        if (event instanceof ApplicationStatusChanged changed) {
+            metadata.put("from", changed.fromStatus().name());
+            metadata.put("to", changed.toStatus().name());
+            metadata.put("comment", changed.comment());
+            metadata.put("occurredAt", changed.occurredAt().toString());
+            securityAuditService.logEvent("application_status_changed", origin.ipAddress(), changed.actorId(),
+                    origin.userAgent(), "application", Math.toIntExact(changed.applicationId()),
+                    jsonMapper.writeValueAsString(metadata), true);
+        } else if (event instanceof DocumentUploaded uploaded) {
+            metadata.put("applicationId", uploaded.applicationId());
+            metadata.put("docType", uploaded.docType().name());
+            metadata.put("occurredAt", uploaded.occurredAt().toString());
+            securityAuditService.logEvent("document_uploaded", origin.ipAddress(), uploaded.applicantId(),
+                    origin.userAgent(), "document", Math.toIntExact(uploaded.documentId()),
+                    jsonMapper.writeValueAsString(metadata), true);
+        }
+    }
+}
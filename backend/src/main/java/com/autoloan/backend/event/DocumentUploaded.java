@@ -0,0 +1,15 @@
+// backend/src/main/java/com/autoloan/backend/event/DocumentUploaded.java
+package com.autoloan.backend.event;
+
+import java.time.Instant;
+
+import com.autoloan.backend.model.enums.DocumentType;
+
+public record DocumentUploaded(
+        Long documentId,
+        Long applicationId,
+        String applicationNumber,
+        Long applicantId,
+        DocumentType docType,
+        Instant occurredAt) implements DomainEvent {
+}
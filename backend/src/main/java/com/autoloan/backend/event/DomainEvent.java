@@ -0,0 +1,12 @@
+// backend/src/main/java/com/autoloan/backend/event/DomainEvent.java
+package com.autoloan.backend.event;
+
+import java.time.Instant;
+
+// Facts about committed changes, dispatched to subscribers off the request thread
+public sealed interface DomainEvent permits ApplicationStatusChanged, DocumentUploaded {
+
+    Long applicationId();
+
+    Instant occurredAt();
+}
@@ -0,0 +1,163 @@
+// backend/src/main/java/com/autoloan/backend/event/DomainEventPublisher.java
+package com.autoloan.backend.event;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+
+// Hands domain events to subscribers once the publishing transaction commits (rolled-back work
+// publishes nothing). Each subscriber has its own bounded queue and threads: a full queue runs the
+// event on the publishing thread instead of dropping it, which slows producers down rather than
+// growing memory, and one subscriber's failures or latency never reach another. That overflow run
+// happens inside afterCommit(), where the finished transaction's resources are still bound, so it
+// gets a transaction of its own (REQUIRES_NEW) or its writes would join one that never commits again.
+@Service
+public class DomainEventPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(DomainEventPublisher.class);
+
+    private static final String METRIC = "app.events";
+
+    private final List<Channel> channels;
+
+    public DomainEventPublisher(List<DomainEventSubscriber> subscribers,
+                                MeterRegistry meterRegistry,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.events.queue-capacity:1000}") int queueCapacity,
+                                @Value("${app.events.threads-per-subscriber:1}") int threads) {
+        TransactionTemplate callerRuns = new TransactionTemplate(transactionManager);
+        callerRuns.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.channels = subscribers.stream()
+                .map(subscriber -> new Channel(subscriber, meterRegistry, callerRuns, queueCapacity, threads))
+                .toList();
+    }
+
+    public void publish(DomainEvent event) {
+        EventOrigin origin = currentOrigin();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(event, origin);
+                }
+            });
+        } else {
+            dispatch(event, origin);
+        }
+    }
+
+    private void dispatch(DomainEvent event, EventOrigin origin) {
+        long publishedAt = System.nanoTime();
+        for (Channel channel : channels) {
+            channel.submit(event, origin, publishedAt);
+        }
+    }
+
+    // Queued events get a short grace period on shutdown; anything left is logged and dropped
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        for (Channel channel : channels) {
+            channel.executor.shutdown();
+        }
+        for (Channel channel : channels) {
+            if (!channel.executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                int dropped = channel.executor.shutdownNow().size();
+                logger.warn("Dropped {} queued events for subscriber {}", dropped, channel.subscriber.name());
+            }
+        }
+    }
+
+    private static EventOrigin currentOrigin() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            return new EventOrigin(request.getRemoteAddr(), request.getHeader("User-Agent"));
+        }
+        return EventOrigin.SYSTEM;
+    }
+
+    private static final class Channel {
+
+        private final DomainEventSubscriber subscriber;
+        private final ThreadPoolExecutor executor;
+        private final Timer lag;
+        private final Counter failures;
+        private final Counter backPressure;
+
+        Channel(DomainEventSubscriber subscriber, MeterRegistry meterRegistry, TransactionTemplate callerRuns,
+                int queueCapacity, int threads) {
+            this.subscriber = subscriber;
+            String name = subscriber.name();
+            this.lag = Timer.builder(METRIC + ".lag")
+                    .description("Time from commit to a subscriber starting on the event")
+                    .tag("subscriber", name)
+                    .register(meterRegistry);
+            this.failures = Counter.builder(METRIC + ".failures").tag("subscriber", name).register(meterRegistry);
+            this.backPressure = Counter.builder(METRIC + ".backpressure").tag("subscriber", name)
+                    .register(meterRegistry);
+
+            BlockingQueue<Runnable> queue = new ArrayBlockingQueue<>(queueCapacity);
+            Gauge.builder(METRIC + ".queue.depth", queue, BlockingQueue::size)
+                    .tag("subscriber", name)
+                    .register(meterRegistry);
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, queue,
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "events-" + name + "-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    (task, pool) -> {
+                        // Queue full: the publishing thread does the work itself, in a new transaction
+                        backPressure.increment();
+                        if (pool.isShutdown()) {
+                            return;
+                        }
+                        try {
+                            callerRuns.executeWithoutResult(status -> task.run());
+                        } catch (RuntimeException e) {
+                            // The subscriber's own errors are handled in the task; this is the commit
+                            failures.increment();
+                            logger.error("Subscriber {} could not commit on the publishing thread: {}", name,
+                                    e.getMessage());
+                        }
+                    });
+        }
+
+        void submit(DomainEvent event, EventOrigin origin, long publishedAt) {
+            executor.execute(() -> {
+                lag.record(System.nanoTime() - publishedAt, TimeUnit.NANOSECONDS);
+                try {
+                    subscriber.onEvent(event, origin);
+                } catch (Exception e) {
+                    failures.increment();
+                    logger.error("Subscriber {} failed on {} for application {}: {}", subscriber.name(),
+                            event.getClass().getSimpleName(), event.applicationId(), e.getMessage());
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,12 @@
+// backend/src/main/java/com/autoloan/backend/event/DomainEventSubscriber.java
+package com.autoloan.backend.event;
+
+// Each subscriber gets its own bounded queue and threads in DomainEventPublisher, so a slow or
+// failing subscriber never delays the request or the other subscribers
+public interface DomainEventSubscriber {
+
+    // Metric tag and thread name prefix
+    String name();
+
+    void onEvent(DomainEvent event, EventOrigin origin);
+}
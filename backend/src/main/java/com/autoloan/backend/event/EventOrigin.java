@@ -0,0 +1,8 @@
+// backend/src/main/java/com/autoloan/backend/event/EventOrigin.java
+package com.autoloan.backend.event;
+
+// Where the change came from, captured on the request thread before dispatch
+public record EventOrigin(String ipAddress, String userAgent) {
+
+    public static final EventOrigin SYSTEM = new EventOrigin("system", null);
+}
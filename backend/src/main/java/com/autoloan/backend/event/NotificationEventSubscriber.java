@@ -0,0 +1,33 @@
+// backend/src/main/java/com/autoloan/backend/event/NotificationEventSubscriber.java
+package com.autoloan.backend.event;
+
+import org.springframework.stereotype.Component;
+
+import com.autoloan.backend.service.NotificationService;
+
+// Pushes workflow changes to the applicant's WebSocket queue
+@Component
+public class NotificationEventSubscriber implements DomainEventSubscriber {
+
+    private final NotificationService notificationService;
+
+    public NotificationEventSubscriber(NotificationService notificationService) {
+        this.notificationService = notificationService;
+    }
+
+    @Override
+    public String name() {
+        return "notification";
+    }
+
+    @Override
+    public void onEvent(DomainEvent event, EventOrigin origin) {
+        if (event instanceof ApplicationStatusChanged changed) {
+            notificationService.notifyStatusChange(changed.applicantId(), changed.applicationId(),
+                    changed.applicationNumber(), changed.fromStatus().name(), changed.toStatus().name());
+        } else if (event instanceof DocumentUploaded uploaded) {
+            notificationService.notifyDocumentUploaded(uploaded.applicantId(), uploaded.applicationId(),
+                    uploaded.applicationNumber(), uploaded.docType().name());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.autoloan.backend.exception;
+
+public class ConflictException extends RuntimeException {
+    public static final String CONCURRENT_MODIFICATION =
+            "Application was modified by another request; reload and try again";
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
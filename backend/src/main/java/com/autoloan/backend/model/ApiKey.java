@@ -20,7 +20,8 @@ import java.time.Instant;
 public class ApiKey {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "api_keys_id_seq")
+    @SequenceGenerator(name = "api_keys_id_seq", sequenceName = "api_keys_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -3,6 +3,7 @@ package com.autoloan.backend.model;
 import com.autoloan.backend.model.enums.ApplicationStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -16,7 +17,13 @@ import java.util.List;
 @Table(name = "applications", indexes = {
         @Index(name = "idx_app_user_id", columnList = "user_id"),
         @Index(name = "idx_app_status", columnList = "status"),
-        @Index(name = "idx_app_user_status", columnList = "user_id, status")
+        @Index(name = "idx_app_user_status", columnList = "user_id, status"),
+        @Index(name = "idx_app_status_created_at", columnList = "status, created_at"),
+        @Index(name = "idx_app_created_at", columnList = "created_at"),
+        @Index(name = "idx_app_submitted_at", columnList = "submitted_at"),
+        @Index(name = "idx_app_decided_at", columnList = "decided_at"),
+        @Index(name = "idx_app_claimed_by", columnList = "claimed_by"),
+        @Index(name = "idx_app_status_entered_at", columnList = "status, status_entered_at")
 })
 @Getter
 @Setter
@@ -26,9 +33,16 @@ import java.util.List;
 public class Application {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "applications_id_seq")
+    @SequenceGenerator(name = "applications_id_seq", sequenceName = "applications_id_seq", allocationSize = 50)
     private Long id;
 
+    // Optimistic lock: concurrent staff transitions fail at flush instead of overwriting each other
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long version;
+
     @Column(name = "application_number", unique = true)
     private String applicationNumber;
 
@@ -37,6 +51,10 @@ public class Application {
     @Builder.Default
     private ApplicationStatus status = ApplicationStatus.DRAFT;
 
+    // When the current status was entered; aging reports read this instead of status_histories
+    @Column(name = "status_entered_at")
+    private Instant statusEnteredAt;
+
     @Column(name = "current_step")
     @Builder.Default
     private int currentStep = 1;
@@ -76,6 +94,13 @@ public class Application {
     @Column(name = "decided_at")
     private Instant decidedAt;
 
+    // Work-queue lease (POST /loan-officer/applications/claim); free again once it expires
+    @Column(name = "claimed_by")
+    private Long claimedBy;
+
+    @Column(name = "claim_expires_at")
+    private Instant claimExpiresAt;
+
     @Column(name = "ssn_encrypted")
     private String ssnEncrypted;
 
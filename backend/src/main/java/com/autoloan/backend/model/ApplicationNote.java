@@ -19,7 +19,8 @@ import java.time.Instant;
 public class ApplicationNote {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "application_notes_id_seq")
+    @SequenceGenerator(name = "application_notes_id_seq", sequenceName = "application_notes_id_seq", allocationSize = 50)
     private Long id;
 
     private String note;
@@ -22,7 +22,8 @@ import java.time.Instant;
 public class Document {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "documents_id_seq")
+    @SequenceGenerator(name = "documents_id_seq", sequenceName = "documents_id_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -42,6 +43,10 @@ public class Document {
     @Column(name = "content_type")
     private String contentType;
 
+    // Hex SHA-256 of the stored bytes, computed while the upload was written
+    @Column(name = "sha256", length = 64)
+    private String sha256;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     @Builder.Default
@@ -21,7 +21,8 @@ import java.time.Instant;
 public class FinancialInfo {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "financial_infos_id_seq")
+    @SequenceGenerator(name = "financial_infos_id_seq", sequenceName = "financial_infos_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "annual_income", precision = 12, scale = 2)
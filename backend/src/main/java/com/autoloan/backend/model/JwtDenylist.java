@@ -19,7 +19,8 @@ import java.time.Instant;
 public class JwtDenylist {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jwt_denylists_id_seq")
+    @SequenceGenerator(name = "jwt_denylists_id_seq", sequenceName = "jwt_denylists_id_seq", allocationSize = 50)
     private Long id;
 
     private String jti;
@@ -22,7 +22,8 @@ import java.time.Instant;
 public class SecurityAuditLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "security_audit_logs_id_seq")
+    @SequenceGenerator(name = "security_audit_logs_id_seq", sequenceName = "security_audit_logs_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "event_type", nullable = false)
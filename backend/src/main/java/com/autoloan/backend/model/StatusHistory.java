@@ -9,7 +9,7 @@ import java.time.Instant;
 
 @Entity
 @Table(name = "status_histories", indexes = {
-        @Index(name = "idx_sh_app_id", columnList = "application_id")
+        @Index(name = "idx_sh_app_id_id", columnList = "application_id, id")
 })
 @Getter
 @Setter
@@ -18,8 +18,11 @@ import java.time.Instant;
 @Builder
 public class StatusHistory {
 
+    // One id per nextval, not a pooled block: ids are the history ?since= cursor and must grow in
+    // commit order per application, which per-JVM blocks break across replicas
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "status_histories_id_seq")
+    @SequenceGenerator(name = "status_histories_id_seq", sequenceName = "status_histories_id_seq", allocationSize = 1)
     private Long id;
 
     @Column(name = "from_status")
@@ -0,0 +1,71 @@
+package com.autoloan.backend.model.enums;
+
+// Application workflow actions and the status each moves to. Which statuses and roles may
+// perform them is declared once in ApplicationStateMachine.
+// Idempotent actions may be retried after a concurrent update; decisions may not.
+public enum WorkflowAction {
+    SUBMIT("submit", ApplicationStatus.SUBMITTED, "Application submitted",
+            "Only draft applications can be submitted", false),
+    START_VERIFICATION("start_verification", ApplicationStatus.UNDER_REVIEW, "Verification started",
+            "Application status must be SUBMITTED", true),
+    MOVE_TO_REVIEW("review", ApplicationStatus.UNDER_REVIEW, "Moved to review",
+            "Application must be under review or pending documents", true),
+    REQUEST_DOCUMENTS("request_documents", ApplicationStatus.PENDING_DOCUMENTS, "Documents requested",
+            "Application must be submitted or under review", true),
+    APPROVE("approve", ApplicationStatus.APPROVED, "Application approved",
+            "Application must be under review or submitted", false),
+    REJECT("reject", ApplicationStatus.REJECTED, "Application rejected",
+            "Application must be under review or submitted", false),
+    SIGN("sign", ApplicationStatus.SIGNED, "Application signed",
+            "Application status must be APPROVED", false);
+
+    private final String path;
+    private final ApplicationStatus target;
+    private final String comment;
+    private final String invalidStatusMessage;
+    private final boolean idempotent;
+
+    WorkflowAction(String path, ApplicationStatus target, String comment, String invalidStatusMessage,
+                   boolean idempotent) {
+        this.path = path;
+        this.target = target;
+        this.comment = comment;
+        this.invalidStatusMessage = invalidStatusMessage;
+        this.idempotent = idempotent;
+    }
+
+    // Route segment (/api/loans/{id}/sign, /api/loan-officer/applications/{id}/review, ...)
+    public String getPath() {
+        return path;
+    }
+
+    public ApplicationStatus getTarget() {
+        return target;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public String getInvalidStatusMessage() {
+        return invalidStatusMessage;
+    }
+
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+
+    // Accepts the route spellings and the enum names: start_verification, request-documents, review, APPROVE...
+    public static WorkflowAction fromParameter(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.trim().toLowerCase().replace('-', '_');
+        for (WorkflowAction action : values()) {
+            if (action.path.equals(normalized) || action.name().equalsIgnoreCase(normalized)) {
+                return action;
+            }
+        }
+        return null;
+    }
+}
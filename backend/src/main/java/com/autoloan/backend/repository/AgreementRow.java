@@ -0,0 +1,37 @@
+// backend/src/main/java/com/autoloan/backend/repository/AgreementRow.java
+package com.autoloan.backend.repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import com.autoloan.backend.model.enums.ApplicationStatus;
+
+// Agreement PDF projection: the loan terms, the borrower, one address (residential, else the
+// first on file) and the vehicle, in one statement. The *Id columns are null when the
+// corresponding row is missing.
+public record AgreementRow(
+        Long id,
+        String applicationNumber,
+        ApplicationStatus status,
+        Long userId,
+        BigDecimal loanAmount,
+        BigDecimal downPayment,
+        BigDecimal interestRate,
+        Integer loanTerm,
+        Instant decidedAt,
+        Long borrowerId,
+        String firstName,
+        String lastName,
+        String phone,
+        String email,
+        Long addressId,
+        String streetAddress,
+        String city,
+        String state,
+        String zipCode,
+        Long vehicleId,
+        Integer vehicleYear,
+        String vehicleMake,
+        String vehicleModel,
+        String vehicleVin) {
+}
@@ -3,18 +3,118 @@ package com.autoloan.backend.repository;
 
 import com.autoloan.backend.model.Application;
 import com.autoloan.backend.model.enums.ApplicationStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.Timeouts;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ApplicationRepository extends JpaRepository<Application, Long>, JpaSpecificationExecutor<Application> {
+public interface ApplicationRepository extends JpaRepository<Application, Long>, JpaSpecificationExecutor<Application>,
+        ApplicationRowRepository {
     List<Application> findByUserId(Long userId);
     List<Application> findByStatus(ApplicationStatus status);
     List<Application> findByUserIdAndStatus(Long userId, ApplicationStatus status);
     Optional<Application> findByApplicationNumber(String applicationNumber);
     Optional<Application> findByIdAndUserId(Long id, Long userId);
+
+    @Query("select a.status as status, count(a) as total from Application a group by a.status")
+    List<StatusCount> countGroupedByStatus();
+
+    // Time-in-status buckets per status, answered from idx_app_status_entered_at alone
+    @Query("select a.status as status,"
+            + " sum(case when a.statusEnteredAt > :dayAgo then 1 else 0 end) as underOneDay,"
+            + " sum(case when a.statusEnteredAt <= :dayAgo and a.statusEnteredAt > :threeDaysAgo then 1 else 0 end)"
+            + " as oneToThreeDays,"
+            + " sum(case when a.statusEnteredAt <= :threeDaysAgo then 1 else 0 end) as overThreeDays,"
+            + " min(a.statusEnteredAt) as oldestEnteredAt"
+            + " from Application a where a.status in :statuses group by a.status")
+    List<StatusAging> countAgingByStatus(@Param("statuses") Collection<ApplicationStatus> statuses,
+                                         @Param("dayAgo") Instant dayAgo,
+                                         @Param("threeDaysAgo") Instant threeDaysAgo);
+
+    // Status lookups for the state machine without loading entities
+    @Query("select a.id as id, a.userId as userId, a.status as status from Application a where a.id in :ids")
+    List<IdStatus> findStatusesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Oldest unclaimed (or lease-expired) application in the status, locked FOR UPDATE SKIP LOCKED:
+    // rows another officer is claiming right now are passed over, never waited on
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "" + Timeouts.SKIP_LOCKED_MILLI))
+    @Query("select a from Application a where a.status = :status"
+            + " and (a.claimedBy is null or a.claimExpiresAt <= :now)"
+            + " order by a.submittedAt asc, a.id asc")
+    List<Application> findClaimable(@Param("status") ApplicationStatus status, @Param("now") Instant now,
+                                    Limit limit);
+
+    // The caller's live claim, if any (claim-next renews it instead of taking a second one)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Application a where a.claimedBy = :officerId and a.status = :status"
+            + " and a.claimExpiresAt > :now order by a.claimExpiresAt asc")
+    List<Application> findHeldClaims(@Param("officerId") Long officerId, @Param("status") ApplicationStatus status,
+                                     @Param("now") Instant now, Limit limit);
+
+    // Agreement batches: applications decided in [from, to), keyset-paged by id over idx_app_decided_at
+    @Query("select a.id from Application a where a.status in :statuses"
+            + " and a.decidedAt >= :from and a.decidedAt < :to and a.id > :afterId order by a.id asc")
+    List<Long> findDecidedIds(@Param("statuses") Collection<ApplicationStatus> statuses,
+                              @Param("from") Instant from, @Param("to") Instant to,
+                              @Param("afterId") long afterId, Limit limit);
+
+    @Query("select count(a) from Application a where a.status in :statuses"
+            + " and a.decidedAt >= :from and a.decidedAt < :to")
+    long countDecided(@Param("statuses") Collection<ApplicationStatus> statuses,
+                      @Param("from") Instant from, @Param("to") Instant to);
+
+    // application_id is unique on vehicles, and the address join matches at most one row by id,
+    // so this is a single row
+    @Query("select new com.autoloan.backend.repository.AgreementRow("
+            + "a.id, a.applicationNumber, a.status, a.userId,"
+            + " a.loanAmount, a.downPayment, a.interestRate, a.loanTerm, a.decidedAt,"
+            + " u.id, u.firstName, u.lastName, u.phone, u.email,"
+            + " ad.id, ad.streetAddress, ad.city, ad.state, ad.zipCode,"
+            + " v.id, v.year, v.make, v.model, v.vin)"
+            + " from Application a"
+            + " left join a.user u"
+            + " left join Address ad on ad.id = coalesce("
+            + "(select min(r.id) from Address r where r.applicationId = a.id and r.addressType = 'residential'),"
+            + " (select min(f.id) from Address f where f.applicationId = a.id))"
+            + " left join a.vehicles v"
+            + " where a.id = :id")
+    Optional<AgreementRow> findAgreementRow(@Param("id") Long id);
+
+    @EntityGraph(attributePaths = {"user", "vehicles"})
+    @Query("select a from Application a where a.id = :id")
+    Optional<Application> findDetailById(@Param("id") Long id);
+
+    interface StatusCount {
+        ApplicationStatus getStatus();
+        long getTotal();
+    }
+
+    interface StatusAging {
+        ApplicationStatus getStatus();
+        long getUnderOneDay();
+        long getOneToThreeDays();
+        long getOverThreeDays();
+        Instant getOldestEnteredAt();
+    }
+
+    interface IdStatus {
+        Long getId();
+        Long getUserId();
+        ApplicationStatus getStatus();
+    }
 }
@@ -0,0 +1,34 @@
+// backend/src/main/java/com/autoloan/backend/repository/ApplicationRow.java
+package com.autoloan.backend.repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+import com.autoloan.backend.model.enums.ApplicationStatus;
+
+// List/queue projection: the application columns LoanApplicationResponse shows plus its vehicle.
+// signature_data, ssn_encrypted and the other wide or sensitive columns are never selected.
+public record ApplicationRow(
+        Long id,
+        String applicationNumber,
+        ApplicationStatus status,
+        Integer currentStep,
+        LocalDate dob,
+        BigDecimal loanAmount,
+        BigDecimal downPayment,
+        Integer loanTerm,
+        BigDecimal interestRate,
+        BigDecimal monthlyPayment,
+        String rejectionReason,
+        Long userId,
+        Instant submittedAt,
+        Instant decidedAt,
+        Instant createdAt,
+        Instant updatedAt,
+        String vehicleMake,
+        String vehicleModel,
+        Integer vehicleYear,
+        String vehicleTrim,
+        String vehicleVin) {
+}
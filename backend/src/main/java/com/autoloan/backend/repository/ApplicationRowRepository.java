@@ -0,0 +1,28 @@
+// backend/src/main/java/com/autoloan/backend/repository/ApplicationRowRepository.java
+package com.autoloan.backend.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.autoloan.backend.model.Application;
+
+// Specification queries that select ApplicationRow projections (application LEFT JOIN vehicle in
+// one statement) instead of managed entities
+public interface ApplicationRowRepository {
+
+    List<ApplicationRow> findRows(Specification<Application> spec, Sort sort);
+
+    List<ApplicationRow> findRows(Specification<Application> spec, Sort sort, long offset, int limit);
+
+    // sort must end in a unique key (see KeysetCursor.keysetSort)
+    Window<ApplicationRow> scrollRows(Specification<Application> spec, Sort sort, int limit,
+                                      KeysetScrollPosition position);
+
+    // Forward-only cursor; must be consumed and closed inside a transaction
+    Stream<ApplicationRow> streamRows(Specification<Application> spec, Sort sort, int fetchSize);
+}
@@ -0,0 +1,146 @@
+// backend/src/main/java/com/autoloan/backend/repository/ApplicationRowRepositoryImpl.java
+package com.autoloan.backend.repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.KeysetScrollSpecification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.JpaEntityInformationSupport;
+
+import com.autoloan.backend.model.Application;
+import com.autoloan.backend.model.Vehicle;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+public class ApplicationRowRepositoryImpl implements ApplicationRowRepository {
+
+    // Properties a keyset cursor may be built from, read back off the projected row
+    private static final Map<String, Function<ApplicationRow, Object>> KEYSET_PROPERTIES = Map.of(
+            "id", ApplicationRow::id,
+            "status", ApplicationRow::status,
+            "currentStep", ApplicationRow::currentStep,
+            "createdAt", ApplicationRow::createdAt,
+            "updatedAt", ApplicationRow::updatedAt
+    );
+
+    private final EntityManager entityManager;
+    private final JpaEntityInformation<Application, ?> entityInformation;
+
+    public ApplicationRowRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.entityInformation = JpaEntityInformationSupport.getEntityInformation(Application.class, entityManager);
+    }
+
+    @Override
+    public List<ApplicationRow> findRows(Specification<Application> spec, Sort sort) {
+        return createQuery(spec, sort, null).getResultList();
+    }
+
+    @Override
+    public List<ApplicationRow> findRows(Specification<Application> spec, Sort sort, long offset, int limit) {
+        return createQuery(spec, sort, null)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Window<ApplicationRow> scrollRows(Specification<Application> spec, Sort sort, int limit,
+                                             KeysetScrollPosition position) {
+        Specification<Application> keyset = position.isInitial()
+                ? null
+                : (root, query, cb) -> new KeysetScrollSpecification<Application>(position, sort, entityInformation)
+                        .createPredicate(root, cb);
+
+        // One extra row tells whether another window follows
+        List<ApplicationRow> rows = createQuery(spec, sort, keyset).setMaxResults(limit + 1).getResultList();
+        boolean hasNext = rows.size() > limit;
+        List<ApplicationRow> content = hasNext ? rows.subList(0, limit) : rows;
+
+        return Window.from(content, index -> ScrollPosition.forward(keysetOf(content.get(index), sort)), hasNext);
+    }
+
+    @Override
+    public Stream<ApplicationRow> streamRows(Specification<Application> spec, Sort sort, int fetchSize) {
+        // getResultStream scrolls FORWARD_ONLY; the fetch size makes the PostgreSQL driver
+        // use a server-side cursor instead of buffering the whole result set
+        return createQuery(spec, sort, null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private TypedQuery<ApplicationRow> createQuery(Specification<Application> spec, Sort sort,
+                                                   Specification<Application> keyset) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ApplicationRow> query = cb.createQuery(ApplicationRow.class);
+        Root<Application> root = query.from(Application.class);
+        // application_id is unique on vehicles, so the left join never multiplies rows
+        Join<Application, Vehicle> vehicle = root.join("vehicles", JoinType.LEFT);
+
+        query.select(cb.construct(ApplicationRow.class,
+                root.get("id"),
+                root.get("applicationNumber"),
+                root.get("status"),
+                root.get("currentStep"),
+                root.get("dob"),
+                root.get("loanAmount"),
+                root.get("downPayment"),
+                root.get("loanTerm"),
+                root.get("interestRate"),
+                root.get("monthlyPayment"),
+                root.get("rejectionReason"),
+                root.get("userId"),
+                root.get("submittedAt"),
+                root.get("decidedAt"),
+                root.get("createdAt"),
+                root.get("updatedAt"),
+                vehicle.get("make"),
+                vehicle.get("model"),
+                vehicle.get("year"),
+                vehicle.get("trim"),
+                vehicle.get("vin")));
+
+        Predicate where = spec != null ? spec.toPredicate(root, query, cb) : null;
+        Predicate after = keyset != null ? keyset.toPredicate(root, query, cb) : null;
+        if (where != null && after != null) {
+            query.where(where, after);
+        } else if (where != null || after != null) {
+            query.where(where != null ? where : after);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private static Map<String, Object> keysetOf(ApplicationRow row, Sort sort) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (Sort.Order order : sort) {
+            Function<ApplicationRow, Object> property = KEYSET_PROPERTIES.get(order.getProperty());
+            if (property == null) {
+                throw new IllegalArgumentException("Cannot scroll by " + order.getProperty());
+            }
+            keys.put(order.getProperty(), property.apply(row));
+        }
+        return keys;
+    }
+}
@@ -2,6 +2,8 @@ package com.autoloan.backend.repository;
 
 import com.autoloan.backend.model.StatusHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -12,4 +14,18 @@ public interface StatusHistoryRepository extends JpaRepository<StatusHistory, Lo
     List<StatusHistory> findByApplicationId(Long applicationId);
 
     List<StatusHistory> findByApplicationIdOrderByCreatedAtDesc(Long applicationId);
+
+    // Timeline reads walk idx_sh_app_id_id backwards, so neither needs a sort
+    List<StatusHistory> findByApplicationIdOrderByIdDesc(Long applicationId);
+
+    List<StatusHistory> findByApplicationIdAndIdGreaterThanOrderByIdDesc(Long applicationId, Long id);
+
+    // Answered from idx_sh_app_id_id alone; history rows are append-only, so this changes on every write
+    @Query("select count(h.id) as total, max(h.id) as latestId from StatusHistory h where h.applicationId = :applicationId")
+    HistoryVersion findVersionByApplicationId(@Param("applicationId") Long applicationId);
+
+    interface HistoryVersion {
+        long getTotal();
+        Long getLatestId();
+    }
 }
@@ -1,5 +1,6 @@
 package com.autoloan.backend.security;
 
+import com.autoloan.backend.service.DocumentStorage;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,6 +14,7 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.List;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 @Component
 @Order(4)
@@ -23,9 +25,16 @@ public class RequestValidatorFilter extends OncePerRequestFilter {
     private static final List<String> ALLOWED_CONTENT_TYPES = List.of(
             "application/json",
             "application/x-www-form-urlencoded",
-            "multipart/form-data"
+            "multipart/form-data",
+            "application/octet-stream"
     );
 
+    // Streaming document uploads are written to disk as they arrive, so they may be as large as a
+    // document; DocumentStorage enforces the limit on the bytes actually read. Matched against the
+    // path inside the servlet context, so the configured context path (/api/v1) is not part of it.
+    private static final Pattern DOCUMENT_STREAM_PATH =
+            Pattern.compile("/api/applications/\\d+/documents/stream");
+
     private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH");
 
     @Override
@@ -33,9 +42,11 @@ public class RequestValidatorFilter extends OncePerRequestFilter {
                                     @NonNull HttpServletResponse response,
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
         int contentLength = request.getContentLength();
-        if (contentLength > MAX_BODY_SIZE) {
+        long maxBodySize = DOCUMENT_STREAM_PATH.matcher(pathWithinContext(request)).matches()
+                ? DocumentStorage.MAX_FILE_SIZE : MAX_BODY_SIZE;
+        if (contentLength > maxBodySize) {
             writeErrorResponse(response, 413, "PayloadTooLarge",
-                    "Request body exceeds maximum size of 1MB",
+                    "Request body exceeds maximum size of " + maxBodySize / (1024 * 1024) + "MB",
                     "BodySizeExceeded", request);
             return;
         }
@@ -54,6 +65,12 @@ public class RequestValidatorFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private static String pathWithinContext(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return contextPath != null && uri.startsWith(contextPath) ? uri.substring(contextPath.length()) : uri;
+    }
+
     private void writeErrorResponse(HttpServletResponse response, int status,
                                      String code, String message, String innerCode,
                                      HttpServletRequest request) throws IOException {
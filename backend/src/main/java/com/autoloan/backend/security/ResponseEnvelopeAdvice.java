@@ -41,11 +41,6 @@ public class ResponseEnvelopeAdvice implements ResponseBodyAdvice<Object> {
             }
         }
 
-        // Skip wrapping for byte arrays (PDF, file downloads)
-        if (body instanceof byte[]) {
-            return body;
-        }
-
         // Skip if already enveloped
         if (body instanceof Map<?, ?> map && map.containsKey("status")) {
             Object status = map.get("status");
@@ -0,0 +1,308 @@
+// backend/src/main/java/com/autoloan/backend/service/AgreementBatchService.java
+package com.autoloan.backend.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.autoloan.backend.dto.application.AgreementBatchResponse;
+import com.autoloan.backend.exception.BadRequestException;
+import com.autoloan.backend.exception.ResourceNotFoundException;
+import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.model.enums.Role;
+import com.autoloan.backend.repository.ApplicationRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+// Month-end regeneration of every agreement (APPROVED or SIGNED) decided in a date range, as one
+// ZIP. PDFs render on a shared fixed pool; a batch keeps at most two per worker in flight and
+// writes them in id order as they finish, so memory stays flat however large the range. Each PDF
+// goes through AgreementPdfService: unchanged agreements come from the PDF cache and fresh
+// renders warm it. Progress is kept for the most recent batches.
+@Service
+public class AgreementBatchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AgreementBatchService.class);
+
+    private static final String METRIC = "app.agreements.batch";
+    private static final Set<ApplicationStatus> STATUSES = EnumSet.of(ApplicationStatus.APPROVED,
+            ApplicationStatus.SIGNED);
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final int RETAINED_BATCHES = 100;
+    // Last entry of the ZIP, only when some agreements could not be rendered
+    static final String FAILURES_ENTRY = "failures.txt";
+
+    private final ApplicationRepository applicationRepository;
+    private final AgreementPdfService agreementPdfService;
+    private final ExecutorService workers;
+    private final int window;
+    private final int pageSize;
+    private final Clock clock;
+    private final Counter rendered;
+    private final Counter failed;
+    private final Map<String, Batch> batches = Collections.synchronizedMap(
+            new LinkedHashMap<String, Batch>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Batch> eldest) {
+                    return size() > RETAINED_BATCHES;
+                }
+            });
+
+    @Autowired
+    public AgreementBatchService(ApplicationRepository applicationRepository,
+                                 AgreementPdfService agreementPdfService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.agreements.batch.threads:4}") int threads,
+                                 @Value("${app.agreements.batch.page-size:200}") int pageSize) {
+        this(applicationRepository, agreementPdfService, meterRegistry, threads, pageSize, Clock.systemUTC());
+    }
+
+    AgreementBatchService(ApplicationRepository applicationRepository,
+                          AgreementPdfService agreementPdfService,
+                          MeterRegistry meterRegistry,
+                          int threads,
+                          int pageSize,
+                          Clock clock) {
+        this.applicationRepository = applicationRepository;
+        this.agreementPdfService = agreementPdfService;
+        int poolSize = Math.max(1, threads);
+        AtomicInteger threadNumber = new AtomicInteger();
+        // Unbounded queue, but every batch caps its own in-flight renders at the window
+        this.workers = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "agreement-batch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.window = poolSize * 2;
+        this.pageSize = Math.max(1, pageSize);
+        this.clock = clock;
+        this.rendered = Counter.builder(METRIC + ".pdfs").tag("result", "rendered").register(meterRegistry);
+        this.failed = Counter.builder(METRIC + ".pdfs").tag("result", "failed").register(meterRegistry);
+    }
+
+    // Validates the range and counts it up front, so a bad request fails with 400 before the body starts
+    public Batch prepare(LocalDate from, LocalDate to, Role role) {
+        if (to.isBefore(from)) {
+            throw new BadRequestException("'to' must not be before 'from'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new BadRequestException("Date range cannot exceed " + MAX_RANGE_DAYS + " days");
+        }
+        // Whole UTC days, the same calendar the agreement date is printed in
+        Instant start = from.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant end = to.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        long total = applicationRepository.countDecided(STATUSES, start, end);
+
+        Batch batch = new Batch(UUID.randomUUID().toString(), from, to, start, end, role.name(), total);
+        batches.put(batch.id, batch);
+        return batch;
+    }
+
+    public void write(Batch batch, OutputStream out) throws IOException {
+        batch.startedAt = clock.instant();
+        batch.status = "RUNNING";
+        ZipOutputStream zip = new ZipOutputStream(out);
+        Deque<Future<Rendered>> inFlight = new ArrayDeque<>(window);
+        DecidedIds ids = new DecidedIds(batch);
+        List<String> failures = new ArrayList<>();
+        try {
+            while (true) {
+                while (inFlight.size() < window && ids.hasNext()) {
+                    Long applicationId = ids.next();
+                    inFlight.add(workers.submit(() -> render(applicationId, batch.role)));
+                }
+                if (inFlight.isEmpty()) {
+                    break;
+                }
+                Rendered pdf = await(inFlight.poll());
+                if (pdf.failure() != null) {
+                    batch.failed.incrementAndGet();
+                    failed.increment();
+                    failures.add(pdf.applicationId() + "\t" + pdf.failure());
+                    continue;
+                }
+                writeStored(zip, pdf.filename(), pdf.bytes());
+                batch.rendered.incrementAndGet();
+                rendered.increment();
+            }
+            if (!failures.isEmpty()) {
+                zip.putNextEntry(new ZipEntry(FAILURES_ENTRY));
+                zip.write((String.join("\n", failures) + "\n").getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+            zip.finish();
+            zip.flush();
+            finish(batch, "COMPLETED");
+            logger.info("Agreement batch {} ({} to {}): {} rendered, {} failed", batch.id, batch.from, batch.to,
+                    batch.rendered.get(), batch.failed.get());
+        } catch (IOException | RuntimeException e) {
+            // Usually the client went away; stop rendering for it
+            for (Future<Rendered> pending : inFlight) {
+                pending.cancel(true);
+            }
+            finish(batch, "FAILED");
+            logger.warn("Agreement batch {} aborted after {} PDFs: {}", batch.id, batch.rendered.get(), e.getMessage());
+            throw e;
+        }
+    }
+
+    public AgreementBatchResponse progress(String batchId) {
+        Batch batch = batches.get(batchId);
+        if (batch == null) {
+            throw new ResourceNotFoundException("Agreement batch not found");
+        }
+        return new AgreementBatchResponse(batch.id, batch.status, batch.from, batch.to, batch.total,
+                batch.rendered.get(), batch.failed.get(), batch.startedAt, batch.finishedAt);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    // One application's PDF, fully buffered: at most `window` of these exist per batch
+    private Rendered render(Long applicationId, String role) {
+        try {
+            AgreementPdfService.PdfResult result = agreementPdfService.generate(applicationId, null, role);
+            ByteArrayOutputStream pdf = new ByteArrayOutputStream(8192);
+            result.writeTo(pdf);
+            return new Rendered(applicationId, result.getFilename(), pdf.toByteArray(), null);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Agreement batch could not render application {}: {}", applicationId, e.getMessage());
+            return new Rendered(applicationId, null, null, e.getMessage());
+        }
+    }
+
+    private void finish(Batch batch, String status) {
+        batch.finishedAt = clock.instant();
+        batch.status = status;
+    }
+
+    private static Rendered await(Future<Rendered> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Agreement batch interrupted");
+        } catch (ExecutionException e) {
+            // render() reports its own failures; this is a cancelled or rejected task
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // PDFs are already Flate-compressed; deflating them again costs the writer thread for nothing
+    private static void writeStored(ZipOutputStream zip, String name, byte[] bytes) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(bytes.length);
+        entry.setCompressedSize(bytes.length);
+        entry.setCrc(crc.getValue());
+        zip.putNextEntry(entry);
+        zip.write(bytes);
+        zip.closeEntry();
+    }
+
+    public static final class Batch {
+        private final String id;
+        private final LocalDate from;
+        private final LocalDate to;
+        private final Instant start;
+        private final Instant end;
+        private final String role;
+        private final long total;
+        private final AtomicLong rendered = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private volatile String status = "PENDING";
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+
+        private Batch(String id, LocalDate from, LocalDate to, Instant start, Instant end, String role, long total) {
+            this.id = id;
+            this.from = from;
+            this.to = to;
+            this.start = start;
+            this.end = end;
+            this.role = role;
+            this.total = total;
+        }
+
+        public String getId() { return id; }
+        public long getTotal() { return total; }
+    }
+
+    private record Rendered(Long applicationId, String filename, byte[] bytes, String failure) {
+    }
+
+    // Ids in the range one page at a time, so the batch never holds more than a page of them
+    private final class DecidedIds implements Iterator<Long> {
+        private final Batch batch;
+        private Iterator<Long> page = Collections.emptyIterator();
+        private long afterId;
+        private boolean exhausted;
+
+        private DecidedIds(Batch batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (page.hasNext()) {
+                return true;
+            }
+            if (exhausted) {
+                return false;
+            }
+            List<Long> ids = applicationRepository.findDecidedIds(STATUSES, batch.start, batch.end, afterId,
+                    Limit.of(pageSize));
+            exhausted = ids.size() < pageSize;
+            if (!ids.isEmpty()) {
+                afterId = ids.get(ids.size() - 1);
+            }
+            page = ids.iterator();
+            return page.hasNext();
+        }
+
+        @Override
+        public Long next() {
+            return page.next();
+        }
+    }
+}
@@ -0,0 +1,295 @@
+// backend/src/main/java/com/autoloan/backend/service/AgreementPdfCache.java
+package com.autoloan.backend.service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Rendered agreement PDFs on local disk, one file per application named by the fingerprint of
+// everything rendered into it (<applicationId>-<fingerprint>.pdf). A file never changes once
+// written: new inputs mean a new fingerprint, which replaces the application's previous file.
+// Total size is bounded; the least recently served files are evicted first. Files left by a
+// previous run are picked up at startup.
+@Service
+public class AgreementPdfCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(AgreementPdfCache.class);
+    private static final String METRIC = "app.cache.agreement_pdf";
+    private static final Pattern FILE_NAME = Pattern.compile("(\\d+)-([0-9a-f]+)\\.pdf");
+    private static final Pattern TEMP_FILE_NAME = Pattern.compile("\\d+-\\d+\\.tmp");
+
+    private final Path directory;
+    private final long maxBytes;
+    private final LongSupplier nanoClock;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    private static final class Entry {
+        private final String fingerprint;
+        private final Path file;
+        private final long size;
+        private volatile long lastAccess;
+
+        private Entry(String fingerprint, Path file, long size, long lastAccess) {
+            this.fingerprint = fingerprint;
+            this.file = file;
+            this.size = size;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    @Autowired
+    public AgreementPdfCache(MeterRegistry meterRegistry,
+                             @Value("${app.cache.agreement-pdf.dir:${java.io.tmpdir}/autoloan/agreement-pdf}") String directory,
+                             @Value("${app.cache.agreement-pdf.max-bytes:268435456}") long maxBytes) {
+        this(meterRegistry, Path.of(directory), maxBytes, System::nanoTime);
+    }
+
+    AgreementPdfCache(MeterRegistry meterRegistry, Path directory, long maxBytes, LongSupplier nanoClock) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.nanoClock = nanoClock;
+        this.hits = Counter.builder(METRIC + ".requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(METRIC + ".requests").tag("result", "miss").register(meterRegistry);
+        this.evictions = Counter.builder(METRIC + ".evictions").register(meterRegistry);
+        Gauge.builder(METRIC + ".bytes", totalBytes, AtomicLong::get).register(meterRegistry);
+        load();
+    }
+
+    // A write of the PDF to a stream; the same render feeds the client and the cache file
+    @FunctionalInterface
+    public interface PdfWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    public record CachedPdf(Path file, long size) {
+    }
+
+    public Optional<CachedPdf> get(Long applicationId, String fingerprint) {
+        Entry entry = entries.get(applicationId);
+        if (entry == null || !entry.fingerprint.equals(fingerprint)) {
+            misses.increment();
+            return Optional.empty();
+        }
+        entry.lastAccess = nanoClock.getAsLong();
+        hits.increment();
+        return Optional.of(new CachedPdf(entry.file, entry.size));
+    }
+
+    // Renders once into out and, alongside it, into a temp file that is moved into place only
+    // after the render completes, so readers never see a partial PDF. A failing disk drops the
+    // copy but not the download; a failing client aborts both.
+    public void writeThrough(Long applicationId, String fingerprint, OutputStream out, PdfWriter writer)
+            throws IOException {
+        Path temp = null;
+        OutputStream file;
+        try {
+            temp = Files.createTempFile(directory, applicationId + "-", ".tmp");
+            file = new BufferedOutputStream(Files.newOutputStream(temp), 8192);
+        } catch (IOException e) {
+            if (temp != null) {
+                delete(temp);
+            }
+            logger.warn("Could not cache agreement PDF for application {}: {}", applicationId, e.getMessage());
+            writer.writeTo(out);
+            return;
+        }
+
+        CopyingOutputStream copying = new CopyingOutputStream(out, file);
+        try {
+            writer.writeTo(copying);
+            copying.closeCopy();
+            if (copying.copyFailure != null) {
+                logger.warn("Could not cache agreement PDF for application {}: {}",
+                        applicationId, copying.copyFailure.getMessage());
+                return;
+            }
+            publish(applicationId, fingerprint, temp, copying.copied);
+        } finally {
+            copying.closeCopy();
+            delete(temp);
+        }
+    }
+
+    long totalBytes() {
+        return totalBytes.get();
+    }
+
+    private void publish(Long applicationId, String fingerprint, Path temp, long size) {
+        Path file = directory.resolve(applicationId + "-" + fingerprint + ".pdf");
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            // The client already has the PDF; only the next download pays for a render
+            logger.warn("Could not cache agreement PDF for application {}: {}", applicationId, e.getMessage());
+            return;
+        }
+
+        Entry previous = entries.put(applicationId, new Entry(fingerprint, file, size, nanoClock.getAsLong()));
+        totalBytes.addAndGet(size);
+        if (previous != null) {
+            totalBytes.addAndGet(-previous.size);
+            if (!previous.file.equals(file)) {
+                delete(previous.file);
+            }
+        }
+        evictIfOverBudget();
+    }
+
+    private synchronized void evictIfOverBudget() {
+        if (totalBytes.get() <= maxBytes) {
+            return;
+        }
+        List<Map.Entry<Long, Entry>> byAge = new ArrayList<>(entries.entrySet());
+        byAge.sort(Comparator.comparingLong(e -> e.getValue().lastAccess));
+        for (Map.Entry<Long, Entry> eldest : byAge) {
+            if (totalBytes.get() <= maxBytes) {
+                break;
+            }
+            if (entries.remove(eldest.getKey(), eldest.getValue())) {
+                totalBytes.addAndGet(-eldest.getValue().size);
+                delete(eldest.getValue().file);
+                evictions.increment();
+            }
+        }
+    }
+
+    private void load() {
+        record Cached(Long applicationId, String fingerprint, Path file, long size, long modified) {
+        }
+        List<Cached> cached = new ArrayList<>();
+        try {
+            Files.createDirectories(directory);
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+                for (Path file : files) {
+                    Matcher name = FILE_NAME.matcher(file.getFileName().toString());
+                    if (name.matches()) {
+                        cached.add(new Cached(Long.valueOf(name.group(1)), name.group(2), file,
+                                Files.size(file), Files.getLastModifiedTime(file).toMillis()));
+                    } else if (TEMP_FILE_NAME.matcher(file.getFileName().toString()).matches()) {
+                        // Left by a write that did not finish
+                        delete(file);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot use agreement PDF cache directory " + directory, e);
+        }
+
+        // Oldest first: recency follows modification time, and the newest file per application wins
+        cached.sort(Comparator.comparingLong(Cached::modified));
+        long now = nanoClock.getAsLong();
+        for (int i = 0; i < cached.size(); i++) {
+            Cached file = cached.get(i);
+            Entry previous = entries.put(file.applicationId(),
+                    new Entry(file.fingerprint(), file.file(), file.size(), now - (cached.size() - i)));
+            totalBytes.addAndGet(file.size());
+            if (previous != null) {
+                totalBytes.addAndGet(-previous.size);
+                delete(previous.file);
+            }
+        }
+        evictIfOverBudget();
+    }
+
+    // Every byte goes to the client; the cache copy stops quietly at the first disk error. close()
+    // only flushes: the client stream belongs to the caller.
+    private static final class CopyingOutputStream extends OutputStream {
+        private final OutputStream client;
+        private final OutputStream copy;
+        private long copied;
+        private IOException copyFailure;
+        private boolean copyClosed;
+
+        private CopyingOutputStream(OutputStream client, OutputStream copy) {
+            this.client = client;
+            this.copy = copy;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            client.write(b);
+            if (copyFailure == null) {
+                try {
+                    copy.write(b);
+                    copied++;
+                } catch (IOException e) {
+                    copyFailure = e;
+                }
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            client.write(b, off, len);
+            if (copyFailure == null) {
+                try {
+                    copy.write(b, off, len);
+                    copied += len;
+                } catch (IOException e) {
+                    copyFailure = e;
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            client.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            client.flush();
+        }
+
+        private void closeCopy() {
+            if (copyClosed) {
+                return;
+            }
+            copyClosed = true;
+            try {
+                copy.close();
+            } catch (IOException e) {
+                if (copyFailure == null) {
+                    copyFailure = e;
+                }
+            }
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete cached agreement PDF {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -1,202 +1,130 @@
 // backend/src/main/java/com/autoloan/backend/service/AgreementPdfService.java
 package com.autoloan.backend.service;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.OptionalLong;
 
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.pdmodel.PDPage;
-import org.apache.pdfbox.pdmodel.PDPageContentStream;
-import org.apache.pdfbox.pdmodel.common.PDRectangle;
-import org.apache.pdfbox.pdmodel.font.PDType1Font;
-import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
 import org.springframework.stereotype.Service;
 
 import com.autoloan.backend.exception.BadRequestException;
 import com.autoloan.backend.exception.ResourceNotFoundException;
-import com.autoloan.backend.model.Address;
-import com.autoloan.backend.model.Application;
-import com.autoloan.backend.model.User;
-import com.autoloan.backend.model.Vehicle;
 import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.repository.AgreementRow;
 import com.autoloan.backend.repository.ApplicationRepository;
 
 @Service
 public class AgreementPdfService {
 
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MMMM dd, yyyy");
+
     private final ApplicationRepository applicationRepository;
+    private final AgreementPdfTemplate template;
+    private final AgreementPdfCache cache;
 
-    public AgreementPdfService(ApplicationRepository applicationRepository) {
+    public AgreementPdfService(ApplicationRepository applicationRepository, AgreementPdfTemplate template,
+                               AgreementPdfCache cache) {
         this.applicationRepository = applicationRepository;
+        this.template = template;
+        this.cache = cache;
     }
 
+    // One statement loads everything printed (see ApplicationRepository.findAgreementRow), so this
+    // needs no transaction and never touches a lazy association
     public PdfResult generate(Long applicationId, Long userId, String role) {
-        Application app;
         boolean isStaff = "LOAN_OFFICER".equals(role) || "UNDERWRITER".equals(role);
-        if (isStaff) {
-            app = applicationRepository.findById(applicationId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
-        } else {
-            app = applicationRepository.findByIdAndUserId(applicationId, userId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
-        }
+        AgreementRow row = applicationRepository.findAgreementRow(applicationId)
+                .filter(r -> isStaff || r.userId().equals(userId))
+                .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
 
-        if (app.getStatus() != ApplicationStatus.APPROVED && app.getStatus() != ApplicationStatus.SIGNED) {
+        if (row.status() != ApplicationStatus.APPROVED && row.status() != ApplicationStatus.SIGNED) {
             throw new BadRequestException("PDF only available for approved or signed applications");
         }
 
-        String appNum = app.getApplicationNumber() != null
-                ? app.getApplicationNumber()
-                : "APP-" + String.format("%04d", app.getId());
+        String appNum = row.applicationNumber() != null
+                ? row.applicationNumber()
+                : "APP-" + String.format("%04d", row.id());
 
-        byte[] pdfBytes = buildPdf(app, appNum);
         String filename = "loan_agreement_" + appNum + ".pdf";
-        return new PdfResult(pdfBytes, filename);
-    }
-
-    byte[] buildPdf(Application app, String appNum) {
-        try (PDDocument doc = new PDDocument()) {
-            PDPage page = new PDPage(PDRectangle.LETTER);
-            doc.addPage(page);
-
-            PDType1Font fontBold = new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD);
-            PDType1Font fontRegular = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
-
-            User user = app.getUser();
-            Address address = app.getAddresses().stream()
-                    .filter(a -> "residential".equals(a.getAddressType()))
-                    .findFirst().orElse(app.getAddresses().isEmpty() ? null : app.getAddresses().get(0));
-            Vehicle vehicle = app.getVehicles().isEmpty() ? null : app.getVehicles().get(0);
-
-            BigDecimal loanAmount = app.getLoanAmount() != null ? app.getLoanAmount() : BigDecimal.ZERO;
-            BigDecimal downPayment = app.getDownPayment() != null ? app.getDownPayment() : BigDecimal.ZERO;
-            BigDecimal principal = loanAmount.subtract(downPayment);
-            BigDecimal rate = app.getInterestRate() != null ? app.getInterestRate() : BigDecimal.ZERO;
-            int term = app.getLoanTerm() != null ? app.getLoanTerm() : 48;
-            BigDecimal monthly = app.getMonthlyPayment() != null ? app.getMonthlyPayment() : BigDecimal.ZERO;
-            BigDecimal totalPayments = monthly.multiply(BigDecimal.valueOf(term));
-            BigDecimal totalInterest = totalPayments.subtract(principal);
-
-            float y = 740;
-            float margin = 50;
-
-            try (PDPageContentStream cs = new PDPageContentStream(doc, page)) {
-                // Header
-                y = drawCenteredText(cs, fontBold, 20, "AUTO LOAN AGREEMENT", page, y);
-                y -= 20;
-                y = drawCenteredText(cs, fontRegular, 12, "Loan Agreement #" + appNum, page, y);
-                y -= 15;
-                y = drawCenteredText(cs, fontRegular, 10, "Date: " + formatDate(LocalDate.now()), page, y);
-                y -= 30;
-
-                // Borrower Information
-                y = drawSectionHeader(cs, fontBold, "BORROWER INFORMATION", margin, y);
-                String name = (user != null) ? (user.getFirstName() + " " + user.getLastName()) : "N/A";
-                y = drawRow(cs, fontBold, fontRegular, "Name:", name, margin, y);
-                String addr = address != null
-                        ? (address.getStreetAddress() + ", " + address.getCity() + ", " + address.getState() + " " + address.getZipCode())
-                        : "N/A";
-                y = drawRow(cs, fontBold, fontRegular, "Address:", addr, margin, y);
-                y = drawRow(cs, fontBold, fontRegular, "Phone:", user != null ? user.getPhone() : "N/A", margin, y);
-                y = drawRow(cs, fontBold, fontRegular, "Email:", user != null ? user.getEmail() : "N/A", margin, y);
-                y -= 15;
-
-                // Loan Details
-                y = drawSectionHeader(cs, fontBold, "LOAN DETAILS", margin, y);
-                y = drawRow(cs, fontBold, fontRegular, "Loan Amount:", "$" + fmt(loanAmount), margin, y);
-                y = drawRow(cs, fontBold, fontRegular, "Down Payment:", "$" + fmt(downPayment), margin, y);
-                y = drawRow(cs, fontBold, fontRegular, "Amount Financed:", "$" + fmt(principal), margin, y);
-                y = drawRow(cs, fontBold, fontRegular, "APR:", rate + "%", margin, y);
-                y = drawRow(cs, fontBold, fontRegular, "Loan Term:", term + " months", margin, y);
-                y = drawRow(cs, fontBold, fontRegular, "Monthly Payment:", "$" + fmt(monthly), margin, y);
-                y = drawRow(cs, fontBold, fontRegular, "Total of Payments:", "$" + fmt(totalPayments), margin, y);
-                y = drawRow(cs, fontBold, fontRegular, "Total Interest:", "$" + fmt(totalInterest), margin, y);
-                y -= 15;
-
-                // Vehicle Information
-                y = drawSectionHeader(cs, fontBold, "VEHICLE INFORMATION", margin, y);
-                y = drawRow(cs, fontBold, fontRegular, "Year:", vehicle != null ? String.valueOf(vehicle.getYear()) : "N/A", margin, y);
-                y = drawRow(cs, fontBold, fontRegular, "Make:", vehicle != null ? vehicle.getMake() : "N/A", margin, y);
-                y = drawRow(cs, fontBold, fontRegular, "Model:", vehicle != null ? vehicle.getModel() : "N/A", margin, y);
-                y = drawRow(cs, fontBold, fontRegular, "VIN:", vehicle != null && vehicle.getVin() != null ? vehicle.getVin() : "N/A", margin, y);
-                y -= 15;
-
-                // Terms
-                y = drawSectionHeader(cs, fontBold, "TERMS AND CONDITIONS", margin, y);
-                String[] terms2 = {
-                    "1. The Borrower agrees to repay the loan amount plus interest as specified above.",
-                    "2. Late payments may result in additional fees and penalties.",
-                    "3. The vehicle serves as collateral for this loan.",
-                    "4. Full payoff is permitted at any time without prepayment penalty.",
-                    "5. Borrower must maintain full coverage insurance on the vehicle.",
-                };
-                for (String t : terms2) {
-                    y = drawText(cs, fontRegular, 9, t, margin, y);
-                    y -= 4;
-                }
-                y -= 20;
-
-                // Signature
-                y = drawSectionHeader(cs, fontBold, "SIGNATURES", margin, y);
-                cs.moveTo(margin, y);
-                cs.lineTo(300, y);
-                cs.stroke();
-                y -= 15;
-                y = drawText(cs, fontRegular, 10, "Borrower: " + name, margin, y);
-            }
-
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            doc.save(baos);
-            return baos.toByteArray();
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to generate PDF", e);
+        AgreementPdfTemplate.Fields fields = fields(row, appNum);
+        String fingerprint = template.fingerprint(fields);
+        String etag = "\"" + fingerprint + "\"";
+
+        Long cacheKey = row.id();
+        AgreementPdfCache.PdfWriter render =
+                out -> cache.writeThrough(cacheKey, fingerprint, out, pdf -> template.render(fields, pdf));
+        Optional<AgreementPdfCache.CachedPdf> cached = cache.get(cacheKey, fingerprint);
+        if (cached.isPresent()) {
+            Path file = cached.get().file();
+            return new PdfResult(filename, etag, cached.get().size(), out -> copyOrRender(file, out, render));
         }
+        return new PdfResult(filename, etag, -1, render);
     }
 
-    private float drawCenteredText(PDPageContentStream cs, PDType1Font font, float size, String text, PDPage page, float y) throws IOException {
-        float textWidth = font.getStringWidth(text) / 1000 * size;
-        float x = (page.getMediaBox().getWidth() - textWidth) / 2;
-        cs.beginText();
-        cs.setFont(font, size);
-        cs.newLineAtOffset(x, y);
-        cs.showText(text);
-        cs.endText();
-        return y - size - 2;
-    }
-
-    private float drawSectionHeader(PDPageContentStream cs, PDType1Font font, String text, float x, float y) throws IOException {
-        cs.beginText();
-        cs.setFont(font, 13);
-        cs.newLineAtOffset(x, y);
-        cs.showText(text);
-        cs.endText();
-        return y - 20;
+    // The file can be evicted or replaced between get() and the body being written. Once open it
+    // stays readable; if it is already gone, the same fingerprint renders the same bytes, so the
+    // Content-Length already sent still holds.
+    private static void copyOrRender(Path file, OutputStream out, AgreementPdfCache.PdfWriter render)
+            throws IOException {
+        InputStream in;
+        try {
+            in = Files.newInputStream(file);
+        } catch (NoSuchFileException e) {
+            render.writeTo(out);
+            return;
+        }
+        try (in) {
+            in.transferTo(out);
+        }
     }
 
-    private float drawRow(PDPageContentStream cs, PDType1Font boldFont, PDType1Font regularFont, String label, String value, float x, float y) throws IOException {
-        cs.beginText();
-        cs.setFont(boldFont, 10);
-        cs.newLineAtOffset(x, y);
-        cs.showText(label);
-        cs.endText();
-        cs.beginText();
-        cs.setFont(regularFont, 10);
-        cs.newLineAtOffset(x + 160, y);
-        cs.showText(value != null ? value : "N/A");
-        cs.endText();
-        return y - 14;
+    // Everything that ends up on the page; its fingerprint is the cache key and the ETag
+    AgreementPdfTemplate.Fields fields(AgreementRow row, String appNum) {
+        BigDecimal loanAmount = row.loanAmount() != null ? row.loanAmount() : BigDecimal.ZERO;
+        BigDecimal downPayment = row.downPayment() != null ? row.downPayment() : BigDecimal.ZERO;
+        BigDecimal principal = loanAmount.subtract(downPayment).max(BigDecimal.ZERO);
+        BigDecimal rate = row.interestRate() != null ? row.interestRate() : BigDecimal.ZERO;
+        int term = row.loanTerm() != null ? row.loanTerm() : 48;
+        // Same figures as GET /api/loans/{id}/schedule, including the adjusted final payment
+        long principalCents = Amortization.toCents(principal);
+        int rateBps = Amortization.toBasisPoints(rate);
+        BigDecimal monthly = Amortization.toAmount(Amortization.monthlyPaymentCents(principalCents, rateBps, term));
+        long interestCents = Amortization.totalInterestCents(principalCents, rateBps, term);
+        BigDecimal totalInterest = Amortization.toAmount(interestCents);
+        BigDecimal totalPayments = Amortization.toAmount(principalCents + interestCents);
+
+        boolean hasUser = row.borrowerId() != null;
+        boolean hasVehicle = row.vehicleId() != null;
+        String name = hasUser ? (row.firstName() + " " + row.lastName()) : "N/A";
+        String addr = row.addressId() != null
+                ? (row.streetAddress() + ", " + row.city() + ", " + row.state() + " " + row.zipCode())
+                : "N/A";
+
+        return new AgreementPdfTemplate.Fields(
+                appNum, formatDate(agreementDate(row)),
+                name, addr, hasUser ? row.phone() : "N/A", hasUser ? row.email() : "N/A",
+                "$" + fmt(loanAmount), "$" + fmt(downPayment), "$" + fmt(principal), rate + "%",
+                term + " months", "$" + fmt(monthly), "$" + fmt(totalPayments), "$" + fmt(totalInterest),
+                hasVehicle ? String.valueOf(row.vehicleYear()) : "N/A",
+                hasVehicle ? row.vehicleMake() : "N/A",
+                hasVehicle ? row.vehicleModel() : "N/A",
+                hasVehicle && row.vehicleVin() != null ? row.vehicleVin() : "N/A");
     }
 
-    private float drawText(PDPageContentStream cs, PDType1Font font, float size, String text, float x, float y) throws IOException {
-        cs.beginText();
-        cs.setFont(font, size);
-        cs.newLineAtOffset(x, y);
-        cs.showText(text);
-        cs.endText();
-        return y - size - 2;
+    // The decision date, so the same application renders the same agreement on any day
+    private static LocalDate agreementDate(AgreementRow row) {
+        return row.decidedAt() != null
+                ? LocalDate.ofInstant(row.decidedAt(), ZoneOffset.UTC)
+                : LocalDate.now(ZoneOffset.UTC);
     }
 
     private String fmt(BigDecimal n) {
@@ -204,19 +132,33 @@ public class AgreementPdfService {
     }
 
     private String formatDate(LocalDate d) {
-        return d.format(DateTimeFormatter.ofPattern("MMMM dd, yyyy"));
+        return d.format(DATE_FORMAT);
     }
 
+    // Written when the response body is, so a 304 neither renders nor reads the file. The
+    // length is known only for a cached file; a fresh render streams as it is produced.
     public static class PdfResult {
-        private final byte[] buffer;
         private final String filename;
+        private final String etag;
+        private final long contentLength;
+        private final AgreementPdfCache.PdfWriter body;
 
-        public PdfResult(byte[] buffer, String filename) {
-            this.buffer = buffer;
+        public PdfResult(String filename, String etag, long contentLength, AgreementPdfCache.PdfWriter body) {
             this.filename = filename;
+            this.etag = etag;
+            this.contentLength = contentLength;
+            this.body = body;
+        }
+
+        public void writeTo(OutputStream out) throws IOException {
+            body.writeTo(out);
+        }
+
+        public OptionalLong getContentLength() {
+            return contentLength >= 0 ? OptionalLong.of(contentLength) : OptionalLong.empty();
         }
 
-        public byte[] getBuffer() { return buffer; }
         public String getFilename() { return filename; }
+        public String getEtag() { return etag; }
     }
 }
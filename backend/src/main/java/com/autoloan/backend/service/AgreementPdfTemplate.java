@@ -0,0 +1,329 @@
+// backend/src/main/java/com/autoloan/backend/service/AgreementPdfTemplate.java
+package com.autoloan.backend.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Function;
+
+import org.apache.pdfbox.cos.COSArray;
+import org.apache.pdfbox.cos.COSDictionary;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.cos.COSStream;
+import org.apache.pdfbox.cos.COSString;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDResources;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.common.PDStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.springframework.stereotype.Component;
+
+// The agreement page, laid out once at startup. Every fixed string (title, headings, labels,
+// terms, signature rule) is encoded into a content stream that is compressed here and copied
+// verbatim into each PDF; a request only writes its values into a second, small stream. The
+// layout never depends on the values, so their positions are fixed too, except the two centered
+// lines, which are measured against glyph widths cached from the font metrics.
+@Component
+public class AgreementPdfTemplate {
+
+    // Values are preformatted; null renders as N/A
+    public record Fields(String applicationNumber, String date,
+                         String borrowerName, String address, String phone, String email,
+                         String loanAmount, String downPayment, String amountFinanced, String apr,
+                         String loanTerm, String monthlyPayment, String totalOfPayments, String totalInterest,
+                         String vehicleYear, String vehicleMake, String vehicleModel, String vin) {
+    }
+
+    // Part of every fingerprint; bump when the layout changes so cached PDFs are not reused
+    private static final int LAYOUT_VERSION = 1;
+
+    // Standard 14 fonts with WinAnsiEncoding: one byte per character, unmappable ones become '?'
+    private static final Charset WIN_ANSI = Charset.forName("windows-1252");
+    private static final PDRectangle PAGE_SIZE = PDRectangle.LETTER;
+    private static final float MARGIN = 50;
+    private static final float VALUE_OFFSET = 160;
+    private static final COSName BOLD = COSName.getPDFName("F1");
+    private static final COSName REGULAR = COSName.getPDFName("F2");
+
+    private static final String[] TERMS = {
+        "1. The Borrower agrees to repay the loan amount plus interest as specified above.",
+        "2. Late payments may result in additional fees and penalties.",
+        "3. The vehicle serves as collateral for this loan.",
+        "4. Full payoff is permitted at any time without prepayment penalty.",
+        "5. Borrower must maintain full coverage insurance on the vehicle.",
+    };
+
+    private record Slot(COSName font, float size, float x, float y, String prefix, boolean centered,
+                        Function<Fields, String> value) {
+    }
+
+    private final byte[] fixedContent;
+    private final List<Slot> slots;
+    private final float[] boldWidths;
+    private final float[] regularWidths;
+
+    public AgreementPdfTemplate() {
+        boldWidths = widths(new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD));
+        regularWidths = widths(new PDType1Font(Standard14Fonts.FontName.HELVETICA));
+
+        Layout layout = new Layout();
+        layout.centered(BOLD, 20, "AUTO LOAN AGREEMENT");
+        layout.gap(20);
+        layout.centeredField(REGULAR, 12, "Loan Agreement #", Fields::applicationNumber);
+        layout.gap(15);
+        layout.centeredField(REGULAR, 10, "Date: ", Fields::date);
+        layout.gap(30);
+
+        layout.section("BORROWER INFORMATION");
+        layout.row("Name:", Fields::borrowerName);
+        layout.row("Address:", Fields::address);
+        layout.row("Phone:", Fields::phone);
+        layout.row("Email:", Fields::email);
+        layout.gap(15);
+
+        layout.section("LOAN DETAILS");
+        layout.row("Loan Amount:", Fields::loanAmount);
+        layout.row("Down Payment:", Fields::downPayment);
+        layout.row("Amount Financed:", Fields::amountFinanced);
+        layout.row("APR:", Fields::apr);
+        layout.row("Loan Term:", Fields::loanTerm);
+        layout.row("Monthly Payment:", Fields::monthlyPayment);
+        layout.row("Total of Payments:", Fields::totalOfPayments);
+        layout.row("Total Interest:", Fields::totalInterest);
+        layout.gap(15);
+
+        layout.section("VEHICLE INFORMATION");
+        layout.row("Year:", Fields::vehicleYear);
+        layout.row("Make:", Fields::vehicleMake);
+        layout.row("Model:", Fields::vehicleModel);
+        layout.row("VIN:", Fields::vin);
+        layout.gap(15);
+
+        layout.section("TERMS AND CONDITIONS");
+        for (String term : TERMS) {
+            layout.text(9, term);
+            layout.gap(4);
+        }
+        layout.gap(20);
+
+        layout.section("SIGNATURES");
+        layout.rule(300);
+        layout.gap(15);
+        layout.field(REGULAR, 10, "Borrower: ", Fields::borrowerName);
+
+        fixedContent = compress(layout.fixed.toByteArray());
+        slots = List.copyOf(layout.slots);
+    }
+
+    // Identifies the rendered bytes: the same fields and layout always produce the same PDF
+    public String fingerprint(Fields fields) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((LAYOUT_VERSION + "\n" + fields).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public byte[] render(Fields fields) {
+        ByteArrayOutputStream pdf = new ByteArrayOutputStream(4096);
+        try {
+            render(fields, pdf);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to generate PDF", e);
+        }
+        return pdf.toByteArray();
+    }
+
+    // Saves straight into out, which is left open
+    public void render(Fields fields, OutputStream out) throws IOException {
+        ByteArrayOutputStream values = new ByteArrayOutputStream(1024);
+        for (Slot slot : slots) {
+            String value = slot.value().apply(fields);
+            byte[] text = encode(slot.prefix() + (value != null ? value : "N/A"));
+            float x = slot.centered()
+                    ? centeredX(slot.font() == BOLD ? boldWidths : regularWidths, slot.size(), text)
+                    : slot.x();
+            showText(values, slot.font(), slot.size(), x, slot.y(), text);
+        }
+
+        try (PDDocument doc = new PDDocument()) {
+            PDPage page = new PDPage(PAGE_SIZE);
+            page.setResources(resources());
+
+            COSStream fixed = doc.getDocument().createCOSStream();
+            fixed.setItem(COSName.FILTER, COSName.FLATE_DECODE);
+            try (OutputStream stream = fixed.createRawOutputStream()) {
+                stream.write(fixedContent);
+            }
+            COSStream variable = doc.getDocument().createCOSStream();
+            try (OutputStream stream = variable.createOutputStream(COSName.FLATE_DECODE)) {
+                values.writeTo(stream);
+            }
+            page.setContents(List.of(new PDStream(fixed), new PDStream(variable)));
+            doc.addPage(page);
+            // PDFBox would otherwise derive the trailer /ID from the clock
+            COSString id = new COSString(HexFormat.of().parseHex(fingerprint(fields)));
+            COSArray documentId = new COSArray();
+            documentId.add(id);
+            documentId.add(id);
+            doc.getDocument().setDocumentID(documentId);
+
+            doc.save(out);
+        }
+    }
+
+    // Same result as PDFont.getStringWidth, without re-encoding through the font per call
+    float width(COSName font, String text) {
+        float[] widths = font == BOLD ? boldWidths : regularWidths;
+        float width = 0;
+        for (byte code : encode(text)) {
+            width += widths[code & 0xff];
+        }
+        return width;
+    }
+
+    private float centeredX(float[] widths, float size, byte[] text) {
+        float width = 0;
+        for (byte code : text) {
+            width += widths[code & 0xff];
+        }
+        return (PAGE_SIZE.getWidth() - width / 1000 * size) / 2;
+    }
+
+    // Tracks the cursor the way the page is read top to bottom: fixed text goes straight into
+    // the shared stream, values become slots at the position they would have been drawn
+    private final class Layout {
+        private final ByteArrayOutputStream fixed = new ByteArrayOutputStream(4096);
+        private final List<Slot> slots = new ArrayList<>();
+        private float y = 740;
+
+        void centered(COSName font, float size, String text) {
+            byte[] encoded = encode(text);
+            showText(fixed, font, size, centeredX(font == BOLD ? boldWidths : regularWidths, size, encoded), y, encoded);
+            y -= size + 2;
+        }
+
+        void centeredField(COSName font, float size, String prefix, Function<Fields, String> value) {
+            slots.add(new Slot(font, size, 0, y, prefix, true, value));
+            y -= size + 2;
+        }
+
+        void field(COSName font, float size, String prefix, Function<Fields, String> value) {
+            slots.add(new Slot(font, size, MARGIN, y, prefix, false, value));
+            y -= size + 2;
+        }
+
+        void section(String text) {
+            showText(fixed, BOLD, 13, MARGIN, y, encode(text));
+            y -= 20;
+        }
+
+        void row(String label, Function<Fields, String> value) {
+            showText(fixed, BOLD, 10, MARGIN, y, encode(label));
+            slots.add(new Slot(REGULAR, 10, MARGIN + VALUE_OFFSET, y, "", false, value));
+            y -= 14;
+        }
+
+        void text(float size, String text) {
+            showText(fixed, REGULAR, size, MARGIN, y, encode(text));
+            y -= size + 2;
+        }
+
+        void rule(float toX) {
+            write(fixed, number(MARGIN) + " " + number(y) + " m " + number(toX) + " " + number(y) + " l S\n");
+        }
+
+        void gap(float amount) {
+            y -= amount;
+        }
+    }
+
+    private static void showText(ByteArrayOutputStream out, COSName font, float size, float x, float y, byte[] text) {
+        write(out, "BT /" + font.getName() + " " + number(size) + " Tf " + number(x) + " " + number(y) + " Td (");
+        for (byte b : text) {
+            if (b == '(' || b == ')' || b == '\\') {
+                out.write('\\');
+                out.write(b);
+            } else if (b == '\r') {
+                write(out, "\\r");
+            } else if (b == '\n') {
+                write(out, "\\n");
+            } else {
+                out.write(b);
+            }
+        }
+        write(out, ") Tj ET\n");
+    }
+
+    private static void write(ByteArrayOutputStream out, String operators) {
+        out.writeBytes(operators.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    // Two decimals are finer than a device pixel; avoids exponent notation near zero
+    private static String number(float value) {
+        long hundredths = Math.round(value * 100.0);
+        return hundredths % 100 == 0 ? Long.toString(hundredths / 100) : Double.toString(hundredths / 100.0);
+    }
+
+    private static byte[] encode(String text) {
+        return text.getBytes(WIN_ANSI);
+    }
+
+    private static float[] widths(PDType1Font font) {
+        float[] widths = new float[256];
+        try {
+            for (int code = 0; code < widths.length; code++) {
+                widths[code] = font.getWidth(code);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return widths;
+    }
+
+    private static byte[] compress(byte[] content) {
+        COSStream stream = new COSStream();
+        try {
+            try (OutputStream out = stream.createOutputStream(COSName.FLATE_DECODE)) {
+                out.write(content);
+            }
+            try (InputStream raw = stream.createRawInputStream()) {
+                return raw.readAllBytes();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Fresh dictionaries per document; PDFBox objects are not shared between documents
+    private static PDResources resources() {
+        COSDictionary fonts = new COSDictionary();
+        fonts.setItem(BOLD, standardFont(Standard14Fonts.FontName.HELVETICA_BOLD));
+        fonts.setItem(REGULAR, standardFont(Standard14Fonts.FontName.HELVETICA));
+        COSDictionary resources = new COSDictionary();
+        resources.setItem(COSName.FONT, fonts);
+        return new PDResources(resources);
+    }
+
+    private static COSDictionary standardFont(Standard14Fonts.FontName name) {
+        COSDictionary font = new COSDictionary();
+        font.setItem(COSName.TYPE, COSName.FONT);
+        font.setItem(COSName.SUBTYPE, COSName.TYPE1);
+        font.setName(COSName.BASE_FONT, name.getName());
+        font.setItem(COSName.ENCODING, COSName.WIN_ANSI_ENCODING);
+        return font;
+    }
+}
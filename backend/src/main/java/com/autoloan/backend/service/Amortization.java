@@ -0,0 +1,127 @@
+// backend/src/main/java/com/autoloan/backend/service/Amortization.java
+package com.autoloan.backend.service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.autoloan.backend.exception.BadRequestException;
+
+// Fixed-rate, monthly-compounding amortization. Money is long cents and the APR is an integer
+// number of basis points (interest_rate is stored to two decimals, so this is exact). The
+// annuity factor is decimal arithmetic at 34 significant digits, so the payment rounds half-up
+// to the same cent as the exact rational formula; each month's interest is integer arithmetic
+// on the balance, and the last payment absorbs the rounding so the balance always ends at
+// exactly zero.
+public final class Amortization {
+
+    // basis points per unit (10,000) times months per year
+    private static final long MONTHLY_RATE_DIVISOR = 120_000L;
+    private static final int MAX_TERM_MONTHS = 600;
+    private static final int MAX_RATE_BPS = 10_000;
+    private static final MathContext FACTOR_CONTEXT = MathContext.DECIMAL128;
+
+    private Amortization() {
+    }
+
+    public record Installment(int number, long paymentCents, long principalCents,
+                              long interestCents, long balanceCents) {
+    }
+
+    public record Schedule(long paymentCents, long totalInterestCents, List<Installment> installments) {
+        public long totalOfPaymentsCents() {
+            long total = 0;
+            for (Installment installment : installments) {
+                total += installment.paymentCents();
+            }
+            return total;
+        }
+    }
+
+    public static long monthlyPaymentCents(long principalCents, int annualRateBps, int termMonths) {
+        validate(principalCents, annualRateBps, termMonths);
+        if (principalCents == 0) {
+            return 0;
+        }
+        if (annualRateBps == 0) {
+            return (principalCents + termMonths / 2) / termMonths;
+        }
+        if (termMonths == 1) {
+            // Exact, and the only term where the rounding can land on a half cent
+            return principalCents + interestCents(principalCents, annualRateBps);
+        }
+        // P * r * g^n / (g^n - 1) with r = bps / D and g = (D + bps) / D, scaled by D^n:
+        // P * bps * (D + bps)^n / (D * ((D + bps)^n - D^n))
+        BigDecimal divisor = BigDecimal.valueOf(MONTHLY_RATE_DIVISOR);
+        BigDecimal growth = divisor.add(BigDecimal.valueOf(annualRateBps)).pow(termMonths, FACTOR_CONTEXT);
+        BigDecimal base = divisor.pow(termMonths, FACTOR_CONTEXT);
+        BigDecimal numerator = BigDecimal.valueOf(principalCents)
+                .multiply(BigDecimal.valueOf(annualRateBps))
+                .multiply(growth, FACTOR_CONTEXT);
+        BigDecimal denominator = divisor.multiply(growth.subtract(base, FACTOR_CONTEXT), FACTOR_CONTEXT);
+        return numerator.divide(denominator, FACTOR_CONTEXT).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    // Same walk as schedule() without building the rows
+    public static long totalInterestCents(long principalCents, int annualRateBps, int termMonths) {
+        long payment = monthlyPaymentCents(principalCents, annualRateBps, termMonths);
+        long balance = principalCents;
+        long totalInterest = 0;
+        for (int month = 1; month <= termMonths && balance > 0; month++) {
+            long interest = interestCents(balance, annualRateBps);
+            balance -= principalPart(payment, interest, balance, month == termMonths);
+            totalInterest += interest;
+        }
+        return totalInterest;
+    }
+
+    public static Schedule schedule(long principalCents, int annualRateBps, int termMonths) {
+        long payment = monthlyPaymentCents(principalCents, annualRateBps, termMonths);
+        List<Installment> installments = new ArrayList<>(termMonths);
+        long balance = principalCents;
+        long totalInterest = 0;
+        for (int month = 1; month <= termMonths; month++) {
+            long interest = balance > 0 ? interestCents(balance, annualRateBps) : 0;
+            long principal = balance > 0 ? principalPart(payment, interest, balance, month == termMonths) : 0;
+            balance -= principal;
+            totalInterest += interest;
+            installments.add(new Installment(month, principal + interest, principal, interest, balance));
+        }
+        return new Schedule(payment, totalInterest, installments);
+    }
+
+    public static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    // 6.90 (percent) -> 690
+    public static int toBasisPoints(BigDecimal annualRatePercent) {
+        return annualRatePercent.movePointRight(2).setScale(0, RoundingMode.HALF_UP).intValueExact();
+    }
+
+    public static BigDecimal toAmount(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    private static long interestCents(long balanceCents, int annualRateBps) {
+        return (balanceCents * annualRateBps + MONTHLY_RATE_DIVISOR / 2) / MONTHLY_RATE_DIVISOR;
+    }
+
+    private static long principalPart(long payment, long interest, long balance, boolean lastMonth) {
+        return lastMonth ? balance : Math.min(payment - interest, balance);
+    }
+
+    private static void validate(long principalCents, int annualRateBps, int termMonths) {
+        if (principalCents < 0) {
+            throw new BadRequestException("Amount financed cannot be negative");
+        }
+        if (annualRateBps < 0 || annualRateBps > MAX_RATE_BPS) {
+            throw new BadRequestException("Interest rate must be between 0 and 100");
+        }
+        if (termMonths < 1 || termMonths > MAX_TERM_MONTHS) {
+            throw new BadRequestException("Loan term must be between 1 and " + MAX_TERM_MONTHS + " months");
+        }
+    }
+}
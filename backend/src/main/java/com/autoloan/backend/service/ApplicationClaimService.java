@@ -0,0 +1,103 @@
+// backend/src/main/java/com/autoloan/backend/service/ApplicationClaimService.java
+package com.autoloan.backend.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.autoloan.backend.dto.application.ClaimResponse;
+import com.autoloan.backend.exception.BadRequestException;
+import com.autoloan.backend.exception.ResourceNotFoundException;
+import com.autoloan.backend.model.Application;
+import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.repository.ApplicationRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Pull-based work queue over SUBMITTED applications. Claiming locks the next free row with
+// SKIP LOCKED and stamps a lease on it in the same short transaction, so concurrent officers
+// never wait on each other or receive the same application. Leases are never swept: an expired
+// one simply matches the claim query again.
+@Service
+public class ApplicationClaimService {
+
+    private static final String METRIC = "app.queue.claims";
+
+    static final ApplicationStatus QUEUE_STATUS = ApplicationStatus.SUBMITTED;
+
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationResponseCache responseCache;
+    private final MeterRegistry meterRegistry;
+    private final Duration lease;
+    private final Clock clock;
+
+    @Autowired
+    public ApplicationClaimService(ApplicationRepository applicationRepository,
+                                   ApplicationResponseCache responseCache,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.queue.claim.lease-minutes:15}") long leaseMinutes) {
+        this(applicationRepository, responseCache, meterRegistry, Duration.ofMinutes(leaseMinutes),
+                Clock.systemUTC());
+    }
+
+    ApplicationClaimService(ApplicationRepository applicationRepository, ApplicationResponseCache responseCache,
+                            MeterRegistry meterRegistry, Duration lease, Clock clock) {
+        this.applicationRepository = applicationRepository;
+        this.responseCache = responseCache;
+        this.meterRegistry = meterRegistry;
+        this.lease = lease;
+        this.clock = clock;
+    }
+
+    // An officer holds at most one live claim: asking again renews it rather than hoarding work
+    @Transactional
+    public Optional<ClaimResponse> claimNext(Long officerId) {
+        Instant now = clock.instant();
+        List<Application> held = applicationRepository.findHeldClaims(officerId, QUEUE_STATUS, now, Limit.of(1));
+        if (!held.isEmpty()) {
+            return Optional.of(stampLease(held.get(0), officerId, now, true));
+        }
+
+        List<Application> next = applicationRepository.findClaimable(QUEUE_STATUS, now, Limit.of(1));
+        if (next.isEmpty()) {
+            count("empty");
+            return Optional.empty();
+        }
+        return Optional.of(stampLease(next.get(0), officerId, now, false));
+    }
+
+    @Transactional
+    public void release(Long applicationId, Long officerId) {
+        Application app = applicationRepository.findById(applicationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
+        if (!officerId.equals(app.getClaimedBy()) || !app.getClaimExpiresAt().isAfter(clock.instant())) {
+            throw new BadRequestException("Application is not claimed by you");
+        }
+        app.setClaimedBy(null);
+        app.setClaimExpiresAt(null);
+        responseCache.invalidate(applicationId);
+        count("released");
+    }
+
+    private ClaimResponse stampLease(Application app, Long officerId, Instant now, boolean renewed) {
+        app.setClaimedBy(officerId);
+        app.setClaimExpiresAt(now.plus(lease));
+        // The row's updatedAt moves with the lease
+        responseCache.invalidate(app.getId());
+        count(renewed ? "renewed" : "claimed");
+        return new ClaimResponse(app.getId(), app.getApplicationNumber(), app.getStatus().name(),
+                app.getLoanAmount(), app.getSubmittedAt(), officerId, app.getClaimExpiresAt(), renewed);
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter(METRIC, "outcome", outcome).increment();
+    }
+}
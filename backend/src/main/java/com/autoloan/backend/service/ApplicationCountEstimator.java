@@ -0,0 +1,57 @@
+// backend/src/main/java/com/autoloan/backend/service/ApplicationCountEstimator.java
+package com.autoloan.backend.service;
+
+import java.util.OptionalLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.autoloan.backend.model.enums.ApplicationStatus;
+
+// Row-count estimates from PostgreSQL planner statistics (refreshed by ANALYZE/autovacuum).
+// Only the whole table and single-status queues are covered; anything else is empty so the
+// caller falls back to an exact count.
+@Service
+public class ApplicationCountEstimator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationCountEstimator.class);
+
+    private static final String TABLE_ROWS_SQL =
+            "SELECT reltuples::bigint FROM pg_class WHERE oid = 'applications'::regclass";
+
+    // Statistics of the same applications table the row count reads, not one in another schema
+    private static final String STATUS_FREQUENCY_SQL =
+            "SELECT f.freq FROM pg_stats s, "
+                    + "unnest(s.most_common_vals::text::text[], s.most_common_freqs) AS f(val, freq) "
+                    + "WHERE s.schemaname = current_schema() AND s.tablename = 'applications' "
+                    + "AND s.attname = 'status' AND f.val = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ApplicationCountEstimator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public OptionalLong estimate(ApplicationStatus status) {
+        try {
+            Long rows = jdbcTemplate.queryForObject(TABLE_ROWS_SQL, Long.class);
+            // reltuples is -1 until the table has been analyzed
+            if (rows == null || rows < 0) {
+                return OptionalLong.empty();
+            }
+            if (status == null) {
+                return OptionalLong.of(rows);
+            }
+
+            Double frequency = jdbcTemplate.query(STATUS_FREQUENCY_SQL,
+                    rs -> rs.next() ? rs.getDouble(1) : null, status.name());
+            return frequency == null ? OptionalLong.empty() : OptionalLong.of(Math.round(rows * frequency));
+        } catch (DataAccessException e) {
+            logger.debug("Planner statistics unavailable, falling back to exact count: {}", e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+// backend/src/main/java/com/autoloan/backend/service/ApplicationExportService.java
+package com.autoloan.backend.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.autoloan.backend.dto.loan.LoanApplicationResponse;
+import com.autoloan.backend.model.Application;
+import com.autoloan.backend.repository.ApplicationRepository;
+import com.autoloan.backend.repository.ApplicationRow;
+
+import tools.jackson.databind.json.JsonMapper;
+
+// Streams staff exports straight from a forward-only cursor. Rows are ApplicationRow projections
+// (application + vehicle in one statement), so nothing accumulates in the persistence context
+// and memory stays flat however many rows match.
+@Service
+public class ApplicationExportService {
+
+    private static final List<CsvColumn> CSV_COLUMNS = List.of(
+            new CsvColumn("id", LoanApplicationResponse::getId),
+            new CsvColumn("application_number", LoanApplicationResponse::getApplicationNumber),
+            new CsvColumn("status", LoanApplicationResponse::getStatus),
+            new CsvColumn("current_step", LoanApplicationResponse::getCurrentStep),
+            new CsvColumn("dob", LoanApplicationResponse::getDob),
+            new CsvColumn("loan_amount", LoanApplicationResponse::getLoanAmount),
+            new CsvColumn("down_payment", LoanApplicationResponse::getDownPayment),
+            new CsvColumn("loan_term", LoanApplicationResponse::getLoanTerm),
+            new CsvColumn("interest_rate", LoanApplicationResponse::getInterestRate),
+            new CsvColumn("monthly_payment", LoanApplicationResponse::getMonthlyPayment),
+            new CsvColumn("rejection_reason", LoanApplicationResponse::getRejectionReason),
+            new CsvColumn("user_id", LoanApplicationResponse::getUserId),
+            new CsvColumn("submitted_at", LoanApplicationResponse::getSubmittedAt),
+            new CsvColumn("decided_at", LoanApplicationResponse::getDecidedAt),
+            new CsvColumn("created_at", LoanApplicationResponse::getCreatedAt),
+            new CsvColumn("updated_at", LoanApplicationResponse::getUpdatedAt),
+            new CsvColumn("vehicle_make", LoanApplicationResponse::getVehicleMake),
+            new CsvColumn("vehicle_model", LoanApplicationResponse::getVehicleModel),
+            new CsvColumn("vehicle_year", LoanApplicationResponse::getVehicleYear),
+            new CsvColumn("vehicle_trim", LoanApplicationResponse::getVehicleTrim),
+            new CsvColumn("vehicle_vin", LoanApplicationResponse::getVehicleVin));
+
+    private final ApplicationRepository applicationRepository;
+    private final JsonMapper jsonMapper;
+    private final int fetchSize;
+
+    public ApplicationExportService(ApplicationRepository applicationRepository,
+                                    JsonMapper jsonMapper,
+                                    @Value("${app.export.fetch-size:500}") int fetchSize) {
+        this.applicationRepository = applicationRepository;
+        this.jsonMapper = jsonMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    // Parses $filter/$orderby up front so a bad query fails with 400 before the body starts
+    public ExportQuery prepare(String filter, String orderby, String status) {
+        Specification<Application> spec = LoanService.buildSpecification(null, filter, status);
+        Sort sort = ApplicationSpecification.parseOdataOrderby(orderby);
+        // Ties on the sort key would otherwise come back in arbitrary order between exports
+        if (sort.getOrderFor("id") == null) {
+            sort = sort.and(Sort.by(Sort.Direction.ASC, "id"));
+        }
+        return new ExportQuery(spec, sort);
+    }
+
+    @Transactional(readOnly = true)
+    public long export(ExportQuery exportQuery, ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long rows = 0;
+
+        if (format == ExportFormat.CSV) {
+            writeCsvHeader(writer);
+        }
+        try (Stream<ApplicationRow> stream = applicationRepository.streamRows(
+                exportQuery.spec(), exportQuery.sort(), fetchSize)) {
+            Iterator<ApplicationRow> it = stream.iterator();
+            while (it.hasNext()) {
+                LoanApplicationResponse row = LoanService.toResponse(it.next());
+                if (format == ExportFormat.CSV) {
+                    writeCsvRow(writer, row);
+                } else {
+                    writer.write(jsonMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+                rows++;
+            }
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private void writeCsvHeader(Writer writer) throws IOException {
+        for (int i = 0; i < CSV_COLUMNS.size(); i++) {
+            if (i > 0) writer.write(',');
+            writer.write(CSV_COLUMNS.get(i).header());
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeCsvRow(Writer writer, LoanApplicationResponse row) throws IOException {
+        for (int i = 0; i < CSV_COLUMNS.size(); i++) {
+            if (i > 0) writer.write(',');
+            Object value = CSV_COLUMNS.get(i).value().apply(row);
+            if (value != null) {
+                writer.write(csvField(value));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    // Text comes from applicants, and a spreadsheet runs a cell starting with = + - @ tab or CR as
+    // a formula; a leading ' keeps it literal. Numbers and dates are written as they are.
+    static String csvField(Object value) {
+        String text = value.toString();
+        if (value instanceof String && !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        return csvEscape(text);
+    }
+
+    // RFC 4180: quote fields containing a delimiter, quote or line break; double inner quotes
+    static String csvEscape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    public record ExportQuery(Specification<Application> spec, Sort sort) {
+    }
+
+    private record CsvColumn(String header, Function<LoanApplicationResponse, Object> value) {
+    }
+}
@@ -0,0 +1,162 @@
+// backend/src/main/java/com/autoloan/backend/service/ApplicationQueueCounters.java
+package com.autoloan.backend.service;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.autoloan.backend.dto.application.QueueSummaryResponse;
+import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.repository.ApplicationRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Per-status application counts kept in memory so dashboard badges don't run a COUNT(*) per tab.
+// Write paths report deltas once their transaction commits; a scheduled GROUP BY resets the
+// counters to the database totals, which bounds drift from writes that bypass the services or
+// from other instances.
+@Service
+public class ApplicationQueueCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationQueueCounters.class);
+
+    private static final String METRIC = "app.queue";
+
+    private final ApplicationRepository applicationRepository;
+    private final Map<ApplicationStatus, LongAdder> counts = new EnumMap<>(ApplicationStatus.class);
+    // A transaction holds the read side from just before its commit until its delta is applied;
+    // reconcile takes the write side around its query, so every commit its snapshot sees has
+    // already been counted and every later one is counted after the reset
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Counter drift;
+
+    private volatile Instant reconciledAt;
+
+    public ApplicationQueueCounters(ApplicationRepository applicationRepository, MeterRegistry meterRegistry) {
+        this.applicationRepository = applicationRepository;
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            LongAdder adder = new LongAdder();
+            counts.put(status, adder);
+            Gauge.builder(METRIC + ".size", adder, LongAdder::sum)
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+        this.drift = Counter.builder(METRIC + ".reconcile.drift").register(meterRegistry);
+    }
+
+    public void recordCreated(ApplicationStatus status) {
+        afterCommit(() -> counts.get(status).increment());
+    }
+
+    public void recordDeleted(ApplicationStatus status) {
+        afterCommit(() -> counts.get(status).decrement());
+    }
+
+    public void recordTransition(ApplicationStatus from, ApplicationStatus to) {
+        if (from == to) {
+            return;
+        }
+        afterCommit(() -> {
+            counts.get(from).decrement();
+            counts.get(to).increment();
+        });
+    }
+
+    public QueueSummaryResponse summary() {
+        if (reconciledAt == null) {
+            reconcile();
+        }
+        Map<String, Long> byStatus = new LinkedHashMap<>();
+        long total = 0;
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<ApplicationStatus, LongAdder> entry : counts.entrySet()) {
+                long count = entry.getValue().sum();
+                byStatus.put(entry.getKey().name(), count);
+                total += count;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new QueueSummaryResponse(byStatus, total, reconciledAt);
+    }
+
+    @Scheduled(fixedDelayString = "${app.queue-counters.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        lock.writeLock().lock();
+        try {
+            Map<ApplicationStatus, Long> actual = new EnumMap<>(ApplicationStatus.class);
+            for (ApplicationRepository.StatusCount row : applicationRepository.countGroupedByStatus()) {
+                actual.put(row.getStatus(), row.getTotal());
+            }
+
+            long driftTotal = 0;
+            for (Map.Entry<ApplicationStatus, LongAdder> entry : counts.entrySet()) {
+                long expected = actual.getOrDefault(entry.getKey(), 0L);
+                long current = entry.getValue().sumThenReset();
+                entry.getValue().add(expected);
+                driftTotal += Math.abs(expected - current);
+            }
+            // The very first pass starts from zero, so it isn't drift
+            if (reconciledAt != null && driftTotal > 0) {
+                drift.increment(driftTotal);
+                logger.debug("Queue counters drifted by {} from the database", driftTotal);
+            }
+            reconciledAt = Instant.now();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Rolled-back writes must not move the counters. The read lock spans the database commit and
+    // the delta, so reconcile can't read the new row and then see its delta on top.
+    private void afterCommit(Runnable delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            lock.readLock().lock();
+            try {
+                delta.run();
+            } finally {
+                lock.readLock().unlock();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // beforeCommit is skipped when an earlier synchronization fails, afterCompletion is not
+            private boolean locked;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                lock.readLock().lock();
+                locked = true;
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (!locked) {
+                    return;
+                }
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        delta.run();
+                    }
+                } finally {
+                    locked = false;
+                    lock.readLock().unlock();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,135 @@
+// backend/src/main/java/com/autoloan/backend/service/ApplicationResponseCache.java
+package com.autoloan.backend.service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.autoloan.backend.dto.loan.LoanApplicationResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Read-through cache of assembled application responses, bounded by size (LRU) and TTL.
+// Every write path calls invalidate(id); the TTL only bounds staleness from writes that bypass
+// the services. Responses are mutable beans, so every caller gets its own copy and the cached
+// one is never handed out.
+@Service
+public class ApplicationResponseCache {
+
+    private static final String METRIC = "app.cache.application_response";
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<Long, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+
+    // One token per load in flight; invalidate(id) drops that id's token, so only a load that raced
+    // with a write to the same application goes uncached
+    private final Map<Long, Object> loading = new HashMap<>();
+
+    private record Entry(LoanApplicationResponse response, long expiresAt) {
+    }
+
+    @Autowired
+    public ApplicationResponseCache(MeterRegistry meterRegistry,
+                                    @Value("${app.cache.application-response.max-entries:5000}") int maxEntries,
+                                    @Value("${app.cache.application-response.ttl-seconds:30}") long ttlSeconds) {
+        this(meterRegistry, maxEntries, Duration.ofSeconds(ttlSeconds), System::nanoTime);
+    }
+
+    ApplicationResponseCache(MeterRegistry meterRegistry, int maxEntries, Duration ttl, LongSupplier nanoClock) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > ApplicationResponseCache.this.maxEntries;
+            }
+        };
+        this.hits = Counter.builder(METRIC + ".requests").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder(METRIC + ".requests").tag("result", "miss").register(meterRegistry);
+        this.invalidations = Counter.builder(METRIC + ".invalidations").register(meterRegistry);
+        Gauge.builder(METRIC + ".size", this, ApplicationResponseCache::size).register(meterRegistry);
+    }
+
+    public LoanApplicationResponse get(Long applicationId, Function<Long, LoanApplicationResponse> loader) {
+        Object token = new Object();
+        synchronized (entries) {
+            Entry entry = entries.get(applicationId);
+            if (entry != null && nanoClock.getAsLong() - entry.expiresAt() < 0) {
+                hits.increment();
+                return copy(entry.response());
+            }
+            if (entry != null) {
+                entries.remove(applicationId);
+            }
+            loading.put(applicationId, token);
+        }
+
+        misses.increment();
+        try {
+            LoanApplicationResponse response = loader.apply(applicationId);
+            synchronized (entries) {
+                if (loading.get(applicationId) == token) {
+                    entries.put(applicationId, new Entry(copy(response), nanoClock.getAsLong() + ttlNanos));
+                }
+            }
+            return response;
+        } finally {
+            synchronized (entries) {
+                loading.remove(applicationId, token);
+            }
+        }
+    }
+
+    // Evicts now and again once the surrounding transaction completes, so a reader that
+    // loads between the two cannot keep the pre-commit state. Counted once per call.
+    public void invalidate(Long applicationId) {
+        invalidations.increment();
+        evict(applicationId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(applicationId);
+                }
+            });
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void evict(Long applicationId) {
+        synchronized (entries) {
+            loading.remove(applicationId);
+            entries.remove(applicationId);
+        }
+    }
+
+    // Every field is an immutable value, so a shallow copy is independent of the original
+    private static LoanApplicationResponse copy(LoanApplicationResponse response) {
+        LoanApplicationResponse copy = new LoanApplicationResponse();
+        BeanUtils.copyProperties(response, copy);
+        return copy;
+    }
+}
@@ -1,14 +1,20 @@
 // backend/src/main/java/com/autoloan/backend/service/ApplicationSerializer.java
 package com.autoloan.backend.service;
 
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.hibernate.Hibernate;
+import org.hibernate.collection.spi.PersistentCollection;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.autoloan.backend.dto.application.ApplicationDetailResponse;
+import com.autoloan.backend.exception.ResourceNotFoundException;
 import com.autoloan.backend.model.Address;
 import com.autoloan.backend.model.Application;
 import com.autoloan.backend.model.Document;
@@ -16,7 +22,10 @@ import com.autoloan.backend.model.FinancialInfo;
 import com.autoloan.backend.model.StatusHistory;
 import com.autoloan.backend.model.User;
 import com.autoloan.backend.model.Vehicle;
+import com.autoloan.backend.model.enums.Role;
+import com.autoloan.backend.model.enums.WorkflowAction;
 import com.autoloan.backend.repository.AddressRepository;
+import com.autoloan.backend.repository.ApplicationRepository;
 import com.autoloan.backend.repository.DocumentRepository;
 import com.autoloan.backend.repository.FinancialInfoRepository;
 import com.autoloan.backend.repository.StatusHistoryRepository;
@@ -32,30 +41,57 @@ public class ApplicationSerializer {
     private final FinancialInfoRepository financialInfoRepository;
     private final DocumentRepository documentRepository;
     private final StatusHistoryRepository statusHistoryRepository;
+    private final ApplicationRepository applicationRepository;
+
+    private static final Comparator<StatusHistory> NEWEST_FIRST = Comparator.comparing(
+            StatusHistory::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()));
 
     public ApplicationSerializer(UserRepository userRepository,
                                   VehicleRepository vehicleRepository,
                                   AddressRepository addressRepository,
                                   FinancialInfoRepository financialInfoRepository,
                                   DocumentRepository documentRepository,
-                                  StatusHistoryRepository statusHistoryRepository) {
+                                  StatusHistoryRepository statusHistoryRepository,
+                                  ApplicationRepository applicationRepository) {
         this.userRepository = userRepository;
         this.vehicleRepository = vehicleRepository;
         this.addressRepository = addressRepository;
         this.financialInfoRepository = financialInfoRepository;
         this.documentRepository = documentRepository;
         this.statusHistoryRepository = statusHistoryRepository;
+        this.applicationRepository = applicationRepository;
+    }
+
+    // Loads the application with its user and vehicle in one query; the remaining
+    // child collections cost one query each, so a detail view is a fixed five round trips.
+    @Transactional(readOnly = true)
+    public ApplicationDetailResponse serialize(Long applicationId, Long currentUserId) {
+        Application app = applicationRepository.findDetailById(applicationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
+        return serialize(app, currentUserId);
     }
 
     public ApplicationDetailResponse serialize(Application app, Long currentUserId) {
         boolean isOwner = currentUserId != null && currentUserId.equals(app.getUserId());
 
-        User user = userRepository.findById(app.getUserId()).orElse(null);
-        Vehicle vehicle = vehicleRepository.findByApplicationId(app.getId()).orElse(null);
-        List<Address> addresses = addressRepository.findByApplicationId(app.getId());
-        List<FinancialInfo> financialInfos = financialInfoRepository.findByApplicationId(app.getId());
-        List<Document> documents = documentRepository.findByApplicationId(app.getId());
-        List<StatusHistory> histories = statusHistoryRepository.findByApplicationIdOrderByCreatedAtDesc(app.getId());
+        User user = isLoaded(app.getUser())
+                ? app.getUser()
+                : userRepository.findById(app.getUserId()).orElse(null);
+        Vehicle vehicle = isLoaded(app.getVehicles())
+                ? app.getVehicles().stream().findFirst().orElse(null)
+                : vehicleRepository.findByApplicationId(app.getId()).orElse(null);
+        List<Address> addresses = isLoaded(app.getAddresses())
+                ? app.getAddresses()
+                : addressRepository.findByApplicationId(app.getId());
+        List<FinancialInfo> financialInfos = isLoaded(app.getFinancialInfos())
+                ? app.getFinancialInfos()
+                : financialInfoRepository.findByApplicationId(app.getId());
+        List<Document> documents = isLoaded(app.getDocuments())
+                ? app.getDocuments()
+                : documentRepository.findByApplicationId(app.getId());
+        List<StatusHistory> histories = isLoaded(app.getStatusHistories())
+                ? app.getStatusHistories().stream().sorted(NEWEST_FIRST).toList()
+                : statusHistoryRepository.findByApplicationIdOrderByCreatedAtDesc(app.getId());
 
         ApplicationDetailResponse response = new ApplicationDetailResponse();
         response.setId(app.getId());
@@ -87,16 +123,27 @@ public class ApplicationSerializer {
         return response;
     }
 
+    // Only trusts associations Hibernate has actually fetched; detached or
+    // hand-built applications fall back to the repositories.
+    private boolean isLoaded(Object association) {
+        if (association instanceof PersistentCollection<?> collection) {
+            return collection.wasInitialized();
+        }
+        return association != null && !(association instanceof Collection<?>)
+                && Hibernate.isInitialized(association);
+    }
+
     private Map<String, String> buildLinks(Application app) {
         String baseUrl = "/api/loans/" + app.getId();
         Map<String, String> links = new HashMap<>();
         links.put("self", baseUrl);
         links.put("documents", baseUrl + "/documents");
-        if ("DRAFT".equals(app.getStatus().name())) {
-            links.put("submit", baseUrl + "/submit");
+        links.put("actions", baseUrl + "/actions");
+        // These links are the applicant's (/api/loans); staff actions live under the staff routes
+        for (WorkflowAction action : ApplicationStateMachine.allowedActions(app.getStatus(), Role.CUSTOMER)) {
+            links.put(action.getPath(), baseUrl + "/" + action.getPath());
         }
-        if ("APPROVED".equals(app.getStatus().name())) {
-            links.put("sign", baseUrl + "/sign");
+        if (ApplicationStateMachine.isAllowed(app.getStatus(), Role.CUSTOMER, WorkflowAction.SIGN)) {
             links.put("agreement_pdf", baseUrl + "/agreement_pdf");
         }
         return links;
@@ -1,16 +1,30 @@
 // backend/src/main/java/com/autoloan/backend/service/ApplicationSpecification.java
 package com.autoloan.backend.service;
 
+import java.math.BigDecimal;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
+import com.autoloan.backend.exception.BadRequestException;
 import com.autoloan.backend.model.Application;
+import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.service.odata.FilterNode;
+import com.autoloan.backend.service.odata.FilterParser;
+import com.autoloan.backend.service.odata.PlanCache;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 
 public class ApplicationSpecification {
 
@@ -22,14 +36,43 @@ public class ApplicationSpecification {
             "created_at", "createdAt",
             "updated_at", "updatedAt",
             "submitted_at", "submittedAt",
-            "loan_amount", "loanAmount"
+            "loan_amount", "loanAmount",
+            "application_number", "applicationNumber"
+    );
+
+    // Literals are coerced to the column type at compile time so predicates compare the
+    // column directly (no casts) and stay usable by its index
+    private static final Map<String, Class<?>> FIELD_TYPES = Map.of(
+            "status", ApplicationStatus.class,
+            "currentStep", Integer.class,
+            "loanTerm", Integer.class,
+            "interestRate", BigDecimal.class,
+            "createdAt", Instant.class,
+            "updatedAt", Instant.class,
+            "submittedAt", Instant.class,
+            "loanAmount", BigDecimal.class,
+            "applicationNumber", String.class
     );
 
     private static final List<String> ALLOWED_FILTER_FIELDS = List.of(
             "status", "current_step", "loan_term", "interest_rate",
-            "created_at", "updated_at", "submitted_at"
+            "created_at", "updated_at", "submitted_at", "loan_amount", "application_number"
+    );
+
+    private static final List<String> ALLOWED_ORDER_FIELDS = List.of(
+            "status", "current_step", "created_at", "updated_at", "submitted_at", "loan_amount"
     );
 
+    private static final Sort DEFAULT_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private static final int PLAN_CACHE_SIZE = 256;
+
+    // Parsed and field-resolved once per distinct $filter / $orderby string
+    private static final PlanCache<FilterNode> FILTER_PLANS = new PlanCache<>(PLAN_CACHE_SIZE);
+    private static final PlanCache<Sort> ORDERBY_PLANS = new PlanCache<>(PLAN_CACHE_SIZE);
+
     private ApplicationSpecification() {
     }
 
@@ -42,23 +85,8 @@ public class ApplicationSpecification {
             return noOp();
         }
 
-        return (root, query, cb) -> {
-            List<Predicate> predicates = new ArrayList<>();
-            String[] parts = filterStr.split("(?i)\\s+and\\s+");
-
-            for (String part : parts) {
-                String trimmed = part.trim();
-                Predicate predicate = parseContains(trimmed, root, cb);
-                if (predicate == null) {
-                    predicate = parseComparison(trimmed, root, cb);
-                }
-                if (predicate != null) {
-                    predicates.add(predicate);
-                }
-            }
-
-            return cb.and(predicates.toArray(new Predicate[0]));
-        };
+        FilterNode plan = FILTER_PLANS.get(filterStr, ApplicationSpecification::compileFilter);
+        return (root, query, cb) -> toPredicate(plan, root, cb);
     }
 
     public static Specification<Application> withUserId(Long userId) {
@@ -69,121 +97,287 @@ public class ApplicationSpecification {
         if (status == null || status.isBlank()) {
             return noOp();
         }
-        return (root, query, cb) -> cb.equal(root.get("status").as(String.class), status.toUpperCase());
+        ApplicationStatus parsed = parseStatus(status);
+        if (parsed == null) {
+            return (root, query, cb) -> cb.disjunction();
+        }
+        return (root, query, cb) -> cb.equal(root.get("status"), parsed);
     }
 
-    @SuppressWarnings("unchecked")
-    private static Predicate parseContains(String expr, jakarta.persistence.criteria.Root<Application> root,
-                                            jakarta.persistence.criteria.CriteriaBuilder cb) {
-        if (!expr.toLowerCase().startsWith("contains(")) {
-            return null;
-        }
-        String inner = expr.substring(9);
-        if (inner.endsWith(")")) {
-            inner = inner.substring(0, inner.length() - 1);
+    public static Sort parseOdataOrderby(String orderbyStr) {
+        if (orderbyStr == null || orderbyStr.isBlank()) {
+            return DEFAULT_SORT;
         }
-        String[] tokens = inner.split(",", 2);
-        if (tokens.length != 2) return null;
+        return ORDERBY_PLANS.get(orderbyStr, ApplicationSpecification::compileOrderby);
+    }
 
-        String field = tokens[0].trim();
-        String value = tokens[1].trim();
+    static FilterNode compileFilter(String filterStr) {
+        FilterNode resolved = resolve(FilterParser.parse(filterStr));
+        return resolved != null ? resolved : FilterNode.And.MATCH_ALL;
+    }
 
-        if (!ALLOWED_FILTER_FIELDS.contains(field)) return null;
-        String jpaField = FIELD_MAP.getOrDefault(field, field);
+    // Maps OData fields to entity attributes and types their literals. Clauses on fields
+    // outside the allow-list (and unsupported functions) resolve to null and are dropped
+    // from their parent, so the filter behaves as if they had not been written.
+    private static FilterNode resolve(FilterNode node) {
+        if (node instanceof FilterNode.And and) {
+            List<FilterNode> children = resolveAll(and.children());
+            if (children.isEmpty()) return null;
+            return children.size() == 1 ? children.get(0) : new FilterNode.And(children);
+        }
+        if (node instanceof FilterNode.Or or) {
+            List<FilterNode> children = resolveAll(or.children());
+            if (children.isEmpty()) return null;
+            return children.size() == 1 ? children.get(0) : new FilterNode.Or(children);
+        }
+        if (node instanceof FilterNode.Not not) {
+            FilterNode child = resolve(not.child());
+            return child == null ? null : new FilterNode.Not(child);
+        }
+        if (node instanceof FilterNode.Comparison comparison) {
+            return resolveComparison(comparison);
+        }
+        if (node instanceof FilterNode.In in) {
+            String field = jpaField(in.field());
+            if (field == null) return null;
+            List<Object> values = new ArrayList<>();
+            for (Object value : in.values()) {
+                if (value == null || value instanceof LocalDate && FIELD_TYPES.get(field) == Instant.class) {
+                    throw invalid("'" + value + "' is not allowed in an in-list for " + in.field());
+                }
+                values.add(coerce(in.field(), field, value));
+            }
+            return new FilterNode.In(field, List.copyOf(values));
+        }
+        if (node instanceof FilterNode.Contains contains) {
+            return resolveTextMatch(contains.field(), contains.value(), false);
+        }
+        if (node instanceof FilterNode.StartsWith startsWith) {
+            return resolveTextMatch(startsWith.field(), startsWith.prefix(), true);
+        }
+        return null;
+    }
 
-        if ((value.startsWith("'") && value.endsWith("'")) || (value.startsWith("\"") && value.endsWith("\""))) {
-            value = value.substring(1, value.length() - 1);
+    private static List<FilterNode> resolveAll(List<FilterNode> nodes) {
+        List<FilterNode> resolved = new ArrayList<>();
+        for (FilterNode node : nodes) {
+            FilterNode child = resolve(node);
+            if (child != null) {
+                resolved.add(child);
+            }
         }
+        return List.copyOf(resolved);
+    }
 
-        return cb.like(cb.lower(root.get(jpaField).as(String.class)), "%" + value.toLowerCase() + "%");
+    private static FilterNode resolveComparison(FilterNode.Comparison comparison) {
+        String field = jpaField(comparison.field());
+        if (field == null) return null;
+
+        Object value = comparison.value();
+        if (value == null) {
+            if (comparison.operator() != FilterNode.Operator.EQ && comparison.operator() != FilterNode.Operator.NE) {
+                throw invalid("null can only be compared with eq or ne");
+            }
+            return new FilterNode.Comparison(field, comparison.operator(), null);
+        }
+        return new FilterNode.Comparison(field, comparison.operator(), coerce(comparison.field(), field, value));
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    private static Predicate parseComparison(String expr, jakarta.persistence.criteria.Root<Application> root,
-                                              jakarta.persistence.criteria.CriteriaBuilder cb) {
-        String[] operators = {"eq", "ne", "gt", "ge", "lt", "le"};
-        for (String op : operators) {
-            String pattern = "(?i)^(\\w+)\\s+" + op + "\\s+(.+)$";
-            java.util.regex.Matcher matcher = java.util.regex.Pattern.compile(pattern).matcher(expr);
-            if (matcher.matches()) {
-                String field = matcher.group(1);
-                String rawValue = matcher.group(2).trim();
-
-                if (!ALLOWED_FILTER_FIELDS.contains(field)) return null;
-                String jpaField = FIELD_MAP.getOrDefault(field, field);
-                Object value = parseValue(rawValue);
-
-                switch (op.toLowerCase()) {
-                    case "eq":
-                        if (value == null) return cb.isNull(root.get(jpaField));
-                        return cb.equal(root.get(jpaField).as(value.getClass()), value);
-                    case "ne":
-                        if (value == null) return cb.isNotNull(root.get(jpaField));
-                        return cb.notEqual(root.get(jpaField).as(value.getClass()), value);
-                    case "gt":
-                        if (value instanceof Comparable) return cb.greaterThan(root.get(jpaField), (Comparable) value);
-                        break;
-                    case "ge":
-                        if (value instanceof Comparable) return cb.greaterThanOrEqualTo(root.get(jpaField), (Comparable) value);
-                        break;
-                    case "lt":
-                        if (value instanceof Comparable) return cb.lessThan(root.get(jpaField), (Comparable) value);
-                        break;
-                    case "le":
-                        if (value instanceof Comparable) return cb.lessThanOrEqualTo(root.get(jpaField), (Comparable) value);
-                        break;
-                    default:
-                        break;
+    // Enum columns hold a handful of values, so text matching is expanded into an
+    // index-friendly in-list; free-text columns keep LIKE (contains is served by a
+    // trigram index, startswith by a text_pattern_ops b-tree)
+    private static FilterNode resolveTextMatch(String odataField, String text, boolean prefixOnly) {
+        String field = jpaField(odataField);
+        if (field == null) return null;
+
+        Class<?> type = FIELD_TYPES.get(field);
+        if (type == ApplicationStatus.class) {
+            String needle = text.toUpperCase();
+            List<Object> matches = new ArrayList<>();
+            for (ApplicationStatus status : ApplicationStatus.values()) {
+                if (prefixOnly ? status.name().startsWith(needle) : status.name().contains(needle)) {
+                    matches.add(status);
                 }
             }
+            return matches.isEmpty() ? FilterNode.Or.MATCH_NONE : new FilterNode.In(field, List.copyOf(matches));
         }
-        return null;
+        if (type != String.class) {
+            throw invalid((prefixOnly ? "startswith" : "contains") + " is not supported on " + odataField);
+        }
+        return prefixOnly
+                ? new FilterNode.StartsWith(field, text)
+                : new FilterNode.Contains(field, text.toLowerCase());
     }
 
-    private static Object parseValue(String val) {
-        if ((val.startsWith("'") && val.endsWith("'")) || (val.startsWith("\"") && val.endsWith("\""))) {
-            return val.substring(1, val.length() - 1);
+    private static Object coerce(String odataField, String field, Object value) {
+        Class<?> type = FIELD_TYPES.get(field);
+        if (type == String.class) {
+            return String.valueOf(value);
         }
-        if ("true".equalsIgnoreCase(val)) return true;
-        if ("false".equalsIgnoreCase(val)) return false;
-        if ("null".equalsIgnoreCase(val)) return null;
-        try {
-            if (val.contains(".")) return Double.parseDouble(val);
-            return Integer.parseInt(val);
-        } catch (NumberFormatException e) {
-            if (val.contains("T") || val.contains("-")) {
-                try { return Instant.parse(val); } catch (Exception ignored) { }
+        if (type == ApplicationStatus.class && value instanceof String text) {
+            ApplicationStatus status = parseStatus(text);
+            if (status != null) return status;
+        }
+        if (type == Integer.class && value instanceof Integer) {
+            return value;
+        }
+        if (type == BigDecimal.class) {
+            if (value instanceof BigDecimal) return value;
+            if (value instanceof Integer number) return BigDecimal.valueOf(number);
+        }
+        if (type == Instant.class) {
+            if (value instanceof Instant || value instanceof LocalDate) return value;
+            if (value instanceof String text) {
+                Object parsed = parseTemporal(text);
+                if (parsed != null) return parsed;
             }
-            return val;
         }
+        throw invalid("'" + value + "' is not a valid value for " + odataField);
     }
 
-    public static org.springframework.data.domain.Sort parseOdataOrderby(String orderbyStr) {
-        if (orderbyStr == null || orderbyStr.isBlank()) {
-            return org.springframework.data.domain.Sort.by(
-                    org.springframework.data.domain.Sort.Direction.DESC, "createdAt");
+    private static Object parseTemporal(String text) {
+        try {
+            return text.contains("T") ? OffsetDateTime.parse(text).toInstant() : LocalDate.parse(text);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static ApplicationStatus parseStatus(String text) {
+        try {
+            return ApplicationStatus.valueOf(text.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String jpaField(String odataField) {
+        return ALLOWED_FILTER_FIELDS.contains(odataField) ? FIELD_MAP.get(odataField) : null;
+    }
+
+    private static Predicate toPredicate(FilterNode node, Root<Application> root, CriteriaBuilder cb) {
+        if (node instanceof FilterNode.And and) {
+            return cb.and(toPredicates(and.children(), root, cb));
+        }
+        if (node instanceof FilterNode.Or or) {
+            return cb.or(toPredicates(or.children(), root, cb));
+        }
+        if (node instanceof FilterNode.Not not) {
+            return cb.not(toPredicate(not.child(), root, cb));
+        }
+        if (node instanceof FilterNode.In in) {
+            return root.get(in.field()).in(in.values());
+        }
+        if (node instanceof FilterNode.Contains contains) {
+            Path<String> path = root.get(contains.field());
+            return cb.like(cb.lower(path), "%" + escapeLike(contains.value()) + "%", LIKE_ESCAPE);
+        }
+        if (node instanceof FilterNode.StartsWith startsWith) {
+            return toPrefixLike(startsWith, root, cb);
+        }
+        return toComparison((FilterNode.Comparison) node, root, cb);
+    }
+
+    private static Predicate[] toPredicates(List<FilterNode> nodes, Root<Application> root, CriteriaBuilder cb) {
+        Predicate[] predicates = new Predicate[nodes.size()];
+        for (int i = 0; i < nodes.size(); i++) {
+            predicates[i] = toPredicate(nodes.get(i), root, cb);
         }
+        return predicates;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Predicate toComparison(FilterNode.Comparison comparison, Root<Application> root,
+                                          CriteriaBuilder cb) {
+        Path path = root.get(comparison.field());
+        Object value = comparison.value();
 
-        List<String> allowedOrderFields = List.of(
-                "status", "current_step", "created_at", "updated_at", "submitted_at", "loan_amount");
+        if (value == null) {
+            return comparison.operator() == FilterNode.Operator.EQ ? cb.isNull(path) : cb.isNotNull(path);
+        }
+        if (value instanceof LocalDate date) {
+            return toDayRange(comparison.operator(), date, path, cb);
+        }
 
-        List<org.springframework.data.domain.Sort.Order> orders = new ArrayList<>();
+        Comparable comparable = (Comparable) value;
+        switch (comparison.operator()) {
+            case EQ:
+                return cb.equal(path, comparable);
+            case NE:
+                return cb.notEqual(path, comparable);
+            case GT:
+                return cb.greaterThan(path, comparable);
+            case GE:
+                return cb.greaterThanOrEqualTo(path, comparable);
+            case LT:
+                return cb.lessThan(path, comparable);
+            default:
+                return cb.lessThanOrEqualTo(path, comparable);
+        }
+    }
+
+    // A bare date against a timestamp column means the whole UTC day: [start, next day)
+    private static Predicate toDayRange(FilterNode.Operator operator, LocalDate date, Path<Instant> path,
+                                        CriteriaBuilder cb) {
+        Instant start = date.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant end = date.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+        switch (operator) {
+            case EQ:
+                return cb.and(cb.greaterThanOrEqualTo(path, start), cb.lessThan(path, end));
+            case NE:
+                return cb.or(cb.lessThan(path, start), cb.greaterThanOrEqualTo(path, end));
+            case GT:
+                return cb.greaterThanOrEqualTo(path, end);
+            case GE:
+                return cb.greaterThanOrEqualTo(path, start);
+            case LT:
+                return cb.lessThan(path, start);
+            default:
+                return cb.lessThan(path, end);
+        }
+    }
+
+    // A plain anchored LIKE. Under a linguistic collation (en_US.UTF-8) a col >= prefix range is not
+    // the same set of rows as LIKE 'prefix%', so the seek comes from a text_pattern_ops index
+    // (db/migration/006_application_number_prefix_index.sql), which PostgreSQL uses for anchored
+    // LIKE whatever the column collation.
+    private static Predicate toPrefixLike(FilterNode.StartsWith startsWith, Root<Application> root,
+                                          CriteriaBuilder cb) {
+        String prefix = startsWith.prefix();
+        if (prefix.isEmpty()) {
+            return cb.conjunction();
+        }
+        Path<String> path = root.get(startsWith.field());
+        return cb.like(path, escapeLike(prefix) + "%", LIKE_ESCAPE);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static BadRequestException invalid(String detail) {
+        return new BadRequestException("Invalid $filter: " + detail);
+    }
+
+    private static Sort compileOrderby(String orderbyStr) {
+        List<Sort.Order> orders = new ArrayList<>();
         String[] parts = orderbyStr.split(",");
 
         for (String part : parts) {
             String[] tokens = part.trim().split("\\s+");
             String field = tokens[0];
-            if (!allowedOrderFields.contains(field)) continue;
+            if (!ALLOWED_ORDER_FIELDS.contains(field)) continue;
             String jpaField = FIELD_MAP.getOrDefault(field, field);
-            org.springframework.data.domain.Sort.Direction dir =
-                    (tokens.length > 1 && "asc".equalsIgnoreCase(tokens[1]))
-                            ? org.springframework.data.domain.Sort.Direction.ASC
-                            : org.springframework.data.domain.Sort.Direction.DESC;
-            orders.add(new org.springframework.data.domain.Sort.Order(dir, jpaField));
+            Sort.Direction dir = (tokens.length > 1 && "asc".equalsIgnoreCase(tokens[1]))
+                    ? Sort.Direction.ASC
+                    : Sort.Direction.DESC;
+            orders.add(new Sort.Order(dir, jpaField));
         }
 
-        return orders.isEmpty()
-                ? org.springframework.data.domain.Sort.by(org.springframework.data.domain.Sort.Direction.DESC, "createdAt")
-                : org.springframework.data.domain.Sort.by(orders);
+        return orders.isEmpty() ? DEFAULT_SORT : Sort.by(orders);
+    }
+
+    static int cachedFilterPlans() {
+        return FILTER_PLANS.size();
     }
 }
@@ -0,0 +1,97 @@
+// backend/src/main/java/com/autoloan/backend/service/ApplicationStateMachine.java
+package com.autoloan.backend.service;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.model.enums.Role;
+import com.autoloan.backend.model.enums.WorkflowAction;
+
+// The application lifecycle as one table: for each (status, role), the actions allowed next.
+// Everything else (any-role checks, status-to-status moves) is precomputed from it at class
+// load into EnumMaps of EnumSets, so every lookup is an array index plus a bit test.
+public final class ApplicationStateMachine {
+
+    private static final Set<Role> APPLICANT = EnumSet.of(Role.CUSTOMER);
+    private static final Set<Role> STAFF = EnumSet.of(Role.LOAN_OFFICER, Role.UNDERWRITER);
+
+    private static final Map<ApplicationStatus, Map<Role, Set<WorkflowAction>>> ACTIONS =
+            new EnumMap<>(ApplicationStatus.class);
+    private static final Map<ApplicationStatus, Set<WorkflowAction>> ANY_ROLE_ACTIONS =
+            new EnumMap<>(ApplicationStatus.class);
+    private static final Map<ApplicationStatus, Map<Role, Set<ApplicationStatus>>> NEXT_STATUSES =
+            new EnumMap<>(ApplicationStatus.class);
+    private static final Map<Role, Set<WorkflowAction>> ROLE_ACTIONS = new EnumMap<>(Role.class);
+
+    static {
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            Map<Role, Set<WorkflowAction>> byRole = new EnumMap<>(Role.class);
+            Map<Role, Set<ApplicationStatus>> nextByRole = new EnumMap<>(Role.class);
+            for (Role role : Role.values()) {
+                byRole.put(role, EnumSet.noneOf(WorkflowAction.class));
+                nextByRole.put(role, EnumSet.noneOf(ApplicationStatus.class));
+            }
+            ACTIONS.put(status, byRole);
+            NEXT_STATUSES.put(status, nextByRole);
+            ANY_ROLE_ACTIONS.put(status, EnumSet.noneOf(WorkflowAction.class));
+        }
+        for (Role role : Role.values()) {
+            ROLE_ACTIONS.put(role, EnumSet.noneOf(WorkflowAction.class));
+        }
+
+        allow(WorkflowAction.SUBMIT, APPLICANT, ApplicationStatus.DRAFT);
+        allow(WorkflowAction.START_VERIFICATION, STAFF, ApplicationStatus.SUBMITTED);
+        allow(WorkflowAction.MOVE_TO_REVIEW, STAFF,
+                ApplicationStatus.UNDER_REVIEW, ApplicationStatus.PENDING_DOCUMENTS);
+        allow(WorkflowAction.REQUEST_DOCUMENTS, STAFF,
+                ApplicationStatus.SUBMITTED, ApplicationStatus.UNDER_REVIEW);
+        allow(WorkflowAction.APPROVE, STAFF, ApplicationStatus.UNDER_REVIEW, ApplicationStatus.SUBMITTED);
+        allow(WorkflowAction.REJECT, STAFF, ApplicationStatus.UNDER_REVIEW, ApplicationStatus.SUBMITTED);
+        allow(WorkflowAction.SIGN, APPLICANT, ApplicationStatus.APPROVED);
+
+        ACTIONS.values().forEach(byRole -> byRole.replaceAll((role, set) -> Collections.unmodifiableSet(set)));
+        ANY_ROLE_ACTIONS.replaceAll((status, set) -> Collections.unmodifiableSet(set));
+    }
+
+    private ApplicationStateMachine() {
+    }
+
+    private static void allow(WorkflowAction action, Set<Role> roles, ApplicationStatus... from) {
+        for (ApplicationStatus status : from) {
+            for (Role role : roles) {
+                ACTIONS.get(status).get(role).add(action);
+                NEXT_STATUSES.get(status).get(role).add(action.getTarget());
+                ROLE_ACTIONS.get(role).add(action);
+            }
+            ANY_ROLE_ACTIONS.get(status).add(action);
+        }
+    }
+
+    // Role checks for the caller happen in @PreAuthorize; this answers whether the status permits it
+    public static boolean isAllowed(ApplicationStatus from, WorkflowAction action) {
+        return ANY_ROLE_ACTIONS.get(from).contains(action);
+    }
+
+    public static boolean isAllowed(ApplicationStatus from, Role role, WorkflowAction action) {
+        return ACTIONS.get(from).get(role).contains(action);
+    }
+
+    // Whether the role may take the action from any status at all
+    public static boolean isPerformableBy(WorkflowAction action, Role role) {
+        return ROLE_ACTIONS.get(role).contains(action);
+    }
+
+    public static Set<WorkflowAction> allowedActions(ApplicationStatus from, Role role) {
+        return ACTIONS.get(from).get(role);
+    }
+
+    // Direct status moves (PATCH /loans/{id}/status) may only follow an edge the role could
+    // reach through one of its actions
+    public static boolean canTransition(ApplicationStatus from, ApplicationStatus to, Role role) {
+        return NEXT_STATUSES.get(from).get(role).contains(to);
+    }
+}
@@ -1,41 +1,69 @@
 // backend/src/main/java/com/autoloan/backend/service/ApplicationWorkflowService.java
 package com.autoloan.backend.service;
 
+import com.autoloan.backend.dto.application.AllowedActionsResponse;
 import com.autoloan.backend.dto.application.ApplicationApprovalRequest;
+import com.autoloan.backend.dto.application.BulkActionRequest;
+import com.autoloan.backend.dto.application.BulkActionResponse;
+import com.autoloan.backend.dto.application.BulkActionResult;
 import com.autoloan.backend.dto.application.StatusHistoryResponse;
 import com.autoloan.backend.dto.loan.LoanApplicationResponse;
+import com.autoloan.backend.event.ApplicationStatusChanged;
+import com.autoloan.backend.event.DomainEventPublisher;
 import com.autoloan.backend.exception.BadRequestException;
 import com.autoloan.backend.exception.ResourceNotFoundException;
 import com.autoloan.backend.model.Application;
 import com.autoloan.backend.model.StatusHistory;
 import com.autoloan.backend.model.Vehicle;
 import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.model.enums.Role;
+import com.autoloan.backend.model.enums.WorkflowAction;
 import com.autoloan.backend.repository.ApplicationRepository;
 import com.autoloan.backend.repository.StatusHistoryRepository;
 import com.autoloan.backend.repository.VehicleRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class ApplicationWorkflowService {
 
+    static final int MAX_BULK_IDS = 200;
+
     private final ApplicationRepository applicationRepository;
     private final StatusHistoryRepository statusHistoryRepository;
     private final VehicleRepository vehicleRepository;
+    private final ApplicationResponseCache responseCache;
+    private final ApplicationQueueCounters queueCounters;
+    private final TransitionRetry transitionRetry;
+    private final DomainEventPublisher eventPublisher;
 
     public ApplicationWorkflowService(ApplicationRepository applicationRepository,
                                        StatusHistoryRepository statusHistoryRepository,
-                                       VehicleRepository vehicleRepository) {
+                                       VehicleRepository vehicleRepository,
+                                       ApplicationResponseCache responseCache,
+                                       ApplicationQueueCounters queueCounters,
+                                       TransitionRetry transitionRetry,
+                                       DomainEventPublisher eventPublisher) {
         this.applicationRepository = applicationRepository;
         this.statusHistoryRepository = statusHistoryRepository;
         this.vehicleRepository = vehicleRepository;
+        this.responseCache = responseCache;
+        this.queueCounters = queueCounters;
+        this.transitionRetry = transitionRetry;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
-    public LoanApplicationResponse updateStatus(Long applicationId, Long userId,
+    public LoanApplicationResponse updateStatus(Long applicationId, Long userId, Role role,
                                                  String status, String comment) {
         Application app = getApplication(applicationId);
         ApplicationStatus newStatus;
@@ -48,6 +76,10 @@ public class ApplicationWorkflowService {
         if (app.getStatus() == newStatus) {
             throw new BadRequestException("Application is already in status " + status);
         }
+        if (!ApplicationStateMachine.canTransition(app.getStatus(), newStatus, role)) {
+            throw new BadRequestException("Cannot move application from " + app.getStatus().name()
+                    + " to " + newStatus.name());
+        }
 
         if (newStatus == ApplicationStatus.APPROVED || newStatus == ApplicationStatus.REJECTED) {
             app.setDecidedAt(Instant.now());
@@ -57,70 +89,122 @@ public class ApplicationWorkflowService {
                 comment != null ? comment : "Status updated to " + newStatus.name());
     }
 
-    @Transactional
     public LoanApplicationResponse startVerification(Long applicationId, Long userId) {
-        Application app = getApplication(applicationId);
-        validateStatus(app, ApplicationStatus.SUBMITTED);
-        return transition(app, ApplicationStatus.UNDER_REVIEW, userId, "Verification started");
+        return perform(applicationId, userId, WorkflowAction.START_VERIFICATION, null, null);
     }
 
-    @Transactional
     public LoanApplicationResponse moveToReview(Long applicationId, Long userId) {
-        Application app = getApplication(applicationId);
-        if (app.getStatus() != ApplicationStatus.UNDER_REVIEW
-                && app.getStatus() != ApplicationStatus.PENDING_DOCUMENTS) {
-            throw new BadRequestException("Application must be under review or pending documents");
-        }
-        return transition(app, ApplicationStatus.UNDER_REVIEW, userId, "Moved to review");
+        return perform(applicationId, userId, WorkflowAction.MOVE_TO_REVIEW, null, null);
     }
 
-    @Transactional
     public LoanApplicationResponse requestDocuments(Long applicationId, Long userId) {
-        Application app = getApplication(applicationId);
-        if (app.getStatus() != ApplicationStatus.SUBMITTED
-                && app.getStatus() != ApplicationStatus.UNDER_REVIEW) {
-            throw new BadRequestException("Application must be submitted or under review");
-        }
-        return transition(app, ApplicationStatus.PENDING_DOCUMENTS, userId, "Documents requested");
+        return perform(applicationId, userId, WorkflowAction.REQUEST_DOCUMENTS, null, null);
     }
 
-    @Transactional
     public LoanApplicationResponse approve(Long applicationId, Long userId,
                                             ApplicationApprovalRequest request) {
-        Application app = getApplication(applicationId);
-        if (app.getStatus() != ApplicationStatus.UNDER_REVIEW
-                && app.getStatus() != ApplicationStatus.SUBMITTED) {
-            throw new BadRequestException("Application must be under review or submitted");
+        return perform(applicationId, userId, WorkflowAction.APPROVE, request, null);
+    }
+
+    public LoanApplicationResponse reject(Long applicationId, Long userId, String reason) {
+        return perform(applicationId, userId, WorkflowAction.REJECT, null, reason);
+    }
+
+    // One action over many applications in a single transaction: one IN query to load them,
+    // validation in memory, and the updates and history rows flushed as JDBC batches.
+    // Ids that are missing or not in a valid status are reported and left untouched.
+    // A version conflict re-runs the whole batch for idempotent actions (see TransitionRetry).
+    public BulkActionResponse bulkAction(BulkActionRequest request, Long userId, Role role) {
+        WorkflowAction action = WorkflowAction.fromParameter(request.getAction());
+        if (action == null) {
+            throw new BadRequestException("Unknown action: " + request.getAction());
+        }
+        if (!ApplicationStateMachine.isPerformableBy(action, role)) {
+            throw new BadRequestException("Action not permitted: " + request.getAction());
         }
+        List<Long> ids = bulkIds(request.getIds());
 
-        if (request != null) {
-            if (request.getLoanTerm() != null) app.setLoanTerm(request.getLoanTerm());
-            if (request.getInterestRate() != null) app.setInterestRate(request.getInterestRate());
-            if (request.getMonthlyPayment() != null) app.setMonthlyPayment(request.getMonthlyPayment());
+        ApplicationApprovalRequest terms = approvalTerms(request);
+        return transitionRetry.execute(action, attempt -> applyBulk(action, ids, terms, request.getReason(),
+                userId, role, attempt));
+    }
+
+    // Next actions the caller's role may take; applicants only see their own applications
+    @Transactional(readOnly = true)
+    public AllowedActionsResponse getAllowedActions(Long applicationId, Long userId, Role role) {
+        List<ApplicationRepository.IdStatus> found = applicationRepository.findStatusesByIdIn(List.of(applicationId));
+        if (found.isEmpty() || (role == Role.CUSTOMER && !found.get(0).getUserId().equals(userId))) {
+            throw new ResourceNotFoundException("Application not found");
         }
+        return toAllowedActions(found.get(0), role);
+    }
 
-        app.setDecidedAt(Instant.now());
-        return transition(app, ApplicationStatus.APPROVED, userId, "Application approved");
+    // Bulk form for staff queues: one id/status query for the whole selection, then table lookups.
+    // Unknown ids are left out of the result.
+    @Transactional(readOnly = true)
+    public List<AllowedActionsResponse> getAllowedActions(List<Long> applicationIds, Role role) {
+        return applicationRepository.findStatusesByIdIn(bulkIds(applicationIds)).stream()
+                .map(row -> toAllowedActions(row, role))
+                .toList();
     }
 
-    @Transactional
-    public LoanApplicationResponse reject(Long applicationId, Long userId, String reason) {
-        Application app = getApplication(applicationId);
-        if (app.getStatus() != ApplicationStatus.UNDER_REVIEW
-                && app.getStatus() != ApplicationStatus.SUBMITTED) {
-            throw new BadRequestException("Application must be under review or submitted");
+    private static List<Long> bulkIds(List<Long> requested) {
+        List<Long> ids = requested == null ? List.of()
+                : requested.stream().filter(Objects::nonNull).distinct().toList();
+        if (ids.isEmpty()) {
+            throw new BadRequestException("At least one application id is required");
         }
+        if (ids.size() > MAX_BULK_IDS) {
+            throw new BadRequestException("At most " + MAX_BULK_IDS + " applications per bulk action");
+        }
+        return ids;
+    }
 
-        app.setRejectionReason(reason);
-        app.setDecidedAt(Instant.now());
-        return transition(app, ApplicationStatus.REJECTED, userId,
-                reason != null ? "Rejected: " + reason : "Application rejected");
+    private static AllowedActionsResponse toAllowedActions(ApplicationRepository.IdStatus row, Role role) {
+        List<String> actions = ApplicationStateMachine.allowedActions(row.getStatus(), role).stream()
+                .map(WorkflowAction::getPath)
+                .toList();
+        return new AllowedActionsResponse(row.getId(), row.getStatus().name(), actions);
+    }
+
+    private BulkActionResponse applyBulk(WorkflowAction action, List<Long> ids, ApplicationApprovalRequest terms,
+                                         String reason, Long userId, Role role, int attempt) {
+        Map<Long, Application> apps = applicationRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Application::getId, Function.identity()));
+
+        List<BulkActionResult> results = new ArrayList<>(ids.size());
+        List<Application> changed = new ArrayList<>();
+        List<StatusHistory> histories = new ArrayList<>();
+        for (Long id : ids) {
+            Application app = apps.get(id);
+            if (app == null) {
+                results.add(new BulkActionResult(id, false, null, "Application not found"));
+            } else if (alreadyApplied(app, action, attempt)) {
+                results.add(new BulkActionResult(id, true, app.getStatus().name(), null));
+            } else if (!ApplicationStateMachine.isAllowed(app.getStatus(), role, action)) {
+                results.add(new BulkActionResult(id, false, app.getStatus().name(), action.getInvalidStatusMessage()));
+            } else {
+                applyDecision(app, action, terms, reason);
+                histories.add(applyTransition(app, action.getTarget(), userId, commentFor(action, reason)));
+                changed.add(app);
+                results.add(new BulkActionResult(id, true, app.getStatus().name(), null));
+            }
+        }
+
+        if (!changed.isEmpty()) {
+            applicationRepository.saveAll(changed);
+            statusHistoryRepository.saveAll(histories);
+        }
+        long succeeded = results.stream().filter(BulkActionResult::isSuccess).count();
+        return new BulkActionResponse(action.name(), (int) succeeded, results.size() - (int) succeeded, results);
     }
 
     @Transactional
     public LoanApplicationResponse sign(Long applicationId, Long userId, String signatureData) {
         Application app = getApplication(applicationId);
-        validateStatus(app, ApplicationStatus.APPROVED);
+        if (!ApplicationStateMachine.isAllowed(app.getStatus(), WorkflowAction.SIGN)) {
+            throw new BadRequestException(WorkflowAction.SIGN.getInvalidStatusMessage());
+        }
 
         if (!app.getUserId().equals(userId)) {
             throw new BadRequestException("Only the applicant can sign the application");
@@ -129,46 +213,148 @@ public class ApplicationWorkflowService {
         app.setSignatureData(signatureData);
         app.setSignedAt(Instant.now());
         app.setAgreementAccepted(true);
-        return transition(app, ApplicationStatus.SIGNED, userId, "Application signed");
+        return transition(app, WorkflowAction.SIGN.getTarget(), userId, WorkflowAction.SIGN.getComment());
     }
 
     public List<StatusHistoryResponse> getHistory(Long applicationId) {
-        applicationRepository.findById(applicationId)
-                .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
+        return getHistory(applicationId, null);
+    }
 
-        return statusHistoryRepository.findByApplicationIdOrderByCreatedAtDesc(applicationId).stream()
+    // Newest (highest id) first. With since, only entries appended after that history id. History ids come
+    // straight from the database sequence (no per-JVM blocks), and every row is written together with a
+    // version-checked update of its application: a transition that committed after another one took its id
+    // after that one committed too, so per application ids grow in commit order.
+    // The application is only looked up when there is nothing to return.
+    @Transactional(readOnly = true)
+    public List<StatusHistoryResponse> getHistory(Long applicationId, Long since) {
+        if (since != null && since < 0) {
+            throw new BadRequestException("since must be a history id");
+        }
+        List<StatusHistory> entries = since == null
+                ? statusHistoryRepository.findByApplicationIdOrderByIdDesc(applicationId)
+                : statusHistoryRepository.findByApplicationIdAndIdGreaterThanOrderByIdDesc(applicationId, since);
+        if (entries.isEmpty()) {
+            requireApplication(applicationId);
+        }
+        return entries.stream()
                 .map(this::toHistoryResponse)
                 .toList();
     }
 
+    // Weak validator for the timeline, from one index-only aggregate; polls compare it before
+    // any history row is read
+    @Transactional(readOnly = true)
+    public String getHistoryTag(Long applicationId) {
+        StatusHistoryRepository.HistoryVersion version = statusHistoryRepository.findVersionByApplicationId(applicationId);
+        if (version.getTotal() == 0) {
+            requireApplication(applicationId);
+            return "W/\"0\"";
+        }
+        return "W/\"" + version.getLatestId() + "-" + version.getTotal() + "\"";
+    }
+
+    private void requireApplication(Long applicationId) {
+        if (!applicationRepository.existsById(applicationId)) {
+            throw new ResourceNotFoundException("Application not found");
+        }
+    }
+
     private Application getApplication(Long applicationId) {
         return applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
     }
 
-    private void validateStatus(Application app, ApplicationStatus expected) {
-        if (app.getStatus() != expected) {
-            throw new BadRequestException("Application status must be " + expected.name());
+    private LoanApplicationResponse perform(Long applicationId, Long userId, WorkflowAction action,
+                                            ApplicationApprovalRequest terms, String reason) {
+        return transitionRetry.execute(action, attempt -> {
+            Application app = getApplication(applicationId);
+            if (alreadyApplied(app, action, attempt)) {
+                return toResponse(app, vehicleRepository.findByApplicationId(app.getId()).orElse(null));
+            }
+            if (!ApplicationStateMachine.isAllowed(app.getStatus(), action)) {
+                throw new BadRequestException(action.getInvalidStatusMessage());
+            }
+            applyDecision(app, action, terms, reason);
+            return transition(app, action.getTarget(), userId, commentFor(action, reason));
+        });
+    }
+
+    // On a retry, an idempotent action whose target the concurrent writer already reached is done
+    private static boolean alreadyApplied(Application app, WorkflowAction action, int attempt) {
+        return attempt > 1 && action.isIdempotent() && app.getStatus() == action.getTarget();
+    }
+
+    private void applyDecision(Application app, WorkflowAction action,
+                               ApplicationApprovalRequest terms, String reason) {
+        if (action == WorkflowAction.APPROVE) {
+            if (terms != null) {
+                if (terms.getLoanTerm() != null) app.setLoanTerm(terms.getLoanTerm());
+                if (terms.getInterestRate() != null) app.setInterestRate(terms.getInterestRate());
+                if (terms.getMonthlyPayment() != null) app.setMonthlyPayment(terms.getMonthlyPayment());
+            }
+            // Once the terms are complete the payment is computed, not taken from the request
+            if (app.getLoanAmount() != null && app.getInterestRate() != null && app.getLoanTerm() != null) {
+                app.setMonthlyPayment(monthlyPayment(app));
+            }
+            app.setDecidedAt(Instant.now());
+        } else if (action == WorkflowAction.REJECT) {
+            app.setRejectionReason(reason);
+            app.setDecidedAt(Instant.now());
         }
     }
 
+    private static BigDecimal monthlyPayment(Application app) {
+        BigDecimal downPayment = app.getDownPayment() != null ? app.getDownPayment() : BigDecimal.ZERO;
+        return Amortization.toAmount(Amortization.monthlyPaymentCents(
+                Amortization.toCents(app.getLoanAmount().subtract(downPayment)),
+                Amortization.toBasisPoints(app.getInterestRate()), app.getLoanTerm()));
+    }
+
+    private static String commentFor(WorkflowAction action, String reason) {
+        if (action == WorkflowAction.REJECT && reason != null) {
+            return "Rejected: " + reason;
+        }
+        return action.getComment();
+    }
+
+    private static ApplicationApprovalRequest approvalTerms(BulkActionRequest request) {
+        ApplicationApprovalRequest terms = new ApplicationApprovalRequest();
+        terms.setLoanTerm(request.getLoanTerm());
+        terms.setInterestRate(request.getInterestRate());
+        terms.setMonthlyPayment(request.getMonthlyPayment());
+        return terms;
+    }
+
     private LoanApplicationResponse transition(Application app, ApplicationStatus newStatus,
                                                 Long userId, String comment) {
-        String fromStatus = app.getStatus().name();
-        app.setStatus(newStatus);
+        StatusHistory history = applyTransition(app, newStatus, userId, comment);
         Application saved = applicationRepository.save(app);
+        statusHistoryRepository.save(history);
 
-        StatusHistory history = StatusHistory.builder()
+        Vehicle vehicle = vehicleRepository.findByApplicationId(app.getId()).orElse(null);
+        return toResponse(saved, vehicle);
+    }
+
+    // Moves the status and returns the (unsaved) history row describing the change
+    private StatusHistory applyTransition(Application app, ApplicationStatus newStatus,
+                                          Long userId, String comment) {
+        ApplicationStatus from = app.getStatus();
+        Instant now = Instant.now();
+        app.setStatus(newStatus);
+        app.setStatusEnteredAt(now);
+        responseCache.invalidate(app.getId());
+        queueCounters.recordTransition(from, newStatus);
+        // Notification and audit run after commit on the event executors, not on this request
+        eventPublisher.publish(new ApplicationStatusChanged(app.getId(), app.getApplicationNumber(),
+                app.getUserId(), userId, from, newStatus, comment, now));
+
+        return StatusHistory.builder()
                 .applicationId(app.getId())
                 .userId(userId)
-                .fromStatus(fromStatus)
+                .fromStatus(from.name())
                 .toStatus(newStatus.name())
                 .comment(comment)
                 .build();
-        statusHistoryRepository.save(history);
-
-        Vehicle vehicle = vehicleRepository.findByApplicationId(app.getId()).orElse(null);
-        return toResponse(saved, vehicle);
     }
 
     private LoanApplicationResponse toResponse(Application app, Vehicle vehicle) {
@@ -2,6 +2,8 @@ package com.autoloan.backend.service;
 
 import com.autoloan.backend.dto.document.DocumentResponse;
 import com.autoloan.backend.dto.document.DocumentStatusUpdateRequest;
+import com.autoloan.backend.event.DocumentUploaded;
+import com.autoloan.backend.event.DomainEventPublisher;
 import com.autoloan.backend.exception.BadRequestException;
 import com.autoloan.backend.exception.ResourceNotFoundException;
 import com.autoloan.backend.model.Application;
@@ -15,77 +17,76 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Instant;
 import java.util.List;
-import java.util.UUID;
 
 @Service
 public class DocumentService {
 
     private final DocumentRepository documentRepository;
     private final ApplicationRepository applicationRepository;
-
-    private static final String UPLOAD_DIR = "uploads/documents";
-    private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
+    private final ApplicationResponseCache responseCache;
+    private final DomainEventPublisher eventPublisher;
+    private final DocumentStorage documentStorage;
 
     public DocumentService(DocumentRepository documentRepository,
-                           ApplicationRepository applicationRepository) {
+                           ApplicationRepository applicationRepository,
+                           ApplicationResponseCache responseCache,
+                           DomainEventPublisher eventPublisher,
+                           DocumentStorage documentStorage) {
         this.documentRepository = documentRepository;
         this.applicationRepository = applicationRepository;
+        this.responseCache = responseCache;
+        this.eventPublisher = eventPublisher;
+        this.documentStorage = documentStorage;
     }
 
-    @Transactional
+    // Not transactional: the application is read and the document saved in short transactions of
+    // their own, so no connection is held while the file is written
     public DocumentResponse uploadDocument(Long applicationId, Long userId,
                                            String docTypeStr, MultipartFile file) {
-        Application app = applicationRepository.findById(applicationId)
-                .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
-
-        if (!app.getUserId().equals(userId)) {
-            throw new ResourceNotFoundException("Application not found");
-        }
+        Application app = ownedApplication(applicationId, userId);
 
         if (file.isEmpty()) {
             throw new BadRequestException("File is empty");
         }
 
-        if (file.getSize() > MAX_FILE_SIZE) {
+        if (file.getSize() > DocumentStorage.MAX_FILE_SIZE) {
             throw new BadRequestException("File size exceeds maximum of 10MB");
         }
 
-        DocumentType docType;
-        try {
-            docType = DocumentType.valueOf(docTypeStr.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            throw new BadRequestException("Invalid document type: " + docTypeStr);
+        DocumentType docType = docType(docTypeStr);
+        try (InputStream in = file.getInputStream()) {
+            return store(app, docType, file.getOriginalFilename(), file.getContentType(), in);
+        } catch (IOException e) {
+            throw new BadRequestException("Failed to store file: " + e.getMessage());
         }
+    }
 
-        String storedFileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
-        String fileUrl = UPLOAD_DIR + "/" + storedFileName;
+    // Raw request body, read once straight to disk; contentLength is -1 when the client did not send one
+    public DocumentResponse uploadDocumentStream(Long applicationId, Long userId, String docTypeStr,
+                                                 String fileName, String contentType, long contentLength,
+                                                 InputStream body) {
+        Application app = ownedApplication(applicationId, userId);
 
+        if (fileName == null || fileName.isBlank()) {
+            throw new BadRequestException("File name is required");
+        }
+
+        if (contentLength > DocumentStorage.MAX_FILE_SIZE) {
+            throw new BadRequestException("File size exceeds maximum of 10MB");
+        }
+
+        DocumentType docType = docType(docTypeStr);
         try {
-            Path uploadPath = Paths.get(UPLOAD_DIR);
-            Files.createDirectories(uploadPath);
-            Files.copy(file.getInputStream(), uploadPath.resolve(storedFileName));
+            return store(app, docType, fileName, contentType, body);
         } catch (IOException e) {
             throw new BadRequestException("Failed to store file: " + e.getMessage());
         }
-
-        Document document = Document.builder()
-                .applicationId(applicationId)
-                .docType(docType)
-                .fileName(file.getOriginalFilename())
-                .fileUrl(fileUrl)
-                .fileSize((int) file.getSize())
-                .contentType(file.getContentType())
-                .status(DocumentStatus.UPLOADED)
-                .uploadedAt(Instant.now())
-                .build();
-
-        Document saved = documentRepository.save(document);
-        return toResponse(saved);
     }
 
     public List<DocumentResponse> getDocumentsByApplication(Long applicationId, Long userId) {
@@ -136,6 +137,7 @@ public class DocumentService {
         }
 
         documentRepository.delete(document);
+        responseCache.invalidate(document.getApplicationId());
     }
 
     @Transactional
@@ -169,6 +171,7 @@ public class DocumentService {
         }
 
         Document saved = documentRepository.save(document);
+        responseCache.invalidate(saved.getApplicationId());
         return toResponse(saved);
     }
 
@@ -178,6 +181,53 @@ public class DocumentService {
         return document.getFileUrl();
     }
 
+    private Application ownedApplication(Long applicationId, Long userId) {
+        Application app = applicationRepository.findById(applicationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
+
+        if (!app.getUserId().equals(userId)) {
+            throw new ResourceNotFoundException("Application not found");
+        }
+        return app;
+    }
+
+    private static DocumentType docType(String docTypeStr) {
+        try {
+            return DocumentType.valueOf(docTypeStr.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid document type: " + docTypeStr);
+        }
+    }
+
+    private DocumentResponse store(Application app, DocumentType docType, String fileName,
+                                   String contentType, InputStream in) throws IOException {
+        DocumentStorage.StoredFile stored = documentStorage.store(in, fileName);
+
+        Document document = Document.builder()
+                .applicationId(app.getId())
+                .docType(docType)
+                .fileName(fileName)
+                .fileUrl(stored.fileUrl())
+                .fileSize((int) stored.size())
+                .contentType(contentType)
+                .sha256(stored.sha256())
+                .status(DocumentStatus.UPLOADED)
+                .uploadedAt(Instant.now())
+                .build();
+
+        Document saved;
+        try {
+            saved = documentRepository.save(document);
+        } catch (RuntimeException e) {
+            documentStorage.delete(stored);
+            throw e;
+        }
+        responseCache.invalidate(app.getId());
+        eventPublisher.publish(new DocumentUploaded(saved.getId(), app.getId(), app.getApplicationNumber(),
+                app.getUserId(), docType, saved.getUploadedAt()));
+        return toResponse(saved);
+    }
+
     private DocumentResponse toResponse(Document doc) {
         DocumentResponse response = new DocumentResponse();
         response.setId(doc.getId());
@@ -186,6 +236,7 @@ public class DocumentService {
         response.setFileUrl(doc.getFileUrl());
         response.setFileSize(doc.getFileSize());
         response.setContentType(doc.getContentType());
+        response.setSha256(doc.getSha256());
         response.setStatus(doc.getStatus().name());
         response.setRequestNote(doc.getRequestNote());
         response.setRejectionNote(doc.getRejectionNote());
@@ -0,0 +1,119 @@
+// backend/src/main/java/com/autoloan/backend/service/DocumentStorage.java
+package com.autoloan.backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.autoloan.backend.exception.BadRequestException;
+
+// Uploaded document files on local disk. An upload is read once, in fixed-size chunks: each chunk
+// is hashed, counted against the size limit and written to a temp file in the same directory,
+// which is moved into place only when the stream ends. Memory per upload is one chunk whatever
+// the file size, and readers never see a partial file.
+@Service
+public class DocumentStorage {
+
+    private static final Logger logger = LoggerFactory.getLogger(DocumentStorage.class);
+
+    public static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private final long maxBytes;
+
+    public record StoredFile(Path path, String fileUrl, long size, String sha256) {
+    }
+
+    @Autowired
+    public DocumentStorage(@Value("${app.documents.dir:uploads/documents}") String directory) {
+        this(Path.of(directory), MAX_FILE_SIZE);
+    }
+
+    DocumentStorage(Path directory, long maxBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+    }
+
+    // Stops reading as soon as the limit is passed, so an oversized body costs at most one chunk
+    // beyond it. The caller owns the input stream.
+    public StoredFile store(InputStream in, String originalFilename) throws IOException {
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, "upload-", ".tmp");
+        try {
+            MessageDigest sha256 = sha256();
+            byte[] chunk = new byte[CHUNK_SIZE];
+            long size = 0;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                for (int read = in.read(chunk); read != -1; read = in.read(chunk)) {
+                    size += read;
+                    if (size > maxBytes) {
+                        throw new BadRequestException("File size exceeds maximum of " + maxBytes / (1024 * 1024) + "MB");
+                    }
+                    sha256.update(chunk, 0, read);
+                    ByteBuffer buffer = ByteBuffer.wrap(chunk, 0, read);
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                }
+            }
+            if (size == 0) {
+                throw new BadRequestException("File is empty");
+            }
+
+            String storedFileName = UUID.randomUUID() + "_" + safeName(originalFilename);
+            Path file = directory.resolve(storedFileName);
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+            return new StoredFile(file, directory + "/" + storedFileName, size,
+                    HexFormat.of().formatHex(sha256.digest()));
+        } finally {
+            delete(temp);
+        }
+    }
+
+    public void delete(StoredFile stored) {
+        delete(stored.path());
+    }
+
+    // The client's name is kept on the record; on disk only its last segment, in a safe alphabet
+    static String safeName(String originalFilename) {
+        if (originalFilename == null || originalFilename.isBlank()) {
+            return "file";
+        }
+        String name = originalFilename.substring(Math.max(originalFilename.lastIndexOf('/'),
+                originalFilename.lastIndexOf('\\')) + 1);
+        name = name.replaceAll("[^A-Za-z0-9._-]", "_");
+        return name.isEmpty() || name.chars().allMatch(c -> c == '.') ? "file" : name;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 not available", e);
+        }
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete document file {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+// backend/src/main/java/com/autoloan/backend/service/ExportFormat.java
+package com.autoloan.backend.service;
+
+import com.autoloan.backend.exception.BadRequestException;
+
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ExportFormat fromParameter(String format) {
+        if (format == null || format.isBlank()) {
+            return NDJSON;
+        }
+        for (ExportFormat candidate : values()) {
+            if (candidate.extension.equalsIgnoreCase(format.trim())) {
+                return candidate;
+            }
+        }
+        throw new BadRequestException("Invalid format: expected ndjson or csv");
+    }
+}
@@ -0,0 +1,93 @@
+// backend/src/main/java/com/autoloan/backend/service/KeysetCursor.java
+package com.autoloan.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import com.autoloan.backend.exception.BadRequestException;
+import com.autoloan.backend.model.enums.ApplicationStatus;
+
+public final class KeysetCursor {
+
+    // Keyset comparisons cannot express NULL ordering, so only non-null columns may
+    // drive a cursor; submitted_at and loan_amount orderings are dropped in this mode.
+    private static final Map<String, Function<String, Object>> KEY_PARSERS = Map.of(
+            "id", Long::valueOf,
+            "status", ApplicationStatus::valueOf,
+            "currentStep", Integer::valueOf,
+            "createdAt", Instant::parse,
+            "updatedAt", Instant::parse
+    );
+
+    private KeysetCursor() {
+    }
+
+    public static Sort keysetSort(Sort sort) {
+        List<Sort.Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            if (KEY_PARSERS.containsKey(order.getProperty()) && !"id".equals(order.getProperty())) {
+                orders.add(order);
+            }
+        }
+        if (orders.isEmpty()) {
+            orders.add(Sort.Order.desc("createdAt"));
+        }
+        Sort.Direction tieBreaker = orders.get(orders.size() - 1).getDirection();
+        orders.add(new Sort.Order(tieBreaker, "id"));
+        return Sort.by(orders);
+    }
+
+    public static KeysetScrollPosition decode(String token, Sort sort) {
+        if (token == null || token.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        Set<String> expected = sort.stream().map(Sort.Order::getProperty).collect(Collectors.toSet());
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            for (String pair : decoded.split(";")) {
+                String[] kv = pair.split("=", 2);
+                if (kv.length != 2 || !expected.contains(kv[0])) {
+                    throw new BadRequestException("Invalid $skiptoken");
+                }
+                keys.put(kv[0], KEY_PARSERS.get(kv[0]).apply(kv[1]));
+            }
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BadRequestException("Invalid $skiptoken");
+        }
+
+        if (!keys.keySet().equals(expected)) {
+            throw new BadRequestException("$skiptoken does not match $orderby");
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    public static String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalArgumentException("Only keyset positions can be encoded");
+        }
+        StringJoiner joiner = new StringJoiner(";");
+        keyset.getKeys().forEach((key, value) -> joiner.add(key + "=" + serializeKey(value)));
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String serializeKey(Object value) {
+        return value instanceof Enum<?> e ? e.name() : String.valueOf(value);
+    }
+}
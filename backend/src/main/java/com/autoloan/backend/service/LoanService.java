@@ -1,26 +1,39 @@
 // backend/src/main/java/com/autoloan/backend/service/LoanService.java
 package com.autoloan.backend.service;
 
+import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.OptionalLong;
 import java.util.UUID;
 
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.autoloan.backend.dto.loan.CountKind;
+import com.autoloan.backend.dto.loan.CursorPaginatedResponse;
 import com.autoloan.backend.dto.loan.LoanApplicationRequest;
 import com.autoloan.backend.dto.loan.LoanApplicationResponse;
 import com.autoloan.backend.dto.loan.PaginatedResponse;
+import com.autoloan.backend.dto.loan.PaymentScheduleResponse;
+import com.autoloan.backend.dto.loan.ScheduledPayment;
 import com.autoloan.backend.exception.BadRequestException;
 import com.autoloan.backend.exception.ResourceNotFoundException;
 import com.autoloan.backend.model.Application;
 import com.autoloan.backend.model.Vehicle;
 import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.model.enums.Role;
+import com.autoloan.backend.model.enums.WorkflowAction;
 import com.autoloan.backend.repository.ApplicationRepository;
+import com.autoloan.backend.repository.ApplicationRow;
 import com.autoloan.backend.repository.VehicleRepository;
 
 @Service
@@ -28,11 +41,20 @@ public class LoanService {
 
     private final ApplicationRepository applicationRepository;
     private final VehicleRepository vehicleRepository;
+    private final ApplicationCountEstimator countEstimator;
+    private final ApplicationResponseCache responseCache;
+    private final ApplicationQueueCounters queueCounters;
 
     public LoanService(ApplicationRepository applicationRepository,
-                       VehicleRepository vehicleRepository) {
+                       VehicleRepository vehicleRepository,
+                       ApplicationCountEstimator countEstimator,
+                       ApplicationResponseCache responseCache,
+                       ApplicationQueueCounters queueCounters) {
         this.applicationRepository = applicationRepository;
         this.vehicleRepository = vehicleRepository;
+        this.countEstimator = countEstimator;
+        this.responseCache = responseCache;
+        this.queueCounters = queueCounters;
     }
 
     @Transactional
@@ -41,6 +63,7 @@ public class LoanService {
         app.setApplicationNumber("APP-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase());
         app.setUserId(userId);
         app.setStatus(ApplicationStatus.DRAFT);
+        app.setStatusEnteredAt(Instant.now());
         app.setCurrentStep(1);
         app.setDob(request.getDob());
         app.setLoanAmount(request.getLoanAmount());
@@ -61,23 +84,54 @@ public class LoanService {
         vehicle.setEstimatedValue(request.getVehicleEstimatedValue());
 
         vehicleRepository.save(vehicle);
+        queueCounters.recordCreated(saved.getStatus());
 
         return toResponse(saved, vehicle);
     }
 
     public LoanApplicationResponse getApplication(Long applicationId, Long userId) {
-        Application app = applicationRepository.findById(applicationId)
-                .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
+        LoanApplicationResponse response = responseCache.get(applicationId, this::loadApplicationResponse);
 
-        if (!app.getUserId().equals(userId)) {
+        if (!response.getUserId().equals(userId)) {
             throw new ResourceNotFoundException("Application not found");
         }
-
-        Vehicle vehicle = vehicleRepository.findByApplicationId(applicationId).orElse(null);
-        return toResponse(app, vehicle);
+        return response;
     }
 
     public LoanApplicationResponse getApplicationById(Long applicationId) {
+        return responseCache.get(applicationId, this::loadApplicationResponse);
+    }
+
+    // Month-by-month schedule for the application's current terms, built from the cached
+    // response; staff may read any application, customers only their own
+    public PaymentScheduleResponse getPaymentSchedule(Long applicationId, Long userId, Role role) {
+        LoanApplicationResponse app = role == Role.LOAN_OFFICER || role == Role.UNDERWRITER
+                ? getApplicationById(applicationId)
+                : getApplication(applicationId, userId);
+        if (app.getLoanAmount() == null || app.getInterestRate() == null || app.getLoanTerm() == null) {
+            throw new BadRequestException("Loan amount, interest rate and term are required for a schedule");
+        }
+
+        BigDecimal downPayment = app.getDownPayment() != null ? app.getDownPayment() : BigDecimal.ZERO;
+        long principal = Amortization.toCents(app.getLoanAmount().subtract(downPayment));
+        Amortization.Schedule schedule = Amortization.schedule(principal,
+                Amortization.toBasisPoints(app.getInterestRate()), app.getLoanTerm());
+
+        List<ScheduledPayment> payments = new ArrayList<>(schedule.installments().size());
+        for (Amortization.Installment installment : schedule.installments()) {
+            payments.add(new ScheduledPayment(installment.number(),
+                    Amortization.toAmount(installment.paymentCents()),
+                    Amortization.toAmount(installment.principalCents()),
+                    Amortization.toAmount(installment.interestCents()),
+                    Amortization.toAmount(installment.balanceCents())));
+        }
+        return new PaymentScheduleResponse(applicationId, Amortization.toAmount(principal), app.getInterestRate(),
+                app.getLoanTerm(), Amortization.toAmount(schedule.paymentCents()),
+                Amortization.toAmount(schedule.totalOfPaymentsCents()),
+                Amortization.toAmount(schedule.totalInterestCents()), payments);
+    }
+
+    private LoanApplicationResponse loadApplicationResponse(Long applicationId) {
         Application app = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
         Vehicle vehicle = vehicleRepository.findByApplicationId(applicationId).orElse(null);
@@ -85,27 +139,113 @@ public class LoanService {
     }
 
     public List<LoanApplicationResponse> getUserApplications(Long userId) {
-        return applicationRepository.findByUserId(userId).stream()
-                .map(app -> {
-                    Vehicle vehicle = vehicleRepository.findByApplicationId(app.getId()).orElse(null);
-                    return toResponse(app, vehicle);
-                })
-                .toList();
+        return toResponses(applicationRepository.findRows(ApplicationSpecification.withUserId(userId), Sort.unsorted()));
     }
 
     public List<LoanApplicationResponse> getAllApplications() {
-        return applicationRepository.findAll().stream()
-                .map(app -> {
-                    Vehicle vehicle = vehicleRepository.findByApplicationId(app.getId()).orElse(null);
-                    return toResponse(app, vehicle);
-                })
-                .toList();
+        return toResponses(applicationRepository.findRows(ApplicationSpecification.noOp(), Sort.unsorted()));
     }
 
     public PaginatedResponse<LoanApplicationResponse> getApplicationsPaginated(
             Long userId, String filter, String orderby, String status,
             int page, int perPage) {
+        return getApplicationsPaginated(userId, filter, orderby, status, null, page, perPage);
+    }
+
+    // $count: absent/true runs COUNT(*), false skips it, estimate reads planner statistics
+    // and falls back to an exact count for query shapes the statistics can't answer
+    public PaginatedResponse<LoanApplicationResponse> getApplicationsPaginated(
+            Long userId, String filter, String orderby, String status, String count,
+            int page, int perPage) {
+
+        CountKind countKind = parseCount(count);
+        Specification<Application> spec = buildSpecification(userId, filter, status);
+        Sort sort = ApplicationSpecification.parseOdataOrderby(orderby);
+        PageRequest pageRequest = PageRequest.of(Math.max(0, page - 1), Math.max(1, perPage), sort);
+
+        OptionalLong estimate = countKind == CountKind.ESTIMATE
+                ? estimateCount(userId, filter, status)
+                : OptionalLong.empty();
+
+        if (countKind == CountKind.EXACT || (countKind == CountKind.ESTIMATE && estimate.isEmpty())) {
+            List<ApplicationRow> rows = applicationRepository.findRows(
+                    spec, sort, pageRequest.getOffset(), pageRequest.getPageSize());
+            // COUNT(*) is skipped when this page alone shows where the result set ends
+            Page<ApplicationRow> result = PageableExecutionUtils.getPage(
+                    rows, pageRequest, () -> applicationRepository.count(spec));
+            return new PaginatedResponse<>(toResponses(rows), page, perPage,
+                    result.getTotalElements(), result.getTotalPages());
+        }
 
+        // Fetches one extra row to learn whether a next page exists, without COUNT(*)
+        List<ApplicationRow> rows = applicationRepository.findRows(
+                spec, sort, pageRequest.getOffset(), pageRequest.getPageSize() + 1);
+        boolean hasMore = rows.size() > pageRequest.getPageSize();
+        if (hasMore) {
+            rows = rows.subList(0, pageRequest.getPageSize());
+        }
+        List<LoanApplicationResponse> data = toResponses(rows);
+
+        if (countKind == CountKind.NONE) {
+            return new PaginatedResponse<>(data, page, perPage, null, null, CountKind.NONE, hasMore);
+        }
+
+        // Statistics lag behind writes; never report fewer rows than this page proves exist
+        long seen = pageRequest.getOffset() + rows.size() + (hasMore ? 1 : 0);
+        long total = Math.max(estimate.getAsLong(), seen);
+        int totalPages = (int) Math.ceil((double) total / pageRequest.getPageSize());
+        return new PaginatedResponse<>(data, page, perPage, total, totalPages, CountKind.ESTIMATE, hasMore);
+    }
+
+    private OptionalLong estimateCount(Long userId, String filter, String status) {
+        if (userId != null || (filter != null && !filter.isBlank())) {
+            return OptionalLong.empty();
+        }
+        if (status == null || status.isBlank()) {
+            return countEstimator.estimate(null);
+        }
+        try {
+            return countEstimator.estimate(ApplicationStatus.valueOf(status.trim().toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    private static CountKind parseCount(String count) {
+        if (count == null || count.isBlank() || "true".equalsIgnoreCase(count)) {
+            return CountKind.EXACT;
+        }
+        if ("false".equalsIgnoreCase(count)) {
+            return CountKind.NONE;
+        }
+        if ("estimate".equalsIgnoreCase(count)) {
+            return CountKind.ESTIMATE;
+        }
+        throw new BadRequestException("Invalid $count: expected true, false or estimate");
+    }
+
+    // Keyset mode: seeks past the last row of the previous page, so deep pages cost
+    // the same as the first and no COUNT(*) is issued.
+    public CursorPaginatedResponse<LoanApplicationResponse> getApplicationsByCursor(
+            Long userId, String filter, String orderby, String status,
+            String skipToken, int perPage) {
+
+        Specification<Application> spec = buildSpecification(userId, filter, status);
+        Sort sort = KeysetCursor.keysetSort(ApplicationSpecification.parseOdataOrderby(orderby));
+        KeysetScrollPosition position = KeysetCursor.decode(skipToken, sort);
+        int limit = Math.max(1, perPage);
+
+        Window<ApplicationRow> window = applicationRepository.scrollRows(spec, sort, limit, position);
+
+        List<LoanApplicationResponse> data = toResponses(window.getContent());
+        String nextSkipToken = window.hasNext() && !window.isEmpty()
+                ? KeysetCursor.encode(window.positionAt(window.size() - 1))
+                : null;
+
+        return new CursorPaginatedResponse<>(data, limit, nextSkipToken, window.hasNext());
+    }
+
+    static Specification<Application> buildSpecification(Long userId, String filter, String status) {
         Specification<Application> spec = ApplicationSpecification.noOp();
 
         if (userId != null) {
@@ -117,20 +257,7 @@ public class LoanService {
         if (filter != null && !filter.isBlank()) {
             spec = spec.and(ApplicationSpecification.fromOdataFilter(filter));
         }
-
-        Sort sort = ApplicationSpecification.parseOdataOrderby(orderby);
-        PageRequest pageRequest = PageRequest.of(Math.max(0, page - 1), Math.max(1, perPage), sort);
-
-        Page<Application> result = applicationRepository.findAll(spec, pageRequest);
-
-        List<LoanApplicationResponse> data = result.getContent().stream()
-                .map(app -> {
-                    Vehicle vehicle = vehicleRepository.findByApplicationId(app.getId()).orElse(null);
-                    return toResponse(app, vehicle);
-                })
-                .toList();
-
-        return new PaginatedResponse<>(data, page, perPage, result.getTotalElements(), result.getTotalPages());
+        return spec;
     }
 
     @Transactional
@@ -163,6 +290,7 @@ public class LoanService {
             vehicleRepository.save(vehicle);
         }
 
+        responseCache.invalidate(applicationId);
         return toResponse(saved, vehicle);
     }
 
@@ -180,6 +308,8 @@ public class LoanService {
         }
 
         applicationRepository.delete(app);
+        responseCache.invalidate(applicationId);
+        queueCounters.recordDeleted(app.getStatus());
     }
 
     @Transactional
@@ -191,18 +321,53 @@ public class LoanService {
             throw new ResourceNotFoundException("Application not found");
         }
 
-        if (app.getStatus() != ApplicationStatus.DRAFT) {
-            throw new BadRequestException("Only draft applications can be submitted");
+        if (!ApplicationStateMachine.isAllowed(app.getStatus(), WorkflowAction.SUBMIT)) {
+            throw new BadRequestException(WorkflowAction.SUBMIT.getInvalidStatusMessage());
         }
 
+        Instant now = Instant.now();
         app.setStatus(ApplicationStatus.SUBMITTED);
-        app.setSubmittedAt(Instant.now());
+        app.setStatusEnteredAt(now);
+        app.setSubmittedAt(now);
         Application saved = applicationRepository.save(app);
+        responseCache.invalidate(applicationId);
+        queueCounters.recordTransition(ApplicationStatus.DRAFT, ApplicationStatus.SUBMITTED);
 
         Vehicle vehicle = vehicleRepository.findByApplicationId(applicationId).orElse(null);
         return toResponse(saved, vehicle);
     }
 
+    // Vehicle columns come back on the same row, so a page costs one query (plus COUNT(*))
+    private List<LoanApplicationResponse> toResponses(List<ApplicationRow> rows) {
+        return rows.stream().map(LoanService::toResponse).toList();
+    }
+
+    static LoanApplicationResponse toResponse(ApplicationRow row) {
+        LoanApplicationResponse response = new LoanApplicationResponse();
+        response.setId(row.id());
+        response.setApplicationNumber(row.applicationNumber());
+        response.setStatus(row.status().name());
+        response.setCurrentStep(row.currentStep());
+        response.setDob(row.dob());
+        response.setLoanAmount(row.loanAmount());
+        response.setDownPayment(row.downPayment());
+        response.setLoanTerm(row.loanTerm());
+        response.setInterestRate(row.interestRate());
+        response.setMonthlyPayment(row.monthlyPayment());
+        response.setRejectionReason(row.rejectionReason());
+        response.setUserId(row.userId());
+        response.setSubmittedAt(row.submittedAt());
+        response.setDecidedAt(row.decidedAt());
+        response.setCreatedAt(row.createdAt());
+        response.setUpdatedAt(row.updatedAt());
+        response.setVehicleMake(row.vehicleMake());
+        response.setVehicleModel(row.vehicleModel());
+        response.setVehicleYear(row.vehicleYear());
+        response.setVehicleTrim(row.vehicleTrim());
+        response.setVehicleVin(row.vehicleVin());
+        return response;
+    }
+
     private LoanApplicationResponse toResponse(Application app, Vehicle vehicle) {
         LoanApplicationResponse response = new LoanApplicationResponse();
         response.setId(app.getId());
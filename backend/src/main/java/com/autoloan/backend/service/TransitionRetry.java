@@ -0,0 +1,89 @@
+// backend/src/main/java/com/autoloan/backend/service/TransitionRetry.java
+package com.autoloan.backend.service;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.autoloan.backend.exception.ConflictException;
+import com.autoloan.backend.model.enums.WorkflowAction;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Runs a workflow transition in its own transaction and handles @Version conflicts on Application.
+// Idempotent actions are re-run from a fresh read (bounded attempts, jittered backoff); decisions
+// (approve/reject) and exhausted retries surface as 409 so the officer re-reads before acting.
+@Service
+public class TransitionRetry {
+
+    private static final Logger logger = LoggerFactory.getLogger(TransitionRetry.class);
+
+    private static final String METRIC = "app.workflow.conflicts";
+
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int maxAttempts;
+    private final long backoffMs;
+
+    public TransitionRetry(PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.workflow.retry.max-attempts:3}") int maxAttempts,
+                           @Value("${app.workflow.retry.backoff-ms:20}") long backoffMs) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMs = backoffMs;
+    }
+
+    // work receives the 1-based attempt number
+    public <T> T execute(WorkflowAction action, IntFunction<T> work) {
+        // Inside a caller's transaction a conflict poisons the whole unit; only the caller can retry
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.apply(1);
+        }
+        for (int attempt = 1; ; attempt++) {
+            final int current = attempt;
+            try {
+                return transactionTemplate.execute(status -> work.apply(current));
+            } catch (OptimisticLockingFailureException ex) {
+                if (!action.isIdempotent()) {
+                    count(action, "rejected");
+                    throw new ConflictException(ConflictException.CONCURRENT_MODIFICATION);
+                }
+                if (attempt >= maxAttempts) {
+                    count(action, "exhausted");
+                    logger.warn("{} still conflicting after {} attempts", action, attempt);
+                    throw new ConflictException(ConflictException.CONCURRENT_MODIFICATION);
+                }
+                count(action, "retried");
+                backoff(attempt);
+            }
+        }
+    }
+
+    private void count(WorkflowAction action, String outcome) {
+        meterRegistry.counter(METRIC, "action", action.name(), "outcome", outcome).increment();
+    }
+
+    private void backoff(int attempt) {
+        if (backoffMs <= 0) {
+            return;
+        }
+        // Jitter keeps two officers who collided once from colliding again in lockstep
+        long delay = backoffMs * attempt + ThreadLocalRandom.current().nextLong(backoffMs + 1);
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException(ConflictException.CONCURRENT_MODIFICATION);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+// backend/src/main/java/com/autoloan/backend/service/odata/FilterLexer.java
+package com.autoloan.backend.service.odata;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.autoloan.backend.exception.BadRequestException;
+
+public final class FilterLexer {
+
+    private FilterLexer() {
+    }
+
+    public static List<FilterToken> tokenize(String input) {
+        List<FilterToken> tokens = new ArrayList<>();
+        int i = 0;
+        int length = input.length();
+
+        while (i < length) {
+            char c = input.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(') {
+                tokens.add(new FilterToken(FilterToken.Type.LPAREN, "("));
+                i++;
+            } else if (c == ')') {
+                tokens.add(new FilterToken(FilterToken.Type.RPAREN, ")"));
+                i++;
+            } else if (c == ',') {
+                tokens.add(new FilterToken(FilterToken.Type.COMMA, ","));
+                i++;
+            } else if (c == '\'' || c == '"') {
+                i = readString(input, i, tokens);
+            } else {
+                int start = i;
+                while (i < length && !isDelimiter(input.charAt(i))) {
+                    i++;
+                }
+                tokens.add(new FilterToken(FilterToken.Type.WORD, input.substring(start, i)));
+            }
+        }
+
+        tokens.add(new FilterToken(FilterToken.Type.END, ""));
+        return tokens;
+    }
+
+    // Collapses whitespace outside quoted literals so equivalent filters share a cache entry
+    public static String normalize(String input) {
+        StringBuilder sb = new StringBuilder(input.length());
+        char quote = 0;
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (quote == 0 && Character.isWhitespace(c)) {
+                pendingSpace = sb.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                sb.append(' ');
+                pendingSpace = false;
+            }
+            if (quote == 0 && (c == '\'' || c == '"')) {
+                quote = c;
+            } else if (c == quote) {
+                quote = 0;
+            }
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    // OData escapes a quote inside a string literal by doubling it: 'O''Brien'
+    private static int readString(String input, int start, List<FilterToken> tokens) {
+        char quote = input.charAt(start);
+        StringBuilder value = new StringBuilder();
+        int i = start + 1;
+
+        while (i < input.length()) {
+            char c = input.charAt(i);
+            if (c == quote) {
+                if (i + 1 < input.length() && input.charAt(i + 1) == quote) {
+                    value.append(quote);
+                    i += 2;
+                    continue;
+                }
+                tokens.add(new FilterToken(FilterToken.Type.STRING, value.toString()));
+                return i + 1;
+            }
+            value.append(c);
+            i++;
+        }
+        throw new BadRequestException("Invalid $filter: unterminated string literal");
+    }
+
+    private static boolean isDelimiter(char c) {
+        return Character.isWhitespace(c) || c == '(' || c == ')' || c == ',' || c == '\'' || c == '"';
+    }
+}
@@ -0,0 +1,48 @@
+// backend/src/main/java/com/autoloan/backend/service/odata/FilterNode.java
+package com.autoloan.backend.service.odata;
+
+import java.util.List;
+
+public sealed interface FilterNode {
+
+    enum Operator {
+        EQ, NE, GT, GE, LT, LE;
+
+        static Operator fromToken(FilterToken token) {
+            if (token.type() != FilterToken.Type.WORD) {
+                return null;
+            }
+            for (Operator op : values()) {
+                if (op.name().equalsIgnoreCase(token.text())) {
+                    return op;
+                }
+            }
+            return null;
+        }
+    }
+
+    // An empty conjunction matches everything; unsupported clauses compile to it
+    record And(List<FilterNode> children) implements FilterNode {
+        public static final And MATCH_ALL = new And(List.of());
+    }
+
+    // An empty disjunction matches nothing
+    record Or(List<FilterNode> children) implements FilterNode {
+        public static final Or MATCH_NONE = new Or(List.of());
+    }
+
+    record Not(FilterNode child) implements FilterNode {
+    }
+
+    record Comparison(String field, Operator operator, Object value) implements FilterNode {
+    }
+
+    record In(String field, List<Object> values) implements FilterNode {
+    }
+
+    record Contains(String field, String value) implements FilterNode {
+    }
+
+    record StartsWith(String field, String prefix) implements FilterNode {
+    }
+}
@@ -0,0 +1,201 @@
+// backend/src/main/java/com/autoloan/backend/service/odata/FilterParser.java
+package com.autoloan.backend.service.odata;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import com.autoloan.backend.exception.BadRequestException;
+
+// filter  := or
+// or      := and ('or' and)*
+// and     := unary ('and' unary)*
+// unary   := 'not' unary | primary
+// primary := '(' or ')' | function '(' args ')' | field 'in' '(' values ')' | field op value
+public final class FilterParser {
+
+    private static final int MAX_DEPTH = 32;
+
+    private static final Pattern INTEGER = Pattern.compile("-?\\d+");
+    private static final Pattern DECIMAL = Pattern.compile("-?(\\d+\\.\\d+|\\d+\\.\\d+[mM]|\\d+[mM])");
+    private static final Pattern DATE = Pattern.compile("\\d{4}-\\d{2}-\\d{2}");
+    private static final Pattern DATE_TIME = Pattern.compile("\\d{4}-\\d{2}-\\d{2}T.+");
+
+    private final List<FilterToken> tokens;
+    private int position;
+    private int depth;
+
+    private FilterParser(List<FilterToken> tokens) {
+        this.tokens = tokens;
+    }
+
+    public static FilterNode parse(String filter) {
+        FilterParser parser = new FilterParser(FilterLexer.tokenize(filter));
+        FilterNode node = parser.parseOr();
+        parser.expect(FilterToken.Type.END);
+        return node;
+    }
+
+    private FilterNode parseOr() {
+        List<FilterNode> terms = new ArrayList<>();
+        terms.add(parseAnd());
+        while (peek().isWord("or")) {
+            position++;
+            terms.add(parseAnd());
+        }
+        return terms.size() == 1 ? terms.get(0) : new FilterNode.Or(terms);
+    }
+
+    private FilterNode parseAnd() {
+        List<FilterNode> clauses = new ArrayList<>();
+        clauses.add(parseUnary());
+        while (peek().isWord("and")) {
+            position++;
+            clauses.add(parseUnary());
+        }
+        return clauses.size() == 1 ? clauses.get(0) : new FilterNode.And(clauses);
+    }
+
+    private FilterNode parseUnary() {
+        if (++depth > MAX_DEPTH) {
+            throw error("expression is nested too deeply");
+        }
+        try {
+            if (peek().isWord("not")) {
+                position++;
+                return new FilterNode.Not(parseUnary());
+            }
+            if (peek().type() == FilterToken.Type.LPAREN) {
+                position++;
+                FilterNode inner = parseOr();
+                expect(FilterToken.Type.RPAREN);
+                return inner;
+            }
+            return parseClause();
+        } finally {
+            depth--;
+        }
+    }
+
+    private FilterNode parseClause() {
+        FilterToken field = next();
+        if (field.type() != FilterToken.Type.WORD) {
+            throw error("expected a field or function near '" + field.text() + "'");
+        }
+        if (peek().type() == FilterToken.Type.LPAREN) {
+            return parseFunction(field.text());
+        }
+        if (peek().isWord("in")) {
+            position++;
+            return new FilterNode.In(field.text(), parseValueList());
+        }
+
+        FilterToken opToken = next();
+        FilterNode.Operator operator = FilterNode.Operator.fromToken(opToken);
+        if (operator == null) {
+            throw error("unknown operator '" + opToken.text() + "'");
+        }
+        return new FilterNode.Comparison(field.text(), operator, literal(nextValue()));
+    }
+
+    private List<Object> parseValueList() {
+        expect(FilterToken.Type.LPAREN);
+        List<Object> values = new ArrayList<>();
+        values.add(literal(nextValue()));
+        while (peek().type() == FilterToken.Type.COMMA) {
+            position++;
+            values.add(literal(nextValue()));
+        }
+        expect(FilterToken.Type.RPAREN);
+        return Collections.unmodifiableList(values);
+    }
+
+    private FilterNode parseFunction(String name) {
+        expect(FilterToken.Type.LPAREN);
+        List<FilterToken> args = new ArrayList<>();
+        if (peek().type() != FilterToken.Type.RPAREN) {
+            args.add(nextValue());
+            while (peek().type() == FilterToken.Type.COMMA) {
+                position++;
+                args.add(nextValue());
+            }
+        }
+        expect(FilterToken.Type.RPAREN);
+
+        if (args.size() == 2 && args.get(0).type() == FilterToken.Type.WORD) {
+            String field = args.get(0).text();
+            String value = String.valueOf(literal(args.get(1)));
+            if ("contains".equalsIgnoreCase(name)) {
+                return new FilterNode.Contains(field, value);
+            }
+            if ("startswith".equalsIgnoreCase(name)) {
+                return new FilterNode.StartsWith(field, value);
+            }
+        }
+        // Unsupported functions are ignored the same way unknown fields are
+        return FilterNode.And.MATCH_ALL;
+    }
+
+    private FilterToken nextValue() {
+        FilterToken token = next();
+        if (token.type() != FilterToken.Type.WORD && token.type() != FilterToken.Type.STRING) {
+            throw error("expected a value near '" + token.text() + "'");
+        }
+        return token;
+    }
+
+    // Unquoted literals are typed the way OData does: 12, 5.25 / 5.25M, 2025-01-31,
+    // 2025-01-31T10:00:00Z, true/false, null. Anything else is kept as a bare string.
+    static Object literal(FilterToken token) {
+        String val = token.text();
+        if (token.type() == FilterToken.Type.STRING) return val;
+        if ("true".equalsIgnoreCase(val)) return true;
+        if ("false".equalsIgnoreCase(val)) return false;
+        if ("null".equalsIgnoreCase(val)) return null;
+        if (INTEGER.matcher(val).matches()) {
+            try {
+                return Integer.parseInt(val);
+            } catch (NumberFormatException e) {
+                return new BigDecimal(val);
+            }
+        }
+        if (DECIMAL.matcher(val).matches()) {
+            return new BigDecimal(val.replaceAll("[mM]$", ""));
+        }
+        try {
+            if (DATE.matcher(val).matches()) return LocalDate.parse(val);
+            if (DATE_TIME.matcher(val).matches()) return OffsetDateTime.parse(val).toInstant();
+        } catch (DateTimeParseException ignored) {
+            // falls through to a bare string, as unrecognised words always have
+        }
+        return val;
+    }
+
+    private FilterToken peek() {
+        return tokens.get(position);
+    }
+
+    private FilterToken next() {
+        FilterToken token = tokens.get(position);
+        if (token.type() != FilterToken.Type.END) {
+            position++;
+        }
+        return token;
+    }
+
+    private void expect(FilterToken.Type type) {
+        FilterToken token = next();
+        if (token.type() != type) {
+            throw error("unexpected '" + token.text() + "'");
+        }
+    }
+
+    private BadRequestException error(String detail) {
+        return new BadRequestException("Invalid $filter: " + detail);
+    }
+}
@@ -0,0 +1,18 @@
+// backend/src/main/java/com/autoloan/backend/service/odata/FilterToken.java
+package com.autoloan.backend.service.odata;
+
+public record FilterToken(Type type, String text) {
+
+    public enum Type {
+        WORD,
+        STRING,
+        LPAREN,
+        RPAREN,
+        COMMA,
+        END
+    }
+
+    public boolean isWord(String keyword) {
+        return type == Type.WORD && text.equalsIgnoreCase(keyword);
+    }
+}
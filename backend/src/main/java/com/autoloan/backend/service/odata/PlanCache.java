@@ -0,0 +1,53 @@
+// backend/src/main/java/com/autoloan/backend/service/odata/PlanCache.java
+package com.autoloan.backend.service.odata;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+// Bounded LRU of compiled query plans keyed by the normalized query-option string.
+// Plans are immutable, so a cached instance is shared by every request that hits it.
+public class PlanCache<V> {
+
+    private final int maxEntries;
+    private final Map<String, V> entries;
+
+    public PlanCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > PlanCache.this.maxEntries;
+            }
+        };
+    }
+
+    public V get(String raw, Function<String, V> compiler) {
+        String key = FilterLexer.normalize(raw);
+        synchronized (entries) {
+            V cached = entries.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // Compile outside the lock; two racing misses just compile the same plan twice
+        V compiled = compiler.apply(key);
+        synchronized (entries) {
+            entries.putIfAbsent(key, compiled);
+            return entries.get(key);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+-- Indexes that Hibernate's ddl-auto cannot express.
+-- contains(application_number,'...') compiles to lower(application_number) LIKE '%...%',
+-- which only a trigram index can serve. B-tree indexes are declared on the entity.
+-- Idempotent; run outside a transaction (CONCURRENTLY): psql -d <db> -f <this file>
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_app_application_number_trgm
+    ON applications USING gin (lower(application_number) gin_trgm_ops);
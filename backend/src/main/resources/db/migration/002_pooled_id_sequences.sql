@@ -0,0 +1,46 @@
+-- Moves primary keys from IDENTITY columns to pooled-lo sequences (INCREMENT BY 50), so
+-- Hibernate assigns ids in memory and can batch inserts. Existing ids are kept: each
+-- <table>_id_seq resumes above max(id) and never moves backwards, even when re-run while the
+-- application is up and holding id blocks. Run before starting a build with sequence ids;
+-- Hibernate refuses to start against a sequence whose increment is not the entity's
+-- allocationSize.
+-- Exception: status_histories stays at INCREMENT BY 1. History ids are the ?since= cursor of
+-- GET /loans/{id}/history and must grow in commit order per application; with per-JVM id
+-- blocks, two replicas (or a rolling deploy) could commit a lower id after a higher one.
+-- Idempotent: psql -d <db> -f <this file>
+
+DO $$
+DECLARE
+    tbl text;
+    seq text;
+    step int;
+    old_step bigint;
+    max_id bigint;
+    next_id bigint;
+BEGIN
+    FOREACH tbl IN ARRAY ARRAY[
+        'users', 'applications', 'vehicles', 'financial_infos', 'addresses', 'documents',
+        'status_histories', 'application_notes', 'api_keys', 'jwt_denylists', 'security_audit_logs'
+    ] LOOP
+        CONTINUE WHEN to_regclass(tbl) IS NULL;
+        seq := tbl || '_id_seq';
+        step := CASE WHEN tbl = 'status_histories' THEN 1 ELSE 50 END;
+
+        EXECUTE format('LOCK TABLE %I IN SHARE ROW EXCLUSIVE MODE', tbl);
+        EXECUTE format('SELECT coalesce(max(id), 0) FROM %I', tbl) INTO max_id;
+
+        -- Dropping the identity also drops its implicit sequence; serial columns keep theirs
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', tbl);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP DEFAULT', tbl);
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I', seq);
+
+        -- Past any block a running application may still be handing out under the old increment
+        SELECT increment_by INTO old_step FROM pg_sequences
+        WHERE schemaname = current_schema() AND sequencename = seq;
+        EXECUTE format('SELECT CASE WHEN is_called THEN last_value + %s ELSE last_value END FROM %I',
+                       old_step, seq)
+            INTO next_id;
+        EXECUTE format('ALTER SEQUENCE %I INCREMENT BY %s OWNED BY %I.id', seq, step, tbl);
+        PERFORM setval(seq, greatest(next_id, max_id + 1), false);
+    END LOOP;
+END $$;
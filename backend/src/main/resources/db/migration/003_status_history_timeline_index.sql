@@ -0,0 +1,9 @@
+-- The history timeline's ETag is count(id), max(id) per application, and the since cursor
+-- filters on id > ?. Both are index-only scans on (application_id, id), which also serves
+-- every lookup the old single-column index did, so that one is dropped.
+-- Idempotent; run outside a transaction (CONCURRENTLY): psql -d <db> -f <this file>
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_sh_app_id_id
+    ON status_histories (application_id, id);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_sh_app_id;
@@ -0,0 +1,8 @@
+-- Claim-next scans SUBMITTED applications oldest submission first and skips live leases.
+-- A partial index on just that queue keeps the scan short however many decided
+-- applications pile up. Partial indexes can't be declared on the entity.
+-- Idempotent; run outside a transaction (CONCURRENTLY): psql -d <db> -f <this file>
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_app_claim_queue
+    ON applications (submitted_at, id)
+    WHERE status = 'SUBMITTED';
@@ -0,0 +1,16 @@
+-- Backfills applications.status_entered_at for rows written before the column existed:
+-- the latest history row that moved the application into its current status, else
+-- submitted_at for SUBMITTED (submission writes no history row), else updated_at.
+-- The (status, status_entered_at) index is declared on the entity.
+-- Idempotent; only touches rows still NULL: psql -d <db> -f <this file>
+
+ALTER TABLE applications ADD COLUMN IF NOT EXISTS status_entered_at timestamp(6) with time zone;
+
+UPDATE applications a
+SET status_entered_at = coalesce(
+        (SELECT max(h.created_at)
+         FROM status_histories h
+         WHERE h.application_id = a.id AND h.to_status = a.status),
+        CASE WHEN a.status = 'SUBMITTED' THEN a.submitted_at END,
+        a.updated_at)
+WHERE a.status_entered_at IS NULL;
@@ -0,0 +1,7 @@
+-- startswith(application_number,'...') compiles to application_number LIKE 'prefix%'.
+-- A plain b-tree only serves that under the C collation; text_pattern_ops compares bytewise,
+-- so PostgreSQL can seek it for anchored LIKE whatever the database collation.
+-- Idempotent; run outside a transaction (CONCURRENTLY): psql -d <db> -f <this file>
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_app_application_number_pattern
+    ON applications (application_number text_pattern_ops);
@@ -0,0 +1,126 @@
+// backend/src/test/java/com/autoloan/backend/benchmark/AgreementPdfBenchmark.java
+package com.autoloan.backend.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.autoloan.backend.service.AgreementPdfTemplate;
+
+// Agreement PDFs per second. perRequestLayout reproduces the old buildPdf: new fonts, every
+// fixed string drawn and every centered line measured on each call. Add -prof gc for bytes
+// allocated per PDF (gc.alloc.rate.norm).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AgreementPdfBenchmark {
+
+    private static final String[] TERMS = {
+        "1. The Borrower agrees to repay the loan amount plus interest as specified above.",
+        "2. Late payments may result in additional fees and penalties.",
+        "3. The vehicle serves as collateral for this loan.",
+        "4. Full payoff is permitted at any time without prepayment penalty.",
+        "5. Borrower must maintain full coverage insurance on the vehicle.",
+    };
+
+    private final AgreementPdfTemplate template = new AgreementPdfTemplate();
+
+    private final AgreementPdfTemplate.Fields fields = new AgreementPdfTemplate.Fields(
+            "APP-1A2B3C4D", "March 10, 2026",
+            "Jane Doe", "123 Main St, Springfield, IL 62701", "555-1234", "jane@example.com",
+            "$25,000.00", "$5,000.00", "$20,000.00", "6.90%", "48 months",
+            "$478.00", "$22,943.86", "$2,943.86", "2024", "Toyota", "Camry", "1HGBH41JXMN109186");
+
+    @Benchmark
+    public byte[] template() {
+        return template.render(fields);
+    }
+
+    @Benchmark
+    public byte[] perRequestLayout() throws IOException {
+        try (PDDocument doc = new PDDocument()) {
+            PDPage page = new PDPage(PDRectangle.LETTER);
+            doc.addPage(page);
+            PDType1Font bold = new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD);
+            PDType1Font regular = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            float y = 740;
+            try (PDPageContentStream cs = new PDPageContentStream(doc, page)) {
+                y = centered(cs, page, bold, 20, "AUTO LOAN AGREEMENT", y) - 20;
+                y = centered(cs, page, regular, 12, "Loan Agreement #" + fields.applicationNumber(), y) - 15;
+                y = centered(cs, page, regular, 10, "Date: " + fields.date(), y) - 30;
+                y = section(cs, bold, "BORROWER INFORMATION", y);
+                y = row(cs, bold, regular, "Name:", fields.borrowerName(), y);
+                y = row(cs, bold, regular, "Address:", fields.address(), y);
+                y = row(cs, bold, regular, "Phone:", fields.phone(), y);
+                y = row(cs, bold, regular, "Email:", fields.email(), y) - 15;
+                y = section(cs, bold, "LOAN DETAILS", y);
+                y = row(cs, bold, regular, "Loan Amount:", fields.loanAmount(), y);
+                y = row(cs, bold, regular, "Down Payment:", fields.downPayment(), y);
+                y = row(cs, bold, regular, "Amount Financed:", fields.amountFinanced(), y);
+                y = row(cs, bold, regular, "APR:", fields.apr(), y);
+                y = row(cs, bold, regular, "Loan Term:", fields.loanTerm(), y);
+                y = row(cs, bold, regular, "Monthly Payment:", fields.monthlyPayment(), y);
+                y = row(cs, bold, regular, "Total of Payments:", fields.totalOfPayments(), y);
+                y = row(cs, bold, regular, "Total Interest:", fields.totalInterest(), y) - 15;
+                y = section(cs, bold, "VEHICLE INFORMATION", y);
+                y = row(cs, bold, regular, "Year:", fields.vehicleYear(), y);
+                y = row(cs, bold, regular, "Make:", fields.vehicleMake(), y);
+                y = row(cs, bold, regular, "Model:", fields.vehicleModel(), y);
+                y = row(cs, bold, regular, "VIN:", fields.vin(), y) - 15;
+                y = section(cs, bold, "TERMS AND CONDITIONS", y);
+                for (String term : TERMS) {
+                    y = text(cs, regular, 9, term, 50, y) - 4;
+                }
+                y = section(cs, bold, "SIGNATURES", y - 20);
+                cs.moveTo(50, y);
+                cs.lineTo(300, y);
+                cs.stroke();
+                text(cs, regular, 10, "Borrower: " + fields.borrowerName(), 50, y - 15);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            doc.save(out);
+            return out.toByteArray();
+        }
+    }
+
+    private static float centered(PDPageContentStream cs, PDPage page, PDType1Font font, float size,
+                                  String text, float y) throws IOException {
+        float x = (page.getMediaBox().getWidth() - font.getStringWidth(text) / 1000 * size) / 2;
+        return text(cs, font, size, text, x, y);
+    }
+
+    private static float section(PDPageContentStream cs, PDType1Font font, String text, float y) throws IOException {
+        text(cs, font, 13, text, 50, y);
+        return y - 20;
+    }
+
+    private static float row(PDPageContentStream cs, PDType1Font bold, PDType1Font regular,
+                             String label, String value, float y) throws IOException {
+        text(cs, bold, 10, label, 50, y);
+        text(cs, regular, 10, value, 210, y);
+        return y - 14;
+    }
+
+    private static float text(PDPageContentStream cs, PDType1Font font, float size, String text,
+                              float x, float y) throws IOException {
+        cs.beginText();
+        cs.setFont(font, size);
+        cs.newLineAtOffset(x, y);
+        cs.showText(text);
+        cs.endText();
+        return y - size - 2;
+    }
+}
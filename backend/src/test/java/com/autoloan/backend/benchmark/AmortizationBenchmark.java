@@ -0,0 +1,64 @@
+// backend/src/test/java/com/autoloan/backend/benchmark/AmortizationBenchmark.java
+package com.autoloan.backend.benchmark;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.autoloan.backend.service.Amortization;
+
+// Cost of one quote. bigDecimalPayment is the annuity formula in BigDecimal, the way payments
+// were worked out before the long-cents engine; monthlyPayment is what approval and the PDF call.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AmortizationBenchmark {
+
+    @Param({"36", "60", "84"})
+    public int term;
+
+    public long principalCents = 2_347_500;
+    public int rateBps = 690;
+
+    private BigDecimal principal;
+    private BigDecimal monthlyRate;
+
+    @Setup
+    public void setUp() {
+        principal = Amortization.toAmount(principalCents);
+        monthlyRate = BigDecimal.valueOf(rateBps).divide(BigDecimal.valueOf(120_000), MathContext.DECIMAL64);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalPayment() {
+        BigDecimal growth = BigDecimal.ONE.add(monthlyRate).pow(term, MathContext.DECIMAL64);
+        BigDecimal discount = BigDecimal.ONE.subtract(BigDecimal.ONE.divide(growth, MathContext.DECIMAL64));
+        return principal.multiply(monthlyRate).divide(discount, MathContext.DECIMAL64)
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @Benchmark
+    public long monthlyPayment() {
+        return Amortization.monthlyPaymentCents(principalCents, rateBps, term);
+    }
+
+    @Benchmark
+    public long totalInterest() {
+        return Amortization.totalInterestCents(principalCents, rateBps, term);
+    }
+
+    @Benchmark
+    public Amortization.Schedule schedule() {
+        return Amortization.schedule(principalCents, rateBps, term);
+    }
+}
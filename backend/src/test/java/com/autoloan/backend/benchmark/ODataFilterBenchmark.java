@@ -0,0 +1,64 @@
+// backend/src/test/java/com/autoloan/backend/benchmark/ODataFilterBenchmark.java
+package com.autoloan.backend.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.autoloan.backend.service.ApplicationSpecification;
+import com.autoloan.backend.service.odata.FilterNode;
+import com.autoloan.backend.service.odata.FilterParser;
+
+// Per-request cost of turning a $filter string into a query plan.
+// legacyRegexSplit reproduces the old split + Pattern.compile-per-operator path.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ODataFilterBenchmark {
+
+    private static final String[] OPERATORS = {"eq", "ne", "gt", "ge", "lt", "le"};
+
+    @Param({
+            "status eq 'SUBMITTED'",
+            "status eq 'SUBMITTED' and loan_term ge 36 and created_at gt 2025-01-01T00:00:00Z and contains(status,'sub')"
+    })
+    public String filter;
+
+    @Benchmark
+    public void legacyRegexSplit(Blackhole bh) {
+        for (String part : filter.split("(?i)\\s+and\\s+")) {
+            String trimmed = part.trim();
+            if (trimmed.toLowerCase().startsWith("contains(")) {
+                bh.consume(trimmed.substring(9).split(",", 2));
+                continue;
+            }
+            for (String op : OPERATORS) {
+                Matcher matcher = Pattern.compile("(?i)^(\\w+)\\s+" + op + "\\s+(.+)$").matcher(trimmed);
+                if (matcher.matches()) {
+                    bh.consume(matcher.group(1));
+                    bh.consume(matcher.group(2));
+                    break;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public FilterNode uncachedParse() {
+        return FilterParser.parse(filter);
+    }
+
+    @Benchmark
+    public Object cachedPlan() {
+        return ApplicationSpecification.fromOdataFilter(filter);
+    }
+}
@@ -81,6 +81,23 @@ class DocumentControllerTest {
                 .andExpect(jsonPath("$.status").value("UPLOADED"));
     }
 
+    @Test
+    void uploadDocumentStream_passesTheRawBodyThrough() throws Exception {
+        when(jwtTokenProvider.getUserIdFromToken("valid-token")).thenReturn(100L);
+        when(documentService.uploadDocumentStream(eq(10L), eq(100L), eq("DRIVERS_LICENSE"), eq("license.pdf"),
+                eq("application/pdf"), eq(1024L), any())).thenReturn(testResponse);
+
+        mockMvc.perform(post("/api/applications/10/documents/stream")
+                        .param("doc_type", "DRIVERS_LICENSE")
+                        .param("file_name", "license.pdf")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .content(new byte[1024])
+                        .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.status").value("UPLOADED"));
+    }
+
     @Test
     void getDocumentsByApplication_returns200() throws Exception {
         when(jwtTokenProvider.getUserIdFromToken("valid-token")).thenReturn(100L);
@@ -4,16 +4,21 @@ import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
 
+import com.autoloan.backend.dto.application.AllowedActionsResponse;
 import com.autoloan.backend.dto.application.ApplicationSignRequest;
 import com.autoloan.backend.dto.application.StatusHistoryResponse;
 import com.autoloan.backend.dto.loan.LoanApplicationRequest;
 import com.autoloan.backend.dto.loan.LoanApplicationResponse;
 import com.autoloan.backend.dto.loan.PaginatedResponse;
+import com.autoloan.backend.dto.loan.PaymentScheduleResponse;
+import com.autoloan.backend.dto.loan.ScheduledPayment;
 import com.autoloan.backend.exception.BadRequestException;
 import com.autoloan.backend.exception.GlobalExceptionHandler;
 import com.autoloan.backend.exception.ResourceNotFoundException;
+import com.autoloan.backend.model.enums.Role;
 import com.autoloan.backend.repository.ApplicationRepository;
 import com.autoloan.backend.security.JwtTokenProvider;
+import com.autoloan.backend.service.AgreementPdfService;
 import com.autoloan.backend.service.ApplicationWorkflowService;
 import com.autoloan.backend.service.LoanService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -26,10 +31,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
@@ -52,6 +60,9 @@ class LoanControllerTest {
     @Mock
     private ApplicationRepository applicationRepository;
 
+    @Mock
+    private AgreementPdfService agreementPdfService;
+
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
@@ -114,7 +125,7 @@ class LoanControllerTest {
                 List.of(loanResponse), 1, 20, 1, 1);
 
         when(jwtTokenProvider.getUserIdFromToken("valid-token")).thenReturn(1L);
-        when(loanService.getApplicationsPaginated(eq(1L), isNull(), isNull(), isNull(), eq(1), eq(20)))
+        when(loanService.getApplicationsPaginated(eq(1L), isNull(), isNull(), isNull(), isNull(), eq(1), eq(20)))
                 .thenReturn(paginatedResponse);
 
         mockMvc.perform(get("/api/loans")
@@ -265,6 +276,92 @@ class LoanControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    void paymentScheduleShouldReturn200() throws Exception {
+        when(jwtTokenProvider.getUserIdFromToken("valid-token")).thenReturn(1L);
+        when(jwtTokenProvider.getRoleFromToken("valid-token")).thenReturn("CUSTOMER");
+        when(loanService.getPaymentSchedule(1L, 1L, Role.CUSTOMER)).thenReturn(new PaymentScheduleResponse(
+                1L, new BigDecimal("1000.00"), new BigDecimal("0.00"), 2, new BigDecimal("500.00"),
+                new BigDecimal("1000.00"), new BigDecimal("0.00"), List.of(
+                        new ScheduledPayment(1, new BigDecimal("500.00"), new BigDecimal("500.00"),
+                                new BigDecimal("0.00"), new BigDecimal("500.00")),
+                        new ScheduledPayment(2, new BigDecimal("500.00"), new BigDecimal("500.00"),
+                                new BigDecimal("0.00"), new BigDecimal("0.00")))));
+
+        mockMvc.perform(get("/api/loans/1/schedule")
+                        .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.monthlyPayment").value(500.00))
+                .andExpect(jsonPath("$.payments.length()").value(2))
+                .andExpect(jsonPath("$.payments[1].balance").value(0.00));
+    }
+
+    @Test
+    void paymentScheduleWithIncompleteTermsShouldReturn400() throws Exception {
+        when(jwtTokenProvider.getUserIdFromToken("valid-token")).thenReturn(1L);
+        when(jwtTokenProvider.getRoleFromToken("valid-token")).thenReturn("CUSTOMER");
+        when(loanService.getPaymentSchedule(1L, 1L, Role.CUSTOMER))
+                .thenThrow(new BadRequestException("Loan amount, interest rate and term are required for a schedule"));
+
+        mockMvc.perform(get("/api/loans/1/schedule")
+                        .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void agreementPdfShouldReturnPdfWithStrongEtag() throws Exception {
+        when(jwtTokenProvider.getUserIdFromToken("valid-token")).thenReturn(1L);
+        when(jwtTokenProvider.getRoleFromToken("valid-token")).thenReturn("CUSTOMER");
+        when(agreementPdfService.generate(1L, 1L, "CUSTOMER")).thenReturn(new AgreementPdfService.PdfResult(
+                "loan_agreement_APP-0001.pdf", "\"ab12\"", -1, out -> out.write(new byte[] {'%', 'P', 'D', 'F'})));
+
+        MvcResult result = mockMvc.perform(get("/api/loans/1/agreement_pdf")
+                        .header("Authorization", "Bearer valid-token"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_PDF))
+                .andExpect(header().string("ETag", "\"ab12\""))
+                .andExpect(header().string("Cache-Control", "no-cache, private"))
+                .andExpect(header().doesNotExist("Content-Length"))
+                .andExpect(content().bytes(new byte[] {'%', 'P', 'D', 'F'}));
+    }
+
+    @Test
+    void cachedAgreementPdfShouldDeclareContentLength() throws Exception {
+        when(jwtTokenProvider.getUserIdFromToken("valid-token")).thenReturn(1L);
+        when(jwtTokenProvider.getRoleFromToken("valid-token")).thenReturn("CUSTOMER");
+        when(agreementPdfService.generate(1L, 1L, "CUSTOMER")).thenReturn(new AgreementPdfService.PdfResult(
+                "loan_agreement_APP-0001.pdf", "\"ab12\"", 4, out -> out.write(new byte[] {'%', 'P', 'D', 'F'})));
+
+        MvcResult result = mockMvc.perform(get("/api/loans/1/agreement_pdf")
+                        .header("Authorization", "Bearer valid-token"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue("Content-Length", 4))
+                .andExpect(content().bytes(new byte[] {'%', 'P', 'D', 'F'}));
+    }
+
+    @Test
+    void agreementPdfWithMatchingEtagShouldReturn304WithoutWritingThePdf() throws Exception {
+        when(jwtTokenProvider.getUserIdFromToken("valid-token")).thenReturn(1L);
+        when(jwtTokenProvider.getRoleFromToken("valid-token")).thenReturn("CUSTOMER");
+        when(agreementPdfService.generate(1L, 1L, "CUSTOMER")).thenReturn(new AgreementPdfService.PdfResult(
+                "loan_agreement_APP-0001.pdf", "\"ab12\"", 4, out -> fail("304 must not write the PDF")));
+
+        mockMvc.perform(get("/api/loans/1/agreement_pdf")
+                        .header("Authorization", "Bearer valid-token")
+                        .header("If-None-Match", "\"ab12\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"ab12\""))
+                .andExpect(content().string(""));
+    }
+
     @Test
     void getHistoryShouldReturn200() throws Exception {
         StatusHistoryResponse h = new StatusHistoryResponse();
@@ -272,11 +369,68 @@ class LoanControllerTest {
         h.setFromStatus("DRAFT");
         h.setToStatus("SUBMITTED");
         h.setCreatedAt(Instant.now());
-        when(workflowService.getHistory(1L)).thenReturn(List.of(h));
+        when(workflowService.getHistoryTag(1L)).thenReturn("W/\"1-1\"");
+        when(workflowService.getHistory(1L, null)).thenReturn(List.of(h));
 
         mockMvc.perform(get("/api/loans/1/history")
                         .header("Authorization", "Bearer valid-token"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"1-1\""))
                 .andExpect(jsonPath("$[0].fromStatus").value("DRAFT"));
     }
+
+    @Test
+    void getHistoryWithMatchingEtagShouldReturn304WithoutLoadingHistory() throws Exception {
+        when(workflowService.getHistoryTag(1L)).thenReturn("W/\"7-3\"");
+
+        mockMvc.perform(get("/api/loans/1/history")
+                        .header("Authorization", "Bearer valid-token")
+                        .header("If-None-Match", "W/\"7-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "W/\"7-3\""))
+                .andExpect(content().string(""));
+
+        verify(workflowService, never()).getHistory(anyLong(), any());
+    }
+
+    @Test
+    void getHistoryWithStaleEtagAndSinceShouldReturnNewEntries() throws Exception {
+        StatusHistoryResponse h = new StatusHistoryResponse();
+        h.setId(8L);
+        h.setToStatus("APPROVED");
+        when(workflowService.getHistoryTag(1L)).thenReturn("W/\"8-4\"");
+        when(workflowService.getHistory(1L, 7L)).thenReturn(List.of(h));
+
+        mockMvc.perform(get("/api/loans/1/history")
+                        .param("since", "7")
+                        .header("Authorization", "Bearer valid-token")
+                        .header("If-None-Match", "W/\"7-3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"8-4\""))
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(8));
+    }
+
+    @Test
+    void getHistoryForUnknownApplicationShouldReturn404() throws Exception {
+        when(workflowService.getHistoryTag(99L)).thenThrow(new ResourceNotFoundException("Application not found"));
+
+        mockMvc.perform(get("/api/loans/99/history")
+                        .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void allowedActionsShouldReturn200() throws Exception {
+        when(jwtTokenProvider.getUserIdFromToken("valid-token")).thenReturn(1L);
+        when(jwtTokenProvider.getRoleFromToken("valid-token")).thenReturn("CUSTOMER");
+        when(workflowService.getAllowedActions(1L, 1L, Role.CUSTOMER))
+                .thenReturn(new AllowedActionsResponse(1L, "DRAFT", List.of("submit")));
+
+        mockMvc.perform(get("/api/loans/1/actions")
+                        .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DRAFT"))
+                .andExpect(jsonPath("$.actions[0]").value("submit"));
+    }
 }
@@ -1,16 +1,34 @@
 package com.autoloan.backend.controller;
 
+import com.autoloan.backend.dto.application.AgingBuckets;
+import com.autoloan.backend.dto.application.AgingSummaryResponse;
+import com.autoloan.backend.dto.application.AgreementBatchResponse;
+import com.autoloan.backend.dto.application.AllowedActionsResponse;
 import com.autoloan.backend.dto.application.ApplicationApprovalRequest;
 import com.autoloan.backend.dto.application.ApplicationRejectRequest;
+import com.autoloan.backend.dto.application.BulkActionResponse;
+import com.autoloan.backend.dto.application.BulkActionResult;
+import com.autoloan.backend.dto.application.ClaimResponse;
+import com.autoloan.backend.dto.application.QueueSummaryResponse;
 import com.autoloan.backend.dto.application.StatusHistoryResponse;
+import com.autoloan.backend.dto.loan.CountKind;
+import com.autoloan.backend.dto.loan.CursorPaginatedResponse;
 import com.autoloan.backend.dto.loan.LoanApplicationResponse;
 import com.autoloan.backend.dto.loan.PaginatedResponse;
 import com.autoloan.backend.dto.note.NoteCreateRequest;
 import com.autoloan.backend.dto.note.NoteResponse;
+import com.autoloan.backend.exception.BadRequestException;
 import com.autoloan.backend.exception.GlobalExceptionHandler;
 import com.autoloan.backend.exception.ResourceNotFoundException;
+import com.autoloan.backend.model.enums.Role;
 import com.autoloan.backend.security.JwtTokenProvider;
+import com.autoloan.backend.service.AgreementBatchService;
+import com.autoloan.backend.service.ApplicationAgingService;
+import com.autoloan.backend.service.ApplicationClaimService;
+import com.autoloan.backend.service.ApplicationExportService;
+import com.autoloan.backend.service.ApplicationQueueCounters;
 import com.autoloan.backend.service.ApplicationWorkflowService;
+import com.autoloan.backend.service.ExportFormat;
 import com.autoloan.backend.service.LoanService;
 import com.autoloan.backend.service.NoteService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -22,12 +40,23 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -47,6 +76,21 @@ class LoanOfficerControllerTest {
     @Mock
     private NoteService noteService;
 
+    @Mock
+    private ApplicationExportService exportService;
+
+    @Mock
+    private ApplicationQueueCounters queueCounters;
+
+    @Mock
+    private ApplicationClaimService claimService;
+
+    @Mock
+    private ApplicationAgingService agingService;
+
+    @Mock
+    private AgreementBatchService agreementBatchService;
+
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
@@ -71,7 +115,7 @@ class LoanOfficerControllerTest {
     void findAll_returns200() throws Exception {
         PaginatedResponse<LoanApplicationResponse> paginatedResponse = new PaginatedResponse<>(
                 List.of(testResponse), 1, 20, 1, 1);
-        when(loanService.getApplicationsPaginated(isNull(), isNull(), isNull(), isNull(), eq(1), eq(20)))
+        when(loanService.getApplicationsPaginated(isNull(), isNull(), isNull(), isNull(), isNull(), eq(1), eq(20)))
                 .thenReturn(paginatedResponse);
 
         mockMvc.perform(get("/api/loan-officer/applications")
@@ -82,6 +126,116 @@ class LoanOfficerControllerTest {
                 .andExpect(jsonPath("$.total").value(1));
     }
 
+    @Test
+    void findAll_withCountFalse_returnsCountKindNone() throws Exception {
+        PaginatedResponse<LoanApplicationResponse> paginatedResponse = new PaginatedResponse<>(
+                List.of(testResponse), 1, 20, null, null, CountKind.NONE, true);
+        when(loanService.getApplicationsPaginated(isNull(), isNull(), isNull(), isNull(), eq("false"), eq(1), eq(20)))
+                .thenReturn(paginatedResponse);
+
+        mockMvc.perform(get("/api/loan-officer/applications")
+                        .param("$count", "false")
+                        .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.countKind").value("none"))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.total").doesNotExist());
+    }
+
+    @Test
+    void findAllByCursor_returns200WithNextToken() throws Exception {
+        CursorPaginatedResponse<LoanApplicationResponse> cursorResponse = new CursorPaginatedResponse<>(
+                List.of(testResponse), 20, "next-token", true);
+        when(loanService.getApplicationsByCursor(isNull(), isNull(), isNull(), isNull(), eq("abc"), eq(20)))
+                .thenReturn(cursorResponse);
+
+        mockMvc.perform(get("/api/loan-officer/applications")
+                        .param("$skiptoken", "abc")
+                        .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].applicationNumber").value("APP-TEST1234"))
+                .andExpect(jsonPath("$.nextSkipToken").value("next-token"))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    void findAllByCursor_emptyTokenStartsFirstPage() throws Exception {
+        CursorPaginatedResponse<LoanApplicationResponse> cursorResponse = new CursorPaginatedResponse<>(
+                List.of(testResponse), 20, null, false);
+        when(loanService.getApplicationsByCursor(isNull(), isNull(), isNull(), isNull(), any(), eq(20)))
+                .thenReturn(cursorResponse);
+
+        mockMvc.perform(get("/api/loan-officer/applications")
+                        .param("$skiptoken", "")
+                        .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void queueSummary_returns200() throws Exception {
+        when(queueCounters.summary()).thenReturn(new QueueSummaryResponse(
+                Map.of("SUBMITTED", 4L, "UNDER_REVIEW", 2L), 6, Instant.parse("2025-01-01T00:00:00Z")));
+
+        mockMvc.perform(get("/api/loan-officer/applications/queue-summary")
+                        .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.counts.SUBMITTED").value(4))
+                .andExpect(jsonPath("$.total").value(6));
+    }
+
+    @Test
+    void export_streamsNdjsonByDefault() throws Exception {
+        ApplicationExportService.ExportQuery query = new ApplicationExportService.ExportQuery(null, null);
+        when(exportService.prepare(eq("status eq 'SUBMITTED'"), isNull(), isNull())).thenReturn(query);
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(2);
+            out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(exportService).export(eq(query), eq(ExportFormat.NDJSON), any());
+
+        MvcResult result = mockMvc.perform(get("/api/loan-officer/applications/export")
+                        .param("$filter", "status eq 'SUBMITTED'")
+                        .header("Authorization", "Bearer valid-token"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"applications.ndjson\""))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+
+    @Test
+    void export_csvSetsCsvHeaders() throws Exception {
+        ApplicationExportService.ExportQuery query = new ApplicationExportService.ExportQuery(null, null);
+        when(exportService.prepare(isNull(), eq("loan_amount desc"), eq("APPROVED"))).thenReturn(query);
+
+        MvcResult result = mockMvc.perform(get("/api/loan-officer/applications/export")
+                        .param("format", "csv")
+                        .param("$orderby", "loan_amount desc")
+                        .param("status", "APPROVED")
+                        .header("Authorization", "Bearer valid-token"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"applications.csv\""));
+    }
+
+    @Test
+    void export_unknownFormat_returns400() throws Exception {
+        mockMvc.perform(get("/api/loan-officer/applications/export")
+                        .param("format", "xlsx")
+                        .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(exportService);
+    }
+
     @Test
     void findOne_returns200() throws Exception {
         when(loanService.getApplicationById(1L)).thenReturn(testResponse);
@@ -152,6 +306,183 @@ class LoanOfficerControllerTest {
                 .andExpect(jsonPath("$.status").value("APPROVED"));
     }
 
+    @Test
+    void bulkAction_returns200() throws Exception {
+        when(jwtTokenProvider.getUserIdFromToken("valid-token")).thenReturn(200L);
+        when(jwtTokenProvider.getRoleFromToken("valid-token")).thenReturn("LOAN_OFFICER");
+        BulkActionResponse response = new BulkActionResponse("APPROVE", 1, 1, List.of(
+                new BulkActionResult(1L, true, "APPROVED", null),
+                new BulkActionResult(2L, false, "DRAFT", "Application must be under review or submitted")));
+        when(workflowService.bulkAction(any(), eq(200L), eq(Role.LOAN_OFFICER))).thenReturn(response);
+
+        mockMvc.perform(post("/api/loan-officer/applications/bulk")
+                        .header("Authorization", "Bearer valid-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"action\":\"approve\",\"ids\":[1,2]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[1].error").value("Application must be under review or submitted"));
+    }
+
+    @Test
+    void claimNext_returns200WithLease() throws Exception {
+        when(jwtTokenProvider.getUserIdFromToken("valid-token")).thenReturn(200L);
+        when(claimService.claimNext(200L)).thenReturn(Optional.of(new ClaimResponse(1L, "APP-TEST1234",
+                "SUBMITTED", null, Instant.parse("2026-01-05T09:00:00Z"), 200L,
+                Instant.parse("2026-01-05T10:15:00Z"), false)));
+
+        mockMvc.perform(post("/api/loan-officer/applications/claim")
+                        .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1))
+                .andExpect(jsonPath("$.claimedBy").value(200))
+                .andExpect(jsonPath("$.renewed").value(false));
+    }
+
+    @Test
+    void claimNext_emptyQueue_returns204() throws Exception {
+        when(jwtTokenProvider.getUserIdFromToken("valid-token")).thenReturn(200L);
+        when(claimService.claimNext(200L)).thenReturn(Optional.empty());
+
+        mockMvc.perform(post("/api/loan-officer/applications/claim")
+                        .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void releaseClaim_returns204() throws Exception {
+        when(jwtTokenProvider.getUserIdFromToken("valid-token")).thenReturn(200L);
+
+        mockMvc.perform(delete("/api/loan-officer/applications/1/claim")
+                        .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isNoContent());
+
+        verify(claimService).release(1L, 200L);
+    }
+
+    @Test
+    void releaseClaim_notHolder_returns400() throws Exception {
+        when(jwtTokenProvider.getUserIdFromToken("valid-token")).thenReturn(201L);
+        doThrow(new BadRequestException("Application is not claimed by you")).when(claimService).release(1L, 201L);
+
+        mockMvc.perform(delete("/api/loan-officer/applications/1/claim")
+                        .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void aging_returns200() throws Exception {
+        Instant asOf = Instant.parse("2026-03-10T12:00:00Z");
+        when(agingService.summary(List.of("SUBMITTED", "UNDER_REVIEW"))).thenReturn(new AgingSummaryResponse(
+                Map.of("SUBMITTED", new AgingBuckets(2, 1, 3, 6, asOf.minusSeconds(400_000))), asOf));
+
+        mockMvc.perform(get("/api/loan-officer/applications/aging")
+                        .param("status", "SUBMITTED", "UNDER_REVIEW"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statuses.SUBMITTED.underOneDay").value(2))
+                .andExpect(jsonPath("$.statuses.SUBMITTED.overThreeDays").value(3))
+                .andExpect(jsonPath("$.statuses.SUBMITTED.total").value(6));
+    }
+
+    @Test
+    void aging_invalidStatus_returns400() throws Exception {
+        when(agingService.summary(List.of("WAITING"))).thenThrow(new BadRequestException("Invalid status: WAITING"));
+
+        mockMvc.perform(get("/api/loan-officer/applications/aging").param("status", "WAITING"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void agreements_streamsZipWithBatchId() throws Exception {
+        when(jwtTokenProvider.getRoleFromToken("valid-token")).thenReturn("LOAN_OFFICER");
+        AgreementBatchService.Batch batch = mock(AgreementBatchService.Batch.class);
+        when(batch.getId()).thenReturn("batch-1");
+        when(agreementBatchService.prepare(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31), Role.LOAN_OFFICER))
+                .thenReturn(batch);
+        doAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write(new byte[] {'P', 'K', 5, 6});
+            return null;
+        }).when(agreementBatchService).write(eq(batch), any());
+
+        MvcResult result = mockMvc.perform(get("/api/loan-officer/applications/agreements")
+                        .param("from", "2026-03-01")
+                        .param("to", "2026-03-31")
+                        .header("Authorization", "Bearer valid-token"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/zip"))
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=\"agreements_2026-03-01_2026-03-31.zip\""))
+                .andExpect(header().string("X-Batch-Id", "batch-1"))
+                .andExpect(content().bytes(new byte[] {'P', 'K', 5, 6}));
+    }
+
+    @Test
+    void agreements_invalidRange_returns400BeforeStreaming() throws Exception {
+        when(jwtTokenProvider.getRoleFromToken("valid-token")).thenReturn("LOAN_OFFICER");
+        when(agreementBatchService.prepare(LocalDate.of(2026, 3, 31), LocalDate.of(2026, 3, 1), Role.LOAN_OFFICER))
+                .thenThrow(new BadRequestException("'to' must not be before 'from'"));
+
+        mockMvc.perform(get("/api/loan-officer/applications/agreements")
+                        .param("from", "2026-03-31")
+                        .param("to", "2026-03-01")
+                        .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void agreementBatch_returnsProgress() throws Exception {
+        when(agreementBatchService.progress("batch-1")).thenReturn(new AgreementBatchResponse("batch-1", "RUNNING",
+                LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31), 120, 45, 1,
+                Instant.parse("2026-04-01T09:00:00Z"), null));
+
+        mockMvc.perform(get("/api/loan-officer/applications/agreements/batches/batch-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RUNNING"))
+                .andExpect(jsonPath("$.total").value(120))
+                .andExpect(jsonPath("$.rendered").value(45))
+                .andExpect(jsonPath("$.failed").value(1));
+    }
+
+    @Test
+    void agreementBatch_unknown_returns404() throws Exception {
+        when(agreementBatchService.progress("nope")).thenThrow(new ResourceNotFoundException("Agreement batch not found"));
+
+        mockMvc.perform(get("/api/loan-officer/applications/agreements/batches/nope"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void allowedActions_returns200() throws Exception {
+        when(jwtTokenProvider.getRoleFromToken("valid-token")).thenReturn("UNDERWRITER");
+        when(workflowService.getAllowedActions(List.of(1L, 2L), Role.UNDERWRITER)).thenReturn(List.of(
+                new AllowedActionsResponse(1L, "PENDING_DOCUMENTS", List.of("review")),
+                new AllowedActionsResponse(2L, "APPROVED", List.of())));
+
+        mockMvc.perform(post("/api/loan-officer/applications/actions")
+                        .header("Authorization", "Bearer valid-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[1,2]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].actions[0]").value("review"))
+                .andExpect(jsonPath("$[1].actions").isEmpty());
+    }
+
+    @Test
+    void bulkAction_missingIds_returns400() throws Exception {
+        mockMvc.perform(post("/api/loan-officer/applications/bulk")
+                        .header("Authorization", "Bearer valid-token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"action\":\"approve\",\"ids\":[]}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(workflowService);
+    }
+
     @Test
     void reject_returns200() throws Exception {
         when(jwtTokenProvider.getUserIdFromToken("valid-token")).thenReturn(200L);
@@ -3,6 +3,7 @@ package com.autoloan.backend.controller;
 import com.autoloan.backend.dto.application.ApplicationRejectRequest;
 import com.autoloan.backend.dto.application.StatusHistoryResponse;
 import com.autoloan.backend.dto.document.DocumentResponse;
+import com.autoloan.backend.dto.loan.CursorPaginatedResponse;
 import com.autoloan.backend.dto.loan.LoanApplicationResponse;
 import com.autoloan.backend.dto.loan.PaginatedResponse;
 import com.autoloan.backend.dto.note.NoteCreateRequest;
@@ -64,7 +65,7 @@ class UnderwriterControllerTest {
     void findAll_returns200() throws Exception {
         PaginatedResponse<LoanApplicationResponse> paginatedResponse = new PaginatedResponse<>(
                 List.of(testResponse), 1, 20, 1, 1);
-        when(loanService.getApplicationsPaginated(isNull(), isNull(), isNull(), isNull(), eq(1), eq(20)))
+        when(loanService.getApplicationsPaginated(isNull(), isNull(), isNull(), isNull(), isNull(), eq(1), eq(20)))
                 .thenReturn(paginatedResponse);
 
         mockMvc.perform(get("/api/underwriter/applications")
@@ -75,6 +76,36 @@ class UnderwriterControllerTest {
                 .andExpect(jsonPath("$.total").value(1));
     }
 
+    @Test
+    void findAllByCursor_returns200WithNextToken() throws Exception {
+        CursorPaginatedResponse<LoanApplicationResponse> cursorResponse = new CursorPaginatedResponse<>(
+                List.of(testResponse), 20, "next-token", true);
+        when(loanService.getApplicationsByCursor(isNull(), isNull(), isNull(), isNull(), eq("abc"), eq(20)))
+                .thenReturn(cursorResponse);
+
+        mockMvc.perform(get("/api/underwriter/applications")
+                        .param("$skiptoken", "abc")
+                        .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(1))
+                .andExpect(jsonPath("$.nextSkipToken").value("next-token"))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    void findAllByCursor_emptyTokenStartsFirstPage() throws Exception {
+        CursorPaginatedResponse<LoanApplicationResponse> cursorResponse = new CursorPaginatedResponse<>(
+                List.of(testResponse), 20, null, false);
+        when(loanService.getApplicationsByCursor(isNull(), isNull(), isNull(), isNull(), any(), eq(20)))
+                .thenReturn(cursorResponse);
+
+        mockMvc.perform(get("/api/underwriter/applications")
+                        .param("$skiptoken", "")
+                        .header("Authorization", "Bearer valid-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
     @Test
     void findOne_returns200() throws Exception {
         when(loanService.getApplicationById(1L)).thenReturn(testResponse);
@@ -0,0 +1,53 @@
+package com.autoloan.backend.event;
+
+import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.model.enums.DocumentType;
+import com.autoloan.backend.service.SecurityAuditService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditEventSubscriberTest {
+
+    private static final Instant AT = Instant.parse("2026-03-10T09:00:00Z");
+
+    @Mock
+    private SecurityAuditService securityAuditService;
+
+    private AuditEventSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        subscriber = new AuditEventSubscriber(securityAuditService, JsonMapper.builder().build());
+    }
+
+    @Test
+    void statusChange_loggedAgainstActor() {
+        subscriber.onEvent(new ApplicationStatusChanged(1L, "APP-1", 100L, 200L,
+                ApplicationStatus.UNDER_REVIEW, ApplicationStatus.REJECTED, "Rejected: income", AT),
+                new EventOrigin("10.0.0.5", "Mozilla/5.0"));
+
+        verify(securityAuditService).logEvent("application_status_changed", "10.0.0.5", 200L, "Mozilla/5.0",
+                "application", 1,
+                "{\"from\":\"UNDER_REVIEW\",\"to\":\"REJECTED\",\"comment\":\"Rejected: income\","
+                        + "\"occurredAt\":\"2026-03-10T09:00:00Z\"}", true);
+    }
+
+    @Test
+    void documentUploaded_loggedAgainstApplicant() {
+        subscriber.onEvent(new DocumentUploaded(10L, 1L, "APP-1", 100L, DocumentType.PAY_STUB, AT),
+                EventOrigin.SYSTEM);
+
+        verify(securityAuditService).logEvent(eq("document_uploaded"), eq("system"), eq(100L), isNull(),
+                eq("document"), eq(10), contains("\"docType\":\"PAY_STUB\""), eq(true));
+    }
+}
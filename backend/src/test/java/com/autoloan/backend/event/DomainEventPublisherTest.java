@@ -0,0 +1,167 @@
+package com.autoloan.backend.event;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.autoloan.backend.model.enums.ApplicationStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class DomainEventPublisherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private DomainEventPublisher publisher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (publisher != null) {
+            publisher.shutdown();
+        }
+    }
+
+    @Test
+    void publish_withoutTransaction_dispatchesToEverySubscriber() throws InterruptedException {
+        RecordingSubscriber notification = new RecordingSubscriber("notification", 1);
+        RecordingSubscriber audit = new RecordingSubscriber("audit", 1);
+        publisher = new DomainEventPublisher(List.of(notification, audit), meterRegistry, transactionManager, 10, 1);
+
+        publisher.publish(event(1L));
+
+        assertTrue(notification.await());
+        assertTrue(audit.await());
+        assertEquals(EventOrigin.SYSTEM, notification.origins.get(0));
+        assertTrue(notification.threads.get(0).startsWith("events-notification-"));
+    }
+
+    @Test
+    void publish_inTransaction_waitsForCommit() throws InterruptedException {
+        RecordingSubscriber subscriber = new RecordingSubscriber("notification", 1);
+        publisher = new DomainEventPublisher(List.of(subscriber), meterRegistry, transactionManager, 10, 1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        publisher.publish(event(1L));
+        assertFalse(subscriber.latch.await(100, TimeUnit.MILLISECONDS));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertTrue(subscriber.await());
+    }
+
+    @Test
+    void publish_rolledBack_dispatchesNothing() throws InterruptedException {
+        RecordingSubscriber subscriber = new RecordingSubscriber("notification", 1);
+        publisher = new DomainEventPublisher(List.of(subscriber), meterRegistry, transactionManager, 10, 1);
+        TransactionSynchronizationManager.initSynchronization();
+
+        publisher.publish(event(1L));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertFalse(subscriber.latch.await(100, TimeUnit.MILLISECONDS));
+        assertTrue(subscriber.events.isEmpty());
+    }
+
+    @Test
+    void failingOrSlowSubscriber_doesNotAffectOthers() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSubscriber slow = new RecordingSubscriber("slow", 1, e -> awaitQuietly(release));
+        RecordingSubscriber failing = new RecordingSubscriber("failing", 2, e -> {
+            throw new IllegalStateException("broker down");
+        });
+        RecordingSubscriber healthy = new RecordingSubscriber("healthy", 2);
+        publisher = new DomainEventPublisher(List.of(slow, failing, healthy), meterRegistry, transactionManager, 10, 1);
+
+        publisher.publish(event(1L));
+        publisher.publish(event(2L));
+
+        assertTrue(healthy.await());
+        assertTrue(failing.await());
+        // The failure is counted just after the subscriber returns
+        waitFor(() -> meterRegistry.counter("app.events.failures", "subscriber", "failing").count() == 2.0);
+        assertEquals(0.0, meterRegistry.counter("app.events.failures", "subscriber", "healthy").count());
+        // The slow subscriber's second event is still waiting in its own queue
+        assertEquals(1.0, meterRegistry.get("app.events.queue.depth").tag("subscriber", "slow").gauge().value());
+
+        release.countDown();
+        assertTrue(slow.await());
+        assertEquals(2, meterRegistry.get("app.events.lag").tag("subscriber", "healthy").timer().count());
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 500 && !condition.getAsBoolean(); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    private static ApplicationStatusChanged event(Long applicationId) {
+        return new ApplicationStatusChanged(applicationId, "APP-" + applicationId, 100L, 200L,
+                ApplicationStatus.SUBMITTED, ApplicationStatus.UNDER_REVIEW, "Verification started", Instant.now());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class RecordingSubscriber implements DomainEventSubscriber {
+
+        private final String name;
+        private final CountDownLatch latch;
+        private final Consumer<DomainEvent> behaviour;
+        private final List<DomainEvent> events = new CopyOnWriteArrayList<>();
+        private final List<EventOrigin> origins = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+
+        RecordingSubscriber(String name, int expected) {
+            this(name, expected, e -> { });
+        }
+
+        RecordingSubscriber(String name, int expected, Consumer<DomainEvent> behaviour) {
+            this.name = name;
+            this.latch = new CountDownLatch(expected);
+            this.behaviour = behaviour;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public void onEvent(DomainEvent event, EventOrigin origin) {
+            events.add(event);
+            origins.add(origin);
+            threads.add(Thread.currentThread().getName());
+            try {
+                behaviour.accept(event);
+            } finally {
+                latch.countDown();
+            }
+        }
+
+        boolean await() throws InterruptedException {
+            return latch.await(5, TimeUnit.SECONDS);
+        }
+    }
+}
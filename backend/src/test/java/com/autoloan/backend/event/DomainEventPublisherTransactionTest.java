@@ -0,0 +1,104 @@
+package com.autoloan.backend.event;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.autoloan.backend.model.SecurityAuditLog;
+import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.repository.SecurityAuditLogRepository;
+import com.autoloan.backend.service.SecurityAuditService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Real commits against H2: events are published from a committed JPA transaction
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DomainEventPublisherTransactionTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SecurityAuditLogRepository auditLogRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private DomainEventPublisher publisher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        if (publisher != null) {
+            publisher.shutdown();
+        }
+        auditLogRepository.deleteAll();
+    }
+
+    @Test
+    void fullQueue_runsOnPublishingThread() throws InterruptedException {
+        AuditEventSubscriber audit = new AuditEventSubscriber(new SecurityAuditService(auditLogRepository),
+                JsonMapper.builder().build());
+        List<String> threads = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(3);
+        // Only pool threads block, so the overflow event can finish on the caller
+        DomainEventSubscriber subscriber = new DomainEventSubscriber() {
+            @Override
+            public String name() {
+                return "audit";
+            }
+
+            @Override
+            public void onEvent(DomainEvent event, EventOrigin origin) {
+                threads.add(Thread.currentThread().getName());
+                try {
+                    if (Thread.currentThread().getName().startsWith("events-")) {
+                        release.await(5, TimeUnit.SECONDS);
+                    }
+                    audit.onEvent(event, origin);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }
+        };
+        publisher = new DomainEventPublisher(List.of(subscriber), meterRegistry, transactionManager, 1, 1);
+
+        // First event occupies the only thread, the second fills the queue, the third overflows
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            publisher.publish(event(1L));
+            publisher.publish(event(2L));
+            publisher.publish(event(3L));
+        });
+
+        assertEquals(1.0, meterRegistry.counter("app.events.backpressure", "subscriber", "audit").count());
+        assertTrue(threads.contains(Thread.currentThread().getName()));
+        // Committed by the publishing thread while the pool is still blocked
+        List<SecurityAuditLog> logged = auditLogRepository.findByEventType("application_status_changed");
+        assertEquals(List.of(3), logged.stream().map(SecurityAuditLog::getResourceId).toList());
+
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(3, auditLogRepository.findByEventType("application_status_changed").size());
+    }
+
+    private static ApplicationStatusChanged event(Long applicationId) {
+        return new ApplicationStatusChanged(applicationId, "APP-" + applicationId, null, null,
+                ApplicationStatus.SUBMITTED, ApplicationStatus.UNDER_REVIEW, "Verification started", Instant.now());
+    }
+}
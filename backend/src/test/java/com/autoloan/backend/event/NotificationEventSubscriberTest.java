@@ -0,0 +1,41 @@
+package com.autoloan.backend.event;
+
+import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.model.enums.DocumentType;
+import com.autoloan.backend.service.NotificationService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationEventSubscriberTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    @InjectMocks
+    private NotificationEventSubscriber subscriber;
+
+    @Test
+    void statusChange_notifiesApplicant() {
+        subscriber.onEvent(new ApplicationStatusChanged(1L, "APP-1", 100L, 200L,
+                ApplicationStatus.UNDER_REVIEW, ApplicationStatus.APPROVED, "Application approved", Instant.now()),
+                EventOrigin.SYSTEM);
+
+        verify(notificationService).notifyStatusChange(100L, 1L, "APP-1", "UNDER_REVIEW", "APPROVED");
+    }
+
+    @Test
+    void documentUploaded_notifiesApplicant() {
+        subscriber.onEvent(new DocumentUploaded(10L, 1L, "APP-1", 100L, DocumentType.PAY_STUB, Instant.now()),
+                EventOrigin.SYSTEM);
+
+        verify(notificationService).notifyDocumentUploaded(100L, 1L, "APP-1", "PAY_STUB");
+    }
+}
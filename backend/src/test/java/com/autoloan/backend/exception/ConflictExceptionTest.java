@@ -0,0 +1,14 @@
+package com.autoloan.backend.exception;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConflictExceptionTest {
+
+    @Test
+    void shouldCreateWithMessage() {
+        var ex = new ConflictException("stale");
+        assertEquals("stale", ex.getMessage());
+        assertInstanceOf(RuntimeException.class, ex);
+    }
+}
@@ -5,6 +5,7 @@ import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -49,6 +50,22 @@ class GlobalExceptionHandlerTest {
         assertEquals(423, response.getBody().get("status"));
     }
 
+    @Test
+    void shouldHandleConflict() {
+        ResponseEntity<Map<String, Object>> response = handler.handleConflict(new ConflictException("stale"));
+        assertEquals(HttpStatus.CONFLICT.value(), response.getStatusCode().value());
+        assertEquals("stale", response.getBody().get("message"));
+        assertEquals(409, response.getBody().get("status"));
+    }
+
+    @Test
+    void shouldHandleOptimisticLockAsConflict() {
+        ResponseEntity<Map<String, Object>> response = handler.handleOptimisticLock(
+                new OptimisticLockingFailureException("Row was updated or deleted by another transaction"));
+        assertEquals(409, response.getBody().get("status"));
+        assertEquals(ConflictException.CONCURRENT_MODIFICATION, response.getBody().get("message"));
+    }
+
     @Test
     void shouldHandleNotFound() {
         ResponseEntity<Map<String, Object>> response = handler.handleNotFound(new ResourceNotFoundException("missing"));
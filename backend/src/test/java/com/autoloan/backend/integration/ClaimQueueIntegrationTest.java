@@ -0,0 +1,98 @@
+package com.autoloan.backend.integration;
+
+import com.autoloan.backend.dto.application.ClaimResponse;
+import com.autoloan.backend.model.Application;
+import com.autoloan.backend.model.User;
+import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.repository.ApplicationRepository;
+import com.autoloan.backend.repository.UserRepository;
+import com.autoloan.backend.service.ApplicationClaimService;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// FOR UPDATE SKIP LOCKED on Postgres: concurrent claimers pass over each other's locked rows
+// instead of waiting, so every claim is filled while work remains and none is handed out twice
+class ClaimQueueIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private ApplicationClaimService claimService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @AfterEach
+    void tearDown() {
+        applicationRepository.deleteAll(applicationRepository.findByUserId(userId));
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    void concurrentOfficersEachClaimADistinctApplication() throws Exception {
+        int applications = 40;
+        int officers = 50;
+        userId = userRepository.save(User.builder()
+                .email("claim-queue@example.com")
+                .encryptedPassword("hash")
+                .firstName("Claim")
+                .lastName("Queue")
+                .phone("555-0002")
+                .build()).getId();
+        Instant submitted = Instant.now().minusSeconds(3600);
+        for (int i = 0; i < applications; i++) {
+            applicationRepository.save(Application.builder()
+                    .applicationNumber("APP-CQ" + i)
+                    .userId(userId)
+                    .status(ApplicationStatus.SUBMITTED)
+                    .submittedAt(submitted.plusSeconds(i))
+                    .build());
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<ClaimResponse>>> claims = new ArrayList<>();
+        for (long officer = 1; officer <= officers; officer++) {
+            long officerId = 10_000 + officer;
+            claims.add(pool.submit(() -> {
+                start.await();
+                return claimService.claimNext(officerId);
+            }));
+        }
+        start.countDown();
+
+        Set<Long> claimed = new HashSet<>();
+        int empty = 0;
+        for (Future<Optional<ClaimResponse>> claim : claims) {
+            Optional<ClaimResponse> result = claim.get(30, TimeUnit.SECONDS);
+            if (result.isPresent()) {
+                assertTrue(claimed.add(result.get().getId()), "claimed twice: " + result.get().getId());
+            } else {
+                empty++;
+            }
+        }
+        pool.shutdown();
+
+        assertEquals(applications, claimed.size());
+        assertEquals(officers - applications, empty);
+    }
+}
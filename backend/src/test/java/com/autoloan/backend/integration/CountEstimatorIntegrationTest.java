@@ -0,0 +1,77 @@
+package com.autoloan.backend.integration;
+
+import com.autoloan.backend.model.Application;
+import com.autoloan.backend.model.User;
+import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.repository.ApplicationRepository;
+import com.autoloan.backend.repository.UserRepository;
+import com.autoloan.backend.service.ApplicationCountEstimator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Planner statistics on Postgres: a second schema with its own applications table must not feed
+// the estimate for the one the application uses
+class CountEstimatorIntegrationTest extends BaseIntegrationTest {
+
+    private static final String SHADOW_SCHEMA = "estimator_shadow";
+
+    @Autowired
+    private ApplicationCountEstimator estimator;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SHADOW_SCHEMA + " CASCADE");
+        if (userId != null) {
+            applicationRepository.deleteAll(applicationRepository.findByUserId(userId));
+            userRepository.deleteById(userId);
+        }
+    }
+
+    @Test
+    void statusEstimateIgnoresStatisticsFromAnotherSchema() {
+        userId = userRepository.save(User.builder()
+                .email("estimator@example.com")
+                .encryptedPassword("hash")
+                .firstName("Count")
+                .lastName("Estimator")
+                .phone("555-0003")
+                .build()).getId();
+        for (int i = 0; i < 10; i++) {
+            applicationRepository.save(Application.builder()
+                    .applicationNumber("APP-CE" + i)
+                    .userId(userId)
+                    .status(i < 8 ? ApplicationStatus.SUBMITTED : ApplicationStatus.UNDER_REVIEW)
+                    .build());
+        }
+        // Same table name and column, and every row in a status the real table doesn't hold
+        jdbcTemplate.execute("CREATE SCHEMA " + SHADOW_SCHEMA);
+        jdbcTemplate.execute("CREATE TABLE " + SHADOW_SCHEMA + ".applications (status varchar(255))");
+        jdbcTemplate.execute("INSERT INTO " + SHADOW_SCHEMA + ".applications "
+                + "SELECT 'SIGNED' FROM generate_series(1, 100)");
+        jdbcTemplate.execute("ANALYZE applications");
+        jdbcTemplate.execute("ANALYZE " + SHADOW_SCHEMA + ".applications");
+
+        OptionalLong underReview = estimator.estimate(ApplicationStatus.UNDER_REVIEW);
+        assertTrue(underReview.isPresent());
+        assertTrue(underReview.getAsLong() > 0);
+        assertTrue(estimator.estimate(ApplicationStatus.SIGNED).isEmpty());
+    }
+}
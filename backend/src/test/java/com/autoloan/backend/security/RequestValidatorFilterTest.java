@@ -107,6 +107,81 @@ class RequestValidatorFilterTest {
         assertTrue(response.getContentAsString().contains("req-123"));
     }
 
+    @Test
+    void shouldAllowDocumentSizedBodyOnStreamingUpload() throws Exception {
+        MockHttpServletRequest uploadRequest = new MockHttpServletRequest() {
+            @Override
+            public int getContentLength() {
+                return 8 * 1024 * 1024;
+            }
+        };
+        uploadRequest.setMethod("POST");
+        uploadRequest.setContentType("application/octet-stream");
+        uploadRequest.setRequestURI("/api/applications/42/documents/stream");
+
+        filter.doFilterInternal(uploadRequest, response, filterChain);
+
+        assertEquals(200, response.getStatus());
+        verify(filterChain).doFilter(uploadRequest, response);
+    }
+
+    @Test
+    void shouldAllowDocumentSizedBodyOnStreamingUploadUnderContextPath() throws Exception {
+        MockHttpServletRequest uploadRequest = new MockHttpServletRequest() {
+            @Override
+            public int getContentLength() {
+                return 5 * 1024 * 1024;
+            }
+        };
+        uploadRequest.setMethod("POST");
+        uploadRequest.setContentType("application/octet-stream");
+        uploadRequest.setContextPath("/api/v1");
+        uploadRequest.setRequestURI("/api/v1/api/applications/42/documents/stream");
+
+        filter.doFilterInternal(uploadRequest, response, filterChain);
+
+        assertEquals(200, response.getStatus());
+        verify(filterChain).doFilter(uploadRequest, response);
+    }
+
+    @Test
+    void shouldKeepJsonLimitOnOtherPathsUnderContextPath() throws Exception {
+        MockHttpServletRequest uploadRequest = new MockHttpServletRequest() {
+            @Override
+            public int getContentLength() {
+                return 5 * 1024 * 1024;
+            }
+        };
+        uploadRequest.setMethod("POST");
+        uploadRequest.setContentType("application/octet-stream");
+        uploadRequest.setContextPath("/api/v1");
+        uploadRequest.setRequestURI("/api/v1/api/applications/42/documents");
+
+        filter.doFilterInternal(uploadRequest, response, filterChain);
+
+        assertEquals(413, response.getStatus());
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
+    @Test
+    void shouldRejectStreamingUploadLargerThanADocument() throws Exception {
+        MockHttpServletRequest uploadRequest = new MockHttpServletRequest() {
+            @Override
+            public int getContentLength() {
+                return 11 * 1024 * 1024;
+            }
+        };
+        uploadRequest.setMethod("POST");
+        uploadRequest.setContentType("application/octet-stream");
+        uploadRequest.setRequestURI("/api/applications/42/documents/stream");
+
+        filter.doFilterInternal(uploadRequest, response, filterChain);
+
+        assertEquals(413, response.getStatus());
+        assertTrue(response.getContentAsString().contains("Request body exceeds maximum size of 10MB"));
+        verify(filterChain, never()).doFilter(any(), any());
+    }
+
     @Test
     void shouldRejectUnsupportedContentType() throws Exception {
         request.setMethod("POST");
@@ -0,0 +1,212 @@
+package com.autoloan.backend.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.autoloan.backend.dto.application.AgreementBatchResponse;
+import com.autoloan.backend.exception.BadRequestException;
+import com.autoloan.backend.exception.ResourceNotFoundException;
+import com.autoloan.backend.model.Application;
+import com.autoloan.backend.model.User;
+import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.model.enums.Role;
+import com.autoloan.backend.repository.ApplicationRepository;
+import com.autoloan.backend.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Real commits against H2, read back by the worker threads
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AgreementBatchServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-04-02T09:00:00Z");
+    private static final LocalDate MARCH_1 = LocalDate.of(2026, 3, 1);
+    private static final LocalDate MARCH_31 = LocalDate.of(2026, 3, 31);
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @TempDir
+    private Path cacheDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AgreementBatchService batchService;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AgreementPdfService pdfService = new AgreementPdfService(applicationRepository, new AgreementPdfTemplate(),
+                new AgreementPdfCache(meterRegistry, cacheDir, 10_000_000, System::nanoTime));
+        // Page size 2 so a month spans several id pages
+        batchService = new AgreementBatchService(applicationRepository, pdfService, meterRegistry, 3, 2,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        userId = userRepository.save(User.builder()
+                .email("batch@example.com")
+                .encryptedPassword("hash")
+                .firstName("Batch")
+                .lastName("Test")
+                .phone("555-0000")
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchService.shutdown();
+        applicationRepository.deleteAll();
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    void zipsEveryAgreementDecidedInTheRangeInIdOrder() throws IOException {
+        application("APP-FEB", ApplicationStatus.APPROVED, "2026-02-28T23:59:59Z");
+        application("APP-M01", ApplicationStatus.APPROVED, "2026-03-01T00:00:00Z");
+        application("APP-M10", ApplicationStatus.REJECTED, "2026-03-10T12:00:00Z");
+        application("APP-M12", ApplicationStatus.SIGNED, "2026-03-12T12:00:00Z");
+        application("APP-M15", ApplicationStatus.APPROVED, "2026-03-15T12:00:00Z");
+        application("APP-M20", ApplicationStatus.APPROVED, "2026-03-20T12:00:00Z");
+        application("APP-M31", ApplicationStatus.SIGNED, "2026-03-31T23:59:59Z");
+        application("APP-APR", ApplicationStatus.APPROVED, "2026-04-01T00:00:00Z");
+
+        AgreementBatchService.Batch batch = batchService.prepare(MARCH_1, MARCH_31, Role.LOAN_OFFICER);
+        assertEquals(5, batch.getTotal());
+        assertEquals("PENDING", batchService.progress(batch.getId()).getStatus());
+
+        Map<String, byte[]> entries = unzip(write(batch));
+
+        assertEquals(List.of("loan_agreement_APP-M01.pdf", "loan_agreement_APP-M12.pdf",
+                        "loan_agreement_APP-M15.pdf", "loan_agreement_APP-M20.pdf", "loan_agreement_APP-M31.pdf"),
+                List.copyOf(entries.keySet()));
+        for (byte[] pdf : entries.values()) {
+            assertEquals("%PDF", new String(pdf, 0, 4, StandardCharsets.US_ASCII));
+        }
+        AgreementBatchResponse progress = batchService.progress(batch.getId());
+        assertEquals("COMPLETED", progress.getStatus());
+        assertEquals(5, progress.getTotal());
+        assertEquals(5, progress.getRendered());
+        assertEquals(0, progress.getFailed());
+        assertEquals(NOW, progress.getFinishedAt());
+        assertEquals(5.0, meterRegistry.counter("app.agreements.batch.pdfs", "result", "rendered").count(), 0.0);
+    }
+
+    @Test
+    void agreementsThatCannotRenderAreListedInsteadOfFailingTheBatch() throws IOException {
+        application("APP-OK", ApplicationStatus.APPROVED, "2026-03-05T12:00:00Z");
+        Application broken = applicationRepository.findById(
+                application("APP-BAD", ApplicationStatus.APPROVED, "2026-03-06T12:00:00Z")).orElseThrow();
+        broken.setLoanTerm(0);
+        applicationRepository.save(broken);
+
+        AgreementBatchService.Batch batch = batchService.prepare(MARCH_1, MARCH_31, Role.UNDERWRITER);
+        Map<String, byte[]> entries = unzip(write(batch));
+
+        assertEquals(List.of("loan_agreement_APP-OK.pdf", AgreementBatchService.FAILURES_ENTRY),
+                List.copyOf(entries.keySet()));
+        String failures = new String(entries.get(AgreementBatchService.FAILURES_ENTRY), StandardCharsets.UTF_8);
+        assertTrue(failures.startsWith(broken.getId() + "\tLoan term must be between"));
+        AgreementBatchResponse progress = batchService.progress(batch.getId());
+        assertEquals("COMPLETED", progress.getStatus());
+        assertEquals(1, progress.getRendered());
+        assertEquals(1, progress.getFailed());
+    }
+
+    @Test
+    void abortedDownloadMarksTheBatchFailed() {
+        for (int day = 1; day <= 6; day++) {
+            application("APP-D" + day, ApplicationStatus.APPROVED, "2026-03-0" + day + "T12:00:00Z");
+        }
+        AgreementBatchService.Batch batch = batchService.prepare(MARCH_1, MARCH_31, Role.LOAN_OFFICER);
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThrows(IOException.class, () -> batchService.write(batch, disconnected));
+
+        assertEquals("FAILED", batchService.progress(batch.getId()).getStatus());
+    }
+
+    @Test
+    void emptyRangeIsAnEmptyZip() throws IOException {
+        AgreementBatchService.Batch batch = batchService.prepare(MARCH_1, MARCH_31, Role.LOAN_OFFICER);
+
+        assertTrue(unzip(write(batch)).isEmpty());
+        assertEquals("COMPLETED", batchService.progress(batch.getId()).getStatus());
+    }
+
+    @Test
+    void invalidRangesAreRejected() {
+        assertThrows(BadRequestException.class,
+                () -> batchService.prepare(MARCH_31, MARCH_1, Role.LOAN_OFFICER));
+        assertThrows(BadRequestException.class,
+                () -> batchService.prepare(MARCH_1, MARCH_1.plusDays(366), Role.LOAN_OFFICER));
+    }
+
+    @Test
+    void unknownBatchIsNotFound() {
+        assertThrows(ResourceNotFoundException.class, () -> batchService.progress("nope"));
+    }
+
+    private byte[] write(AgreementBatchService.Batch batch) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        batchService.write(batch, out);
+        return out.toByteArray();
+    }
+
+    private static Map<String, byte[]> unzip(byte[] zip) throws IOException {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            for (ZipEntry entry = in.getNextEntry(); entry != null; entry = in.getNextEntry()) {
+                entries.put(entry.getName(), in.readAllBytes());
+            }
+        }
+        return entries;
+    }
+
+    private Long application(String number, ApplicationStatus status, String decidedAt) {
+        return applicationRepository.save(Application.builder()
+                .applicationNumber(number)
+                .userId(userId)
+                .status(status)
+                .loanAmount(new BigDecimal("25000.00"))
+                .downPayment(new BigDecimal("5000.00"))
+                .interestRate(new BigDecimal("6.90"))
+                .loanTerm(48)
+                .decidedAt(Instant.parse(decidedAt))
+                .addresses(new ArrayList<>())
+                .vehicles(new ArrayList<>())
+                .build()).getId();
+    }
+}
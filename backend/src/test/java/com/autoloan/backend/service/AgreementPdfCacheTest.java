@@ -0,0 +1,152 @@
+package com.autoloan.backend.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AgreementPdfCacheTest {
+
+    @TempDir
+    private Path dir;
+
+    private final AtomicLong clock = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void storedPdfIsServedForTheSameFingerprintOnly() throws IOException {
+        AgreementPdfCache cache = cache(1_000);
+        store(cache, 1L, "aa11", 100);
+
+        Optional<AgreementPdfCache.CachedPdf> hit = cache.get(1L, "aa11");
+        assertTrue(hit.isPresent());
+        assertEquals(dir.resolve("1-aa11.pdf"), hit.get().file());
+        assertEquals(100, hit.get().size());
+        assertArrayEquals(bytes(100), Files.readAllBytes(hit.get().file()));
+        assertTrue(cache.get(1L, "bb22").isEmpty());
+        assertTrue(cache.get(2L, "aa11").isEmpty());
+        assertEquals(1.0, meterRegistry.counter("app.cache.agreement_pdf.requests", "result", "hit").count(), 0.0);
+        assertEquals(2.0, meterRegistry.counter("app.cache.agreement_pdf.requests", "result", "miss").count(), 0.0);
+    }
+
+    @Test
+    void clientReceivesTheSameBytesThatAreCached() throws IOException {
+        AgreementPdfCache cache = cache(1_000);
+
+        assertArrayEquals(bytes(300), store(cache, 1L, "aa11", 300));
+        assertArrayEquals(bytes(300), Files.readAllBytes(dir.resolve("1-aa11.pdf")));
+        assertEquals(300, cache.totalBytes());
+    }
+
+    @Test
+    void unusableDirectoryStillServesThePdf() throws IOException {
+        AgreementPdfCache cache = cache(1_000);
+        Files.delete(dir);
+
+        assertArrayEquals(bytes(100), store(cache, 1L, "aa11", 100));
+        assertTrue(cache.get(1L, "aa11").isEmpty());
+        assertEquals(0, cache.totalBytes());
+    }
+
+    @Test
+    void abortedDownloadLeavesNothingCached() throws IOException {
+        AgreementPdfCache cache = cache(1_000);
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThrows(IOException.class,
+                () -> cache.writeThrough(1L, "aa11", disconnected, out -> out.write(bytes(100))));
+
+        assertTrue(cache.get(1L, "aa11").isEmpty());
+        try (var files = Files.list(dir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void newFingerprintReplacesTheApplicationsPreviousFile() throws IOException {
+        AgreementPdfCache cache = cache(1_000);
+        store(cache, 1L, "aa11", 100);
+        store(cache, 1L, "bb22", 150);
+
+        assertFalse(Files.exists(dir.resolve("1-aa11.pdf")));
+        assertTrue(Files.exists(dir.resolve("1-bb22.pdf")));
+        assertEquals(150, cache.totalBytes());
+    }
+
+    @Test
+    void leastRecentlyServedFilesAreEvictedOverBudget() throws IOException {
+        AgreementPdfCache cache = cache(250);
+        store(cache, 1L, "aa11", 100);
+        store(cache, 2L, "bb22", 100);
+        cache.get(1L, "aa11");
+
+        store(cache, 3L, "cc33", 100);
+
+        assertTrue(cache.get(1L, "aa11").isPresent());
+        assertTrue(cache.get(2L, "bb22").isEmpty());
+        assertFalse(Files.exists(dir.resolve("2-bb22.pdf")));
+        assertEquals(200, cache.totalBytes());
+        assertEquals(1.0, meterRegistry.counter("app.cache.agreement_pdf.evictions").count(), 0.0);
+    }
+
+    @Test
+    void filesFromAPreviousRunAreReusedAndLeftoversCleanedUp() throws IOException {
+        store(cache(1_000), 1L, "aa11", 100);
+        Files.write(dir.resolve("7-123456.tmp"), bytes(10));
+        Files.write(dir.resolve("notes.txt"), bytes(10));
+
+        AgreementPdfCache restarted = cache(1_000);
+
+        assertTrue(restarted.get(1L, "aa11").isPresent());
+        assertEquals(100, restarted.totalBytes());
+        assertFalse(Files.exists(dir.resolve("7-123456.tmp")));
+        // Files the cache did not write are left alone
+        assertTrue(Files.exists(dir.resolve("notes.txt")));
+        try (var files = Files.list(dir)) {
+            assertEquals(List.of("1-aa11.pdf", "notes.txt"),
+                    files.map(f -> f.getFileName().toString()).sorted().toList());
+        }
+    }
+
+    private AgreementPdfCache cache(long maxBytes) {
+        return new AgreementPdfCache(meterRegistry, dir, maxBytes, clock::incrementAndGet);
+    }
+
+    // What the client received
+    private static byte[] store(AgreementPdfCache cache, Long applicationId, String fingerprint, int size)
+            throws IOException {
+        ByteArrayOutputStream client = new ByteArrayOutputStream();
+        cache.writeThrough(applicationId, fingerprint, client, out -> out.write(bytes(size)));
+        return client.toByteArray();
+    }
+
+    private static byte[] bytes(int size) {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,106 @@
+package com.autoloan.backend.service;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.autoloan.backend.model.Address;
+import com.autoloan.backend.model.Document;
+import com.autoloan.backend.model.FinancialInfo;
+import com.autoloan.backend.model.Vehicle;
+import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.repository.AgreementRow;
+import com.autoloan.backend.repository.ApplicationRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AgreementPdfServiceQueryCountTest extends BaseQueryCountTest {
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @TempDir
+    private Path cacheDir;
+
+    private AgreementPdfService pdfService;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        pdfService = new AgreementPdfService(applicationRepository, new AgreementPdfTemplate(),
+                new AgreementPdfCache(new SimpleMeterRegistry(), cacheDir, 1_000_000, System::nanoTime));
+        userId = entityManager.persist(user("agreement@example.com").firstName("Agreement").build()).getId();
+    }
+
+    @Test
+    void agreementIsOneStatementWithTheResidentialAddress() throws Exception {
+        Long applicationId = approvedApplication("APP-AGREE");
+        address(applicationId, "mailing", "9 PO Box");
+        address(applicationId, "residential", "1 Main St");
+        address(applicationId, "previous", "5 Old Rd");
+        entityManager.persist(Vehicle.builder()
+                .applicationId(applicationId).make("Honda").model("Civic").year(2023).vin("2HGFC2F59JH000001")
+                .build());
+        entityManager.persist(FinancialInfo.builder()
+                .applicationId(applicationId).incomeType("primary").employerName("Acme").build());
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(Document.builder().applicationId(applicationId).fileName("doc" + i + ".pdf").build());
+        }
+        flushAndClear();
+
+        AgreementPdfService.PdfResult result = pdfService.generate(applicationId, userId, "CUSTOMER");
+        result.writeTo(new ByteArrayOutputStream());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        AgreementRow row = applicationRepository.findAgreementRow(applicationId).orElseThrow();
+        assertEquals("1 Main St", row.streetAddress());
+        assertEquals("Agreement", row.firstName());
+        assertEquals("Civic", row.vehicleModel());
+        assertEquals(new BigDecimal("6.90"), row.interestRate());
+    }
+
+    @Test
+    void withoutResidentialAddressOrVehicleTheFirstAddressIsUsed() {
+        Long applicationId = approvedApplication("APP-SPARSE");
+        address(applicationId, "mailing", "9 PO Box");
+        address(applicationId, "previous", "5 Old Rd");
+        flushAndClear();
+
+        AgreementRow row = applicationRepository.findAgreementRow(applicationId).orElseThrow();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals("9 PO Box", row.streetAddress());
+        assertNull(row.vehicleId());
+        assertEquals(userId, row.borrowerId());
+    }
+
+    @Test
+    void missingApplicationIsEmpty() {
+        assertTrue(applicationRepository.findAgreementRow(-1L).isEmpty());
+    }
+
+    private Long approvedApplication(String number) {
+        return entityManager.persist(application(number, userId, ApplicationStatus.APPROVED)
+                .loanAmount(new BigDecimal("25000.00"))
+                .downPayment(new BigDecimal("5000.00"))
+                .interestRate(new BigDecimal("6.90"))
+                .loanTerm(48)
+                .decidedAt(Instant.parse("2026-03-02T15:30:00Z"))
+                .build()).getId();
+    }
+
+    private void address(Long applicationId, String type, String street) {
+        entityManager.persist(Address.builder()
+                .applicationId(applicationId).addressType(type)
+                .streetAddress(street).city("Irvine").state("CA").zipCode("92618").build());
+    }
+}
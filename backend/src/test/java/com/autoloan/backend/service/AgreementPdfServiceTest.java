@@ -1,14 +1,23 @@
 // backend/src/test/java/com/autoloan/backend/service/AgreementPdfServiceTest.java
 package com.autoloan.backend.service;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -20,17 +29,26 @@ import com.autoloan.backend.model.User;
 import com.autoloan.backend.model.Vehicle;
 import com.autoloan.backend.model.enums.ApplicationStatus;
 import com.autoloan.backend.model.enums.Role;
+import com.autoloan.backend.repository.AgreementRow;
 import com.autoloan.backend.repository.ApplicationRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class AgreementPdfServiceTest {
 
+    private static final AgreementPdfTemplate TEMPLATE = new AgreementPdfTemplate();
+
     @Mock
     private ApplicationRepository applicationRepository;
 
+    @TempDir
+    private Path cacheDir;
+
+    private SimpleMeterRegistry meterRegistry;
     private AgreementPdfService pdfService;
 
     private Application app;
@@ -38,7 +56,9 @@ class AgreementPdfServiceTest {
 
     @BeforeEach
     void setUp() {
-        pdfService = new AgreementPdfService(applicationRepository);
+        meterRegistry = new SimpleMeterRegistry();
+        pdfService = new AgreementPdfService(applicationRepository, TEMPLATE,
+                new AgreementPdfCache(meterRegistry, cacheDir, 1_000_000, System::nanoTime));
 
         user = new User();
         user.setId(1L);
@@ -84,64 +104,68 @@ class AgreementPdfServiceTest {
     // ==================== generate ====================
 
     @Test
-    void generateShouldReturnPdfForApprovedAppAsCustomer() {
-        when(applicationRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(app));
+    void generateShouldReturnPdfForApprovedAppAsCustomer() throws Exception {
+        when(applicationRepository.findAgreementRow(1L)).thenAnswer(invocation -> Optional.of(row(app)));
 
         AgreementPdfService.PdfResult result = pdfService.generate(1L, 1L, "CUSTOMER");
 
-        assertNotNull(result.getBuffer());
-        assertTrue(result.getBuffer().length > 0);
+        assertTrue(bytes(result).length > 0);
         assertEquals("loan_agreement_APP-0001.pdf", result.getFilename());
     }
 
     @Test
-    void generateShouldReturnPdfForSignedApp() {
+    void generateShouldReturnPdfForSignedApp() throws Exception {
         app.setStatus(ApplicationStatus.SIGNED);
-        when(applicationRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(app));
+        when(applicationRepository.findAgreementRow(1L)).thenAnswer(invocation -> Optional.of(row(app)));
 
         AgreementPdfService.PdfResult result = pdfService.generate(1L, 1L, "CUSTOMER");
 
-        assertNotNull(result.getBuffer());
-        assertTrue(result.getBuffer().length > 0);
+        assertTrue(bytes(result).length > 0);
     }
 
     @Test
-    void generateShouldReturnPdfForStaffWithoutOwnership() {
-        when(applicationRepository.findById(1L)).thenReturn(Optional.of(app));
+    void generateShouldReturnPdfForStaffWithoutOwnership() throws Exception {
+        when(applicationRepository.findAgreementRow(1L)).thenAnswer(invocation -> Optional.of(row(app)));
 
         AgreementPdfService.PdfResult result = pdfService.generate(1L, 99L, "LOAN_OFFICER");
 
-        assertNotNull(result.getBuffer());
-        assertTrue(result.getBuffer().length > 0);
+        assertTrue(bytes(result).length > 0);
     }
 
     @Test
-    void generateShouldReturnPdfForUnderwriter() {
-        when(applicationRepository.findById(1L)).thenReturn(Optional.of(app));
+    void generateShouldReturnPdfForUnderwriter() throws Exception {
+        when(applicationRepository.findAgreementRow(1L)).thenAnswer(invocation -> Optional.of(row(app)));
 
         AgreementPdfService.PdfResult result = pdfService.generate(1L, 99L, "UNDERWRITER");
 
-        assertNotNull(result.getBuffer());
+        assertNotNull(bytes(result));
     }
 
     @Test
     void generateShouldThrowWhenAppNotFoundAsCustomer() {
-        when(applicationRepository.findByIdAndUserId(99L, 1L)).thenReturn(Optional.empty());
+        when(applicationRepository.findAgreementRow(99L)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> pdfService.generate(99L, 1L, "CUSTOMER"));
     }
 
     @Test
     void generateShouldThrowWhenAppNotFoundAsStaff() {
-        when(applicationRepository.findById(99L)).thenReturn(Optional.empty());
+        when(applicationRepository.findAgreementRow(99L)).thenReturn(Optional.empty());
 
         assertThrows(ResourceNotFoundException.class, () -> pdfService.generate(99L, 1L, "LOAN_OFFICER"));
     }
 
+    @Test
+    void generateShouldThrowWhenCustomerDoesNotOwnTheApplication() {
+        when(applicationRepository.findAgreementRow(1L)).thenAnswer(invocation -> Optional.of(row(app)));
+
+        assertThrows(ResourceNotFoundException.class, () -> pdfService.generate(1L, 2L, "CUSTOMER"));
+    }
+
     @Test
     void generateShouldThrowWhenStatusIsDraft() {
         app.setStatus(ApplicationStatus.DRAFT);
-        when(applicationRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(app));
+        when(applicationRepository.findAgreementRow(1L)).thenAnswer(invocation -> Optional.of(row(app)));
 
         assertThrows(BadRequestException.class, () -> pdfService.generate(1L, 1L, "CUSTOMER"));
     }
@@ -149,7 +173,7 @@ class AgreementPdfServiceTest {
     @Test
     void generateShouldThrowWhenStatusIsSubmitted() {
         app.setStatus(ApplicationStatus.SUBMITTED);
-        when(applicationRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(app));
+        when(applicationRepository.findAgreementRow(1L)).thenAnswer(invocation -> Optional.of(row(app)));
 
         assertThrows(BadRequestException.class, () -> pdfService.generate(1L, 1L, "CUSTOMER"));
     }
@@ -157,7 +181,7 @@ class AgreementPdfServiceTest {
     @Test
     void generateShouldUseDefaultAppNumberWhenNull() {
         app.setApplicationNumber(null);
-        when(applicationRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(app));
+        when(applicationRepository.findAgreementRow(1L)).thenAnswer(invocation -> Optional.of(row(app)));
 
         AgreementPdfService.PdfResult result = pdfService.generate(1L, 1L, "CUSTOMER");
 
@@ -167,47 +191,176 @@ class AgreementPdfServiceTest {
     // ==================== buildPdf edge cases ====================
 
     @Test
-    void buildPdfShouldHandleNoAddressesOrVehicles() {
+    void buildPdfShouldHandleNoAddressesOrVehicles() throws Exception {
         app.setAddresses(new ArrayList<>());
         app.setVehicles(new ArrayList<>());
-        when(applicationRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(app));
+        when(applicationRepository.findAgreementRow(1L)).thenAnswer(invocation -> Optional.of(row(app)));
 
         AgreementPdfService.PdfResult result = pdfService.generate(1L, 1L, "CUSTOMER");
 
-        assertNotNull(result.getBuffer());
-        assertTrue(result.getBuffer().length > 0);
+        assertTrue(bytes(result).length > 0);
+    }
+
+    @Test
+    void pdfShouldContainTemplateTextAndApplicationValues() throws Exception {
+        when(applicationRepository.findAgreementRow(1L)).thenAnswer(invocation -> Optional.of(row(app)));
+
+        String text = extractText(bytes(pdfService.generate(1L, 1L, "CUSTOMER")));
+
+        assertTrue(text.contains("AUTO LOAN AGREEMENT"));
+        assertTrue(text.contains("Loan Agreement #APP-0001"));
+        assertTrue(text.contains("Name: John Doe"));
+        assertTrue(text.contains("Address: 123 Main St, Springfield, IL 62701"));
+        assertTrue(text.contains("Amount Financed: $20,000.00"));
+        assertTrue(text.contains("Monthly Payment: $478.00"));
+        assertTrue(text.contains("Total Interest: $2,943.86"));
+        assertTrue(text.contains("VIN: 1HGBH41JXMN109186"));
+        assertTrue(text.contains("5. Borrower must maintain full coverage insurance on the vehicle."));
+        assertTrue(text.contains("Borrower: John Doe"));
+    }
+
+    @Test
+    void repeatDownloadIsServedFromCacheWithTheSameEtag() throws Exception {
+        when(applicationRepository.findAgreementRow(1L)).thenAnswer(invocation -> Optional.of(row(app)));
+
+        AgreementPdfService.PdfResult first = pdfService.generate(1L, 1L, "CUSTOMER");
+        byte[] rendered = bytes(first);
+        AgreementPdfService.PdfResult second = pdfService.generate(1L, 1L, "CUSTOMER");
+
+        assertNotNull(first.getEtag());
+        assertTrue(first.getEtag().matches("\"[0-9a-f]{32}\""));
+        assertEquals(first.getEtag(), second.getEtag());
+        assertTrue(first.getContentLength().isEmpty());
+        assertEquals(rendered.length, second.getContentLength().getAsLong());
+        assertArrayEquals(rendered, bytes(second));
+        assertEquals(1.0, meterRegistry.counter("app.cache.agreement_pdf.requests", "result", "hit").count(), 0.0);
+        try (var files = Files.list(cacheDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void cachedFileEvictedBeforeTheBodyIsWrittenIsRenderedAgain() throws Exception {
+        when(applicationRepository.findAgreementRow(1L)).thenAnswer(invocation -> Optional.of(row(app)));
+        byte[] rendered = bytes(pdfService.generate(1L, 1L, "CUSTOMER"));
+        // Room for one agreement only, starting from what the first download cached
+        pdfService = new AgreementPdfService(applicationRepository, TEMPLATE,
+                new AgreementPdfCache(meterRegistry, cacheDir, rendered.length + rendered.length / 2, System::nanoTime));
+
+        AgreementPdfService.PdfResult hit = pdfService.generate(1L, 1L, "CUSTOMER");
+        app.setId(2L);
+        app.setApplicationNumber("APP-0002");
+        when(applicationRepository.findAgreementRow(2L)).thenAnswer(invocation -> Optional.of(row(app)));
+        bytes(pdfService.generate(2L, 1L, "CUSTOMER"));
+        assertFalse(Files.exists(cacheDir.resolve("1-" + hit.getEtag().replace("\"", "") + ".pdf")));
+
+        assertEquals(rendered.length, hit.getContentLength().getAsLong());
+        assertArrayEquals(rendered, bytes(hit));
     }
 
     @Test
-    void buildPdfShouldHandleNullLoanFields() {
+    void changedInputsProduceANewEtagAndReplaceTheCachedFile() throws Exception {
+        when(applicationRepository.findAgreementRow(1L)).thenAnswer(invocation -> Optional.of(row(app)));
+        AgreementPdfService.PdfResult first = pdfService.generate(1L, 1L, "CUSTOMER");
+        bytes(first);
+        String before = first.getEtag();
+
+        user.setPhone("555-9999");
+        AgreementPdfService.PdfResult after = pdfService.generate(1L, 1L, "CUSTOMER");
+
+        assertNotEquals(before, after.getEtag());
+        assertTrue(extractText(bytes(after)).contains("Phone: 555-9999"));
+        try (var files = Files.list(cacheDir)) {
+            assertEquals(List.of("1-" + after.getEtag().replace("\"", "") + ".pdf"),
+                    files.map(f -> f.getFileName().toString()).toList());
+        }
+    }
+
+    @Test
+    void agreementIsDatedByTheDecision() throws Exception {
+        app.setDecidedAt(Instant.parse("2026-03-02T15:30:00Z"));
+        when(applicationRepository.findAgreementRow(1L)).thenAnswer(invocation -> Optional.of(row(app)));
+
+        String text = extractText(bytes(pdfService.generate(1L, 1L, "CUSTOMER")));
+
+        assertTrue(text.contains("Date: March 02, 2026"));
+    }
+
+    @Test
+    void buildPdfShouldHandleNullLoanFields() throws Exception {
         app.setLoanAmount(null);
         app.setDownPayment(null);
         app.setInterestRate(null);
         app.setLoanTerm(null);
         app.setMonthlyPayment(null);
-        when(applicationRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(app));
+        when(applicationRepository.findAgreementRow(1L)).thenAnswer(invocation -> Optional.of(row(app)));
 
         AgreementPdfService.PdfResult result = pdfService.generate(1L, 1L, "CUSTOMER");
 
-        assertNotNull(result.getBuffer());
+        assertTrue(extractText(bytes(result)).contains("Loan Term: 48 months"));
     }
 
     @Test
-    void buildPdfShouldHandleNullUser() {
+    void buildPdfShouldHandleNullUser() throws Exception {
         app.setUser(null);
-        when(applicationRepository.findByIdAndUserId(1L, 1L)).thenReturn(Optional.of(app));
+        when(applicationRepository.findAgreementRow(1L)).thenAnswer(invocation -> Optional.of(row(app)));
 
         AgreementPdfService.PdfResult result = pdfService.generate(1L, 1L, "CUSTOMER");
 
-        assertNotNull(result.getBuffer());
+        assertNotNull(bytes(result));
     }
 
     @Test
-    void pdfResultShouldExposeBufferAndFilename() {
+    void pdfResultShouldExposeLengthOnlyWhenKnown() throws Exception {
         byte[] data = new byte[]{1, 2, 3};
-        AgreementPdfService.PdfResult result = new AgreementPdfService.PdfResult(data, "test.pdf");
+        AgreementPdfService.PdfResult cached = new AgreementPdfService.PdfResult(
+                "test.pdf", "\"ab\"", data.length, out -> out.write(data));
+        AgreementPdfService.PdfResult rendered = new AgreementPdfService.PdfResult(
+                "test.pdf", "\"ab\"", -1, out -> out.write(data));
+
+        assertArrayEquals(data, bytes(cached));
+        assertEquals(3, cached.getContentLength().getAsLong());
+        assertTrue(rendered.getContentLength().isEmpty());
+        assertEquals("test.pdf", cached.getFilename());
+    }
+
+    // What ApplicationRepository.findAgreementRow selects for the application as set up here
+    private static AgreementRow row(Application app) {
+        User user = app.getUser();
+        Address address = app.getAddresses().stream()
+                .filter(a -> "residential".equals(a.getAddressType()))
+                .findFirst().orElse(app.getAddresses().isEmpty() ? null : app.getAddresses().get(0));
+        Vehicle vehicle = app.getVehicles().isEmpty() ? null : app.getVehicles().get(0);
+        return new AgreementRow(app.getId(), app.getApplicationNumber(), app.getStatus(), app.getUserId(),
+                app.getLoanAmount(), app.getDownPayment(), app.getInterestRate(), app.getLoanTerm(),
+                app.getDecidedAt(),
+                user != null ? user.getId() : null, user != null ? user.getFirstName() : null,
+                user != null ? user.getLastName() : null, user != null ? user.getPhone() : null,
+                user != null ? user.getEmail() : null,
+                address != null ? 1L : null, address != null ? address.getStreetAddress() : null,
+                address != null ? address.getCity() : null, address != null ? address.getState() : null,
+                address != null ? address.getZipCode() : null,
+                vehicle != null ? 1L : null, vehicle != null ? vehicle.getYear() : null,
+                vehicle != null ? vehicle.getMake() : null, vehicle != null ? vehicle.getModel() : null,
+                vehicle != null ? vehicle.getVin() : null);
+    }
+
+    private static byte[] bytes(AgreementPdfService.PdfResult result) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        result.writeTo(out);
+        return out.toByteArray();
+    }
+
+    private static String extractText(byte[] pdf) throws IOException {
+        try (PDDocument doc = Loader.loadPDF(pdf)) {
+            return text(doc);
+        }
+    }
 
-        assertArrayEquals(data, result.getBuffer());
-        assertEquals("test.pdf", result.getFilename());
+    // Labels and values live in different content streams; read them back in page order
+    private static String text(PDDocument doc) throws IOException {
+        PDFTextStripper stripper = new PDFTextStripper();
+        stripper.setSortByPosition(true);
+        return stripper.getText(doc);
     }
 }
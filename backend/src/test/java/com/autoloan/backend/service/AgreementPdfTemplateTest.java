@@ -0,0 +1,84 @@
+package com.autoloan.backend.service;
+
+import java.io.IOException;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.cos.COSName;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AgreementPdfTemplateTest {
+
+    private final AgreementPdfTemplate template = new AgreementPdfTemplate();
+
+    @Test
+    void cachedWidthsMatchFontMetrics() throws IOException {
+        PDType1Font regular = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+        PDType1Font bold = new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD);
+        String text = "Loan Agreement #APP-1A2B3C4D (José, 100%)";
+
+        assertEquals(regular.getStringWidth(text), template.width(COSName.getPDFName("F2"), text), 0.001);
+        assertEquals(bold.getStringWidth(text), template.width(COSName.getPDFName("F1"), text), 0.001);
+    }
+
+    @Test
+    void rendersOnePageWithFixedAndVariableStreams() throws IOException {
+        byte[] pdf = template.render(fields("APP-0001", "Jane (Q) O\\Brien"));
+
+        try (PDDocument doc = Loader.loadPDF(pdf)) {
+            assertEquals(1, doc.getNumberOfPages());
+            PDPage page = doc.getPage(0);
+            assertEquals(2, countStreams(page));
+            String text = text(doc);
+            assertTrue(text.contains("BORROWER INFORMATION"));
+            assertTrue(text.contains("Borrower: Jane (Q) O\\Brien"));
+            assertTrue(text.contains("Phone: N/A"));
+        }
+    }
+
+    @Test
+    void sameFieldsRenderTheSameBytes() {
+        AgreementPdfTemplate.Fields fields = fields("APP-0003", "Jane Doe");
+
+        assertArrayEquals(template.render(fields), template.render(fields));
+        assertEquals(template.fingerprint(fields), template.fingerprint(fields("APP-0003", "Jane Doe")));
+        assertNotEquals(template.fingerprint(fields), template.fingerprint(fields("APP-0003", "Jane Roe")));
+    }
+
+    @Test
+    void charactersOutsideWinAnsiAreReplaced() throws IOException {
+        byte[] pdf = template.render(fields("APP-0002", "Zoë 李"));
+
+        try (PDDocument doc = Loader.loadPDF(pdf)) {
+            assertTrue(text(doc).contains("Name: Zoë ?"));
+        }
+    }
+
+    private static int countStreams(PDPage page) {
+        int count = 0;
+        for (var streams = page.getContentStreams(); streams.hasNext(); streams.next()) {
+            count++;
+        }
+        return count;
+    }
+
+    private static AgreementPdfTemplate.Fields fields(String applicationNumber, String name) {
+        return new AgreementPdfTemplate.Fields(applicationNumber, "March 10, 2026",
+                name, "1 Elm St, Austin, TX 73301", null, "jane@example.com",
+                "$25,000.00", "$5,000.00", "$20,000.00", "6.90%", "48 months",
+                "$478.00", "$22,943.86", "$2,943.86", "2024", "Toyota", "Camry", "N/A");
+    }
+
+    // Labels and values live in different content streams; read them back in page order
+    private static String text(PDDocument doc) throws IOException {
+        PDFTextStripper stripper = new PDFTextStripper();
+        stripper.setSortByPosition(true);
+        return stripper.getText(doc);
+    }
+}
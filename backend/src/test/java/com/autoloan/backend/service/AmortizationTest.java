@@ -0,0 +1,134 @@
+package com.autoloan.backend.service;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.autoloan.backend.exception.BadRequestException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AmortizationTest {
+
+    @Test
+    void monthlyPaymentMatchesTheAnnuityFormula() {
+        // $20,000.00 at 6.90% over 48 months
+        assertEquals(47800, Amortization.monthlyPaymentCents(2_000_000, 690, 48));
+    }
+
+    @Test
+    void monthlyPaymentAgreesWithExactArithmeticToTheCent() {
+        long[] principals = {100, 99_999, 1_234_567, 2_500_000, 7_500_001, 9_999_999_999L};
+        int[] rates = {1, 199, 450, 690, 1299, 2499, 3600};
+        int[] terms = {1, 12, 36, 48, 60, 72, 84, 360};
+        for (long principal : principals) {
+            for (int rate : rates) {
+                for (int term : terms) {
+                    assertEquals(exactPayment(principal, rate, term),
+                            Amortization.monthlyPaymentCents(principal, rate, term),
+                            principal + " @ " + rate + "bps x " + term);
+                }
+            }
+        }
+    }
+
+    // 0% to 30% in 5 basis point steps against every term from 12 to 84 months
+    @ParameterizedTest
+    @MethodSource("ratesUpTo30Percent")
+    void monthlyPaymentMatchesExactArithmeticAcrossTheRateGrid(int rate) {
+        long[] principals = {1, 500_050, 2_000_000, 4_999_999, 12_345_678};
+        for (long principal : principals) {
+            for (int term = 12; term <= 84; term++) {
+                long expected = rate == 0 ? (principal + term / 2) / term : exactPayment(principal, rate, term);
+                assertEquals(expected, Amortization.monthlyPaymentCents(principal, rate, term),
+                        principal + " @ " + rate + "bps x " + term);
+            }
+        }
+    }
+
+    static IntStream ratesUpTo30Percent() {
+        return IntStream.rangeClosed(0, 600).map(step -> step * 5);
+    }
+
+    @Test
+    void scheduleAmortizesToZeroWithAdjustedFinalPayment() {
+        Amortization.Schedule schedule = Amortization.schedule(2_000_000, 690, 48);
+        List<Amortization.Installment> installments = schedule.installments();
+
+        assertEquals(48, installments.size());
+        Amortization.Installment first = installments.get(0);
+        assertEquals(47800, first.paymentCents());
+        assertEquals(11500, first.interestCents());
+        assertEquals(36300, first.principalCents());
+        assertEquals(1_963_700, first.balanceCents());
+
+        Amortization.Installment last = installments.get(47);
+        assertEquals(47786, last.paymentCents());
+        assertEquals(0, last.balanceCents());
+
+        assertEquals(294_386, schedule.totalInterestCents());
+        assertEquals(2_000_000 + 294_386, schedule.totalOfPaymentsCents());
+        assertEquals(schedule.totalInterestCents(), Amortization.totalInterestCents(2_000_000, 690, 48));
+    }
+
+    @Test
+    void everyScheduleRepaysExactlyThePrincipal() {
+        for (int rate : new int[] {0, 1, 399, 690, 2999}) {
+            for (int term : new int[] {1, 7, 60, 84}) {
+                Amortization.Schedule schedule = Amortization.schedule(3_333_333, rate, term);
+                long principal = schedule.installments().stream()
+                        .mapToLong(Amortization.Installment::principalCents).sum();
+                assertEquals(3_333_333, principal);
+                assertEquals(0, schedule.installments().get(term - 1).balanceCents());
+            }
+        }
+    }
+
+    @Test
+    void zeroRateSplitsPrincipalEvenly() {
+        Amortization.Schedule schedule = Amortization.schedule(2_500_000, 0, 60);
+
+        assertEquals(41667, schedule.paymentCents());
+        assertEquals(0, schedule.totalInterestCents());
+        assertEquals(41647, schedule.installments().get(59).paymentCents());
+    }
+
+    @Test
+    void zeroPrincipalHasNoPayments() {
+        Amortization.Schedule schedule = Amortization.schedule(0, 690, 12);
+
+        assertEquals(0, schedule.paymentCents());
+        assertEquals(0, schedule.totalOfPaymentsCents());
+    }
+
+    @Test
+    void invalidTermsAreRejected() {
+        assertThrows(BadRequestException.class, () -> Amortization.monthlyPaymentCents(-1, 690, 48));
+        assertThrows(BadRequestException.class, () -> Amortization.monthlyPaymentCents(100, -1, 48));
+        assertThrows(BadRequestException.class, () -> Amortization.monthlyPaymentCents(100, 690, 0));
+        assertThrows(BadRequestException.class, () -> Amortization.schedule(100, 690, 601));
+    }
+
+    @Test
+    void convertsBetweenAmountsAndFixedPoint() {
+        assertEquals(2_000_050, Amortization.toCents(new BigDecimal("20000.495")));
+        assertEquals(690, Amortization.toBasisPoints(new BigDecimal("6.90")));
+        assertEquals(450, Amortization.toBasisPoints(new BigDecimal("4.5")));
+        assertEquals(new BigDecimal("478.00"), Amortization.toAmount(47800));
+    }
+
+    // Exact rational annuity payment, P*r*g^n / (g^n - 1) with g = 1 + r, rounded half-up
+    private static long exactPayment(long principalCents, int rateBps, int term) {
+        BigInteger divisor = BigInteger.valueOf(120_000);
+        BigInteger growth = divisor.add(BigInteger.valueOf(rateBps)).pow(term);
+        BigInteger numerator = BigInteger.valueOf(principalCents).multiply(BigInteger.valueOf(rateBps)).multiply(growth);
+        BigInteger denominator = divisor.multiply(growth.subtract(divisor.pow(term)));
+        return new BigDecimal(numerator).divide(new BigDecimal(denominator), 0, RoundingMode.HALF_UP).longValueExact();
+    }
+}
@@ -0,0 +1,141 @@
+package com.autoloan.backend.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+
+import com.autoloan.backend.dto.application.AgingBuckets;
+import com.autoloan.backend.dto.application.AgingSummaryResponse;
+import com.autoloan.backend.exception.BadRequestException;
+import com.autoloan.backend.model.Application;
+import com.autoloan.backend.model.User;
+import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.repository.ApplicationRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ApplicationAgingServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-10T12:00:00Z");
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private ApplicationAgingService agingService;
+    private Long userId;
+    private int sequence;
+
+    @BeforeEach
+    void setUp() {
+        agingService = new ApplicationAgingService(applicationRepository, Clock.fixed(NOW, ZoneOffset.UTC));
+        userId = entityManager.persist(User.builder()
+                .email("aging@example.com")
+                .encryptedPassword("hash")
+                .firstName("Aging")
+                .lastName("Test")
+                .phone("555-0000")
+                .build()).getId();
+    }
+
+    @Test
+    void bucketsApplicationsByTimeInCurrentStatus() {
+        application(ApplicationStatus.SUBMITTED, Duration.ofHours(2));
+        application(ApplicationStatus.SUBMITTED, Duration.ofHours(30));
+        application(ApplicationStatus.SUBMITTED, Duration.ofDays(5));
+        application(ApplicationStatus.SUBMITTED, Duration.ofDays(9));
+        application(ApplicationStatus.PENDING_DOCUMENTS, Duration.ofDays(2));
+        application(ApplicationStatus.APPROVED, Duration.ofDays(20));
+
+        AgingSummaryResponse summary = agingService.summary(null);
+
+        assertEquals(NOW, summary.getAsOf());
+        assertEquals(List.of("SUBMITTED", "UNDER_REVIEW", "PENDING_DOCUMENTS"),
+                List.copyOf(summary.getStatuses().keySet()));
+        AgingBuckets submitted = summary.getStatuses().get("SUBMITTED");
+        assertEquals(1, submitted.getUnderOneDay());
+        assertEquals(1, submitted.getOneToThreeDays());
+        assertEquals(2, submitted.getOverThreeDays());
+        assertEquals(4, submitted.getTotal());
+        assertEquals(NOW.minus(Duration.ofDays(9)), submitted.getOldestEnteredAt());
+        assertEquals(1, summary.getStatuses().get("PENDING_DOCUMENTS").getOneToThreeDays());
+    }
+
+    @Test
+    void emptyStatusesReportZeroBuckets() {
+        AgingBuckets underReview = agingService.summary(null).getStatuses().get("UNDER_REVIEW");
+
+        assertEquals(0, underReview.getTotal());
+        assertNull(underReview.getOldestEnteredAt());
+    }
+
+    @Test
+    void boundariesBelongToTheOlderBucket() {
+        application(ApplicationStatus.UNDER_REVIEW, Duration.ofDays(1));
+        application(ApplicationStatus.UNDER_REVIEW, Duration.ofDays(3));
+
+        AgingBuckets buckets = agingService.summary(List.of("under_review")).getStatuses().get("UNDER_REVIEW");
+
+        assertEquals(0, buckets.getUnderOneDay());
+        assertEquals(1, buckets.getOneToThreeDays());
+        assertEquals(1, buckets.getOverThreeDays());
+    }
+
+    @Test
+    void requestedStatusesOnly() {
+        application(ApplicationStatus.APPROVED, Duration.ofDays(4));
+
+        AgingSummaryResponse summary = agingService.summary(List.of("APPROVED"));
+
+        assertEquals(1, summary.getStatuses().size());
+        assertEquals(1, summary.getStatuses().get("APPROVED").getOverThreeDays());
+    }
+
+    @Test
+    void invalidStatusIsRejected() {
+        assertThrows(BadRequestException.class, () -> agingService.summary(List.of("WAITING")));
+    }
+
+    @Test
+    void summaryIsOneGroupedQueryWithoutLoadingApplications() {
+        for (int i = 0; i < 20; i++) {
+            application(ApplicationStatus.SUBMITTED, Duration.ofHours(i * 7L));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        agingService.summary(null);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    private void application(ApplicationStatus status, Duration inStatus) {
+        entityManager.persist(Application.builder()
+                .applicationNumber("APP-AGE" + sequence++)
+                .userId(userId)
+                .status(status)
+                .statusEnteredAt(NOW.minus(inStatus))
+                .build());
+    }
+}
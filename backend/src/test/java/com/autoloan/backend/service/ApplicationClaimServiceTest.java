@@ -0,0 +1,259 @@
+package com.autoloan.backend.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.autoloan.backend.dto.application.ClaimResponse;
+import com.autoloan.backend.dto.loan.LoanApplicationResponse;
+import com.autoloan.backend.exception.BadRequestException;
+import com.autoloan.backend.model.Application;
+import com.autoloan.backend.model.User;
+import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.repository.ApplicationRepository;
+import com.autoloan.backend.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Real commits against H2, so claims from concurrent threads contend for the same rows
+@DataJpaTest
+@Import({ApplicationClaimServiceTest.Config.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApplicationClaimServiceTest {
+
+    private static final Instant START = Instant.parse("2026-03-02T09:00:00Z");
+    private static final Duration LEASE = Duration.ofMinutes(15);
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        MutableClock mutableClock() {
+            return new MutableClock();
+        }
+
+        @Bean
+        ApplicationResponseCache applicationResponseCache(MeterRegistry meterRegistry) {
+            return new ApplicationResponseCache(meterRegistry, 100, 30);
+        }
+
+        @Bean
+        ApplicationClaimService applicationClaimService(ApplicationRepository applicationRepository,
+                                                        ApplicationResponseCache responseCache,
+                                                        MeterRegistry meterRegistry, MutableClock clock) {
+            return new ApplicationClaimService(applicationRepository, responseCache, meterRegistry, LEASE, clock);
+        }
+    }
+
+    static final class MutableClock extends Clock {
+        private volatile Instant now = START;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    @Autowired
+    private ApplicationClaimService claimService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MutableClock clock;
+
+    @Autowired
+    private ApplicationResponseCache responseCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        clock.now = START;
+        userId = userRepository.save(User.builder()
+                .email("queue@example.com")
+                .encryptedPassword("hash")
+                .firstName("Queue")
+                .lastName("Test")
+                .phone("555-0000")
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        applicationRepository.deleteAll();
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    void claimsOldestSubmittedApplicationFirst() {
+        application("APP-NEWER", ApplicationStatus.SUBMITTED, START.minusSeconds(60));
+        Long oldest = application("APP-OLDEST", ApplicationStatus.SUBMITTED, START.minusSeconds(600));
+        application("APP-REVIEW", ApplicationStatus.UNDER_REVIEW, START.minusSeconds(900));
+
+        ClaimResponse claim = claimService.claimNext(200L).orElseThrow();
+
+        assertEquals(oldest, claim.getId());
+        assertEquals(START.plus(LEASE), claim.getClaimExpiresAt());
+        assertFalse(claim.isRenewed());
+        Application stored = applicationRepository.findById(oldest).orElseThrow();
+        assertEquals(200L, stored.getClaimedBy());
+        assertEquals(START.plus(LEASE), stored.getClaimExpiresAt());
+    }
+
+    @Test
+    void claimingAgainRenewsTheHeldClaim() {
+        Long first = application("APP-1", ApplicationStatus.SUBMITTED, START.minusSeconds(600));
+        application("APP-2", ApplicationStatus.SUBMITTED, START.minusSeconds(60));
+        claimService.claimNext(200L);
+        clock.advance(Duration.ofMinutes(10));
+
+        ClaimResponse again = claimService.claimNext(200L).orElseThrow();
+
+        assertEquals(first, again.getId());
+        assertTrue(again.isRenewed());
+        assertEquals(START.plus(Duration.ofMinutes(10)).plus(LEASE), again.getClaimExpiresAt());
+        assertEquals(1.0, meterRegistry.counter("app.queue.claims", "outcome", "renewed").count(), 0.0);
+    }
+
+    @Test
+    void otherOfficersSkipLiveClaimsAndTakeExpiredOnes() {
+        Long app = application("APP-1", ApplicationStatus.SUBMITTED, START.minusSeconds(600));
+        claimService.claimNext(200L);
+
+        assertEquals(Optional.empty(), claimService.claimNext(201L));
+
+        clock.advance(LEASE);
+        ClaimResponse taken = claimService.claimNext(201L).orElseThrow();
+        assertEquals(app, taken.getId());
+        assertEquals(201L, taken.getClaimedBy());
+    }
+
+    @Test
+    void releaseFreesTheApplicationForOthers() {
+        Long app = application("APP-1", ApplicationStatus.SUBMITTED, START.minusSeconds(600));
+        claimService.claimNext(200L);
+
+        assertThrows(BadRequestException.class, () -> claimService.release(app, 201L));
+        claimService.release(app, 200L);
+
+        assertEquals(app, claimService.claimNext(201L).orElseThrow().getId());
+    }
+
+    @Test
+    void claimAndReleaseEvictTheCachedResponse() {
+        Long app = application("APP-1", ApplicationStatus.SUBMITTED, START.minusSeconds(600));
+        responseCache.get(app, id -> new LoanApplicationResponse());
+
+        claimService.claimNext(200L);
+        assertEquals(0, responseCache.size());
+
+        responseCache.get(app, id -> new LoanApplicationResponse());
+        claimService.release(app, 200L);
+        assertEquals(0, responseCache.size());
+    }
+
+    @Test
+    void expiredClaimCannotBeReleased() {
+        Long app = application("APP-1", ApplicationStatus.SUBMITTED, START.minusSeconds(600));
+        claimService.claimNext(200L);
+        clock.advance(LEASE.plusSeconds(1));
+
+        assertThrows(BadRequestException.class, () -> claimService.release(app, 200L));
+    }
+
+    // H2 applies the row limit before skipping locked rows, so a contended claim can come back
+    // empty here; Postgres skips first and fills every claim (ClaimQueueIntegrationTest)
+    @Test
+    void concurrentOfficersNeverReceiveTheSameApplication() throws Exception {
+        int applications = 30;
+        int officers = 40;
+        for (int i = 0; i < applications; i++) {
+            application("APP-C" + i, ApplicationStatus.SUBMITTED, START.minusSeconds(1000 - i));
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<ClaimResponse>>> claims = new ArrayList<>();
+        for (long officer = 1; officer <= officers; officer++) {
+            long officerId = officer;
+            claims.add(pool.submit(() -> {
+                start.await();
+                return claimService.claimNext(officerId);
+            }));
+        }
+        start.countDown();
+
+        Set<Long> claimed = new HashSet<>();
+        for (Future<Optional<ClaimResponse>> claim : claims) {
+            claim.get(30, TimeUnit.SECONDS).ifPresent(result ->
+                    assertTrue(claimed.add(result.getId()), "claimed twice: " + result.getId()));
+        }
+        pool.shutdown();
+
+        // Whatever the contention left over is still claimable, once each
+        for (long officer = officers + 1; ; officer++) {
+            Optional<ClaimResponse> next = claimService.claimNext(officer);
+            if (next.isEmpty()) {
+                break;
+            }
+            assertTrue(claimed.add(next.get().getId()), "claimed twice: " + next.get().getId());
+        }
+        assertEquals(applications, claimed.size());
+    }
+
+    private Long application(String number, ApplicationStatus status, Instant submittedAt) {
+        return applicationRepository.save(Application.builder()
+                .applicationNumber(number)
+                .userId(userId)
+                .status(status)
+                .submittedAt(submittedAt)
+                .build()).getId();
+    }
+}
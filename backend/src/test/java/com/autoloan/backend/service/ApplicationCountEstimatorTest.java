@@ -0,0 +1,73 @@
+package com.autoloan.backend.service;
+
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import com.autoloan.backend.model.enums.ApplicationStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationCountEstimatorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ApplicationCountEstimator estimator;
+
+    @Test
+    void estimateWithoutStatusReturnsTableRows() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(1200L);
+
+        assertEquals(OptionalLong.of(1200), estimator.estimate(null));
+        verify(jdbcTemplate, never()).query(anyString(), any(ResultSetExtractor.class), any(Object[].class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void estimateWithStatusScalesByMostCommonFrequency() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(1200L);
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), eq("SUBMITTED"))).thenReturn(0.25);
+
+        assertEquals(OptionalLong.of(300), estimator.estimate(ApplicationStatus.SUBMITTED));
+        // The status is bound, not spliced into the SQL
+        verify(jdbcTemplate).query(anyString(), any(ResultSetExtractor.class), eq("SUBMITTED"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void estimateIsEmptyWhenStatusHasNoStatistics() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(1200L);
+        when(jdbcTemplate.query(anyString(), any(ResultSetExtractor.class), eq("SIGNED"))).thenReturn(null);
+
+        assertTrue(estimator.estimate(ApplicationStatus.SIGNED).isEmpty());
+    }
+
+    @Test
+    void estimateIsEmptyBeforeFirstAnalyze() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(-1L);
+
+        assertTrue(estimator.estimate(null).isEmpty());
+    }
+
+    @Test
+    void estimateIsEmptyWhenStatisticsAreUnavailable() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class)))
+                .thenThrow(new DataAccessResourceFailureException("no pg_class"));
+
+        assertTrue(estimator.estimate(null).isEmpty());
+    }
+}
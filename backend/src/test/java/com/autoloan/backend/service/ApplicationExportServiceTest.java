@@ -0,0 +1,171 @@
+package com.autoloan.backend.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import com.autoloan.backend.exception.BadRequestException;
+import com.autoloan.backend.model.Application;
+import com.autoloan.backend.model.User;
+import com.autoloan.backend.model.Vehicle;
+import com.autoloan.backend.model.enums.ApplicationStatus;
+
+import jakarta.persistence.EntityManagerFactory;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ApplicationExportService.class, ApplicationExportServiceTest.JsonConfig.class})
+class ApplicationExportServiceTest {
+
+    private static final int APPLICATION_COUNT = 30;
+
+    @TestConfiguration
+    static class JsonConfig {
+        @Bean
+        JsonMapper jsonMapper() {
+            return JsonMapper.builder().build();
+        }
+    }
+
+    @Autowired
+    private ApplicationExportService exportService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder()
+                .email("export@example.com")
+                .encryptedPassword("hash")
+                .firstName("Export")
+                .lastName("Tester")
+                .phone("555-0000")
+                .build();
+        Long userId = entityManager.persist(user).getId();
+
+        for (int i = 0; i < APPLICATION_COUNT; i++) {
+            Application app = Application.builder()
+                    .applicationNumber(String.format("APP-EX%02d", i))
+                    .userId(userId)
+                    .status(i % 3 == 0 ? ApplicationStatus.APPROVED : ApplicationStatus.SUBMITTED)
+                    .loanAmount(new BigDecimal(10000 + i * 1000))
+                    .ssnEncrypted("encrypted-ssn")
+                    .build();
+            Long appId = entityManager.persist(app).getId();
+            // Every other application has no vehicle yet
+            if (i % 2 == 0) {
+                entityManager.persist(Vehicle.builder()
+                        .applicationId(appId)
+                        .make("Toyota")
+                        .model("Camry, \"LE\"")
+                        .year(2024)
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void ndjsonExportShouldStreamEveryRowWithVehiclesInOneStatement() throws IOException {
+        List<String> lines = export(null, "loan_amount asc", null, ExportFormat.NDJSON);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(APPLICATION_COUNT, lines.size());
+
+        JsonNode first = jsonMapper.readTree(lines.get(0));
+        assertEquals("APP-EX00", first.get("applicationNumber").asString());
+        assertEquals("Toyota", first.get("vehicleMake").asString());
+        assertTrue(jsonMapper.readTree(lines.get(1)).get("vehicleMake").isNull());
+        assertFalse(lines.get(0).contains("ssn"));
+    }
+
+    @Test
+    void exportShouldHonorFilterAndOrderby() throws IOException {
+        List<String> lines = export("status eq 'APPROVED'", "loan_amount desc", null, ExportFormat.NDJSON);
+
+        assertEquals(10, lines.size());
+        assertEquals("APP-EX27", jsonMapper.readTree(lines.get(0)).get("applicationNumber").asString());
+        assertEquals("APP-EX00", jsonMapper.readTree(lines.get(9)).get("applicationNumber").asString());
+        assertTrue(lines.stream().allMatch(l -> l.contains("\"status\":\"APPROVED\"")));
+    }
+
+    @Test
+    void csvExportShouldWriteHeaderAndQuoteValues() throws IOException {
+        List<String> lines = export(null, "loan_amount asc", "APPROVED", ExportFormat.CSV);
+
+        assertEquals(11, lines.size());
+        assertTrue(lines.get(0).startsWith("id,application_number,status,"));
+        assertTrue(lines.get(0).endsWith(",vehicle_vin"));
+        assertTrue(lines.get(1).contains(",APP-EX00,APPROVED,"));
+        assertTrue(lines.get(1).contains(",Toyota,\"Camry, \"\"LE\"\"\",2024,"));
+    }
+
+    @Test
+    void prepareShouldRejectInvalidFilterBeforeStreaming() {
+        assertThrows(BadRequestException.class, () -> exportService.prepare("status eq", null, null));
+    }
+
+    @Test
+    void csvEscapeShouldOnlyQuoteWhenNeeded() {
+        assertEquals("plain", ApplicationExportService.csvEscape("plain"));
+        assertEquals("\"a,b\"", ApplicationExportService.csvEscape("a,b"));
+        assertEquals("\"say \"\"hi\"\"\"", ApplicationExportService.csvEscape("say \"hi\""));
+        assertEquals("\"two\nlines\"", ApplicationExportService.csvEscape("two\nlines"));
+    }
+
+    @Test
+    void csvFieldShouldKeepFormulaTextLiteral() {
+        assertEquals("\"'=HYPERLINK(\"\"http://evil.example\"\",\"\"Click\"\")\"",
+                ApplicationExportService.csvField("=HYPERLINK(\"http://evil.example\",\"Click\")"));
+        assertEquals("'@SUM(A1:A9)", ApplicationExportService.csvField("@SUM(A1:A9)"));
+        assertEquals("'+1-555", ApplicationExportService.csvField("+1-555"));
+        assertEquals("'-2+3", ApplicationExportService.csvField("-2+3"));
+        assertEquals("\"'\rcmd\"", ApplicationExportService.csvField("\rcmd"));
+        assertEquals("'\tcmd", ApplicationExportService.csvField("\tcmd"));
+        assertEquals("Camry", ApplicationExportService.csvField("Camry"));
+        assertEquals("-12.50", ApplicationExportService.csvField(new BigDecimal("-12.50")));
+    }
+
+    @Test
+    void fromParameterShouldDefaultToNdjsonAndRejectUnknownFormats() {
+        assertEquals(ExportFormat.NDJSON, ExportFormat.fromParameter(null));
+        assertEquals(ExportFormat.CSV, ExportFormat.fromParameter("CSV"));
+        assertThrows(BadRequestException.class, () -> ExportFormat.fromParameter("xlsx"));
+    }
+
+    private List<String> export(String filter, String orderby, String status, ExportFormat format)
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(exportService.prepare(filter, orderby, status), format, out);
+        return out.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+}
@@ -0,0 +1,186 @@
+package com.autoloan.backend.service;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.autoloan.backend.dto.application.QueueSummaryResponse;
+import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.repository.ApplicationRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationQueueCountersTest {
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ApplicationQueueCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        counters = new ApplicationQueueCounters(applicationRepository, meterRegistry);
+    }
+
+    @Test
+    void summaryShouldReconcileOnFirstUseAndListEveryStatus() {
+        when(applicationRepository.countGroupedByStatus()).thenReturn(List.of(
+                statusCount(ApplicationStatus.SUBMITTED, 4),
+                statusCount(ApplicationStatus.UNDER_REVIEW, 2)));
+
+        QueueSummaryResponse summary = counters.summary();
+
+        assertEquals(4L, summary.getCounts().get("SUBMITTED"));
+        assertEquals(2L, summary.getCounts().get("UNDER_REVIEW"));
+        assertEquals(0L, summary.getCounts().get("APPROVED"));
+        assertEquals(ApplicationStatus.values().length, summary.getCounts().size());
+        assertEquals(6, summary.getTotal());
+        assertNotNull(summary.getReconciledAt());
+    }
+
+    @Test
+    void summaryShouldNotQueryAgainOnceReconciled() {
+        when(applicationRepository.countGroupedByStatus()).thenReturn(List.of());
+
+        counters.summary();
+        counters.summary();
+
+        verify(applicationRepository, times(1)).countGroupedByStatus();
+    }
+
+    @Test
+    void deltasShouldMoveCountsBetweenStatuses() {
+        when(applicationRepository.countGroupedByStatus()).thenReturn(List.of(
+                statusCount(ApplicationStatus.DRAFT, 1)));
+        counters.reconcile();
+
+        counters.recordCreated(ApplicationStatus.DRAFT);
+        counters.recordTransition(ApplicationStatus.DRAFT, ApplicationStatus.SUBMITTED);
+        counters.recordTransition(ApplicationStatus.SUBMITTED, ApplicationStatus.UNDER_REVIEW);
+        counters.recordDeleted(ApplicationStatus.DRAFT);
+
+        QueueSummaryResponse summary = counters.summary();
+        assertEquals(0L, summary.getCounts().get("DRAFT"));
+        assertEquals(0L, summary.getCounts().get("SUBMITTED"));
+        assertEquals(1L, summary.getCounts().get("UNDER_REVIEW"));
+        assertEquals(1, summary.getTotal());
+    }
+
+    @Test
+    void deltasShouldWaitForCommitAndSkipRollbacks() {
+        when(applicationRepository.countGroupedByStatus()).thenReturn(List.of());
+        counters.reconcile();
+
+        List<TransactionSynchronization> committed = record(() -> counters.recordCreated(ApplicationStatus.DRAFT));
+        assertEquals(0L, counters.summary().getCounts().get("DRAFT"));
+        complete(committed, TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(1L, counters.summary().getCounts().get("DRAFT"));
+
+        List<TransactionSynchronization> rolledBack = record(() -> counters.recordCreated(ApplicationStatus.DRAFT));
+        complete(rolledBack, TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertEquals(1L, counters.summary().getCounts().get("DRAFT"));
+    }
+
+    @Test
+    void reconcileShouldResetDriftAndRecordIt() {
+        when(applicationRepository.countGroupedByStatus())
+                .thenReturn(List.of(statusCount(ApplicationStatus.SUBMITTED, 3)))
+                .thenReturn(List.of(statusCount(ApplicationStatus.SUBMITTED, 5)));
+        counters.reconcile();
+        counters.recordTransition(ApplicationStatus.SUBMITTED, ApplicationStatus.UNDER_REVIEW);
+
+        counters.reconcile();
+
+        QueueSummaryResponse summary = counters.summary();
+        assertEquals(5L, summary.getCounts().get("SUBMITTED"));
+        assertEquals(0L, summary.getCounts().get("UNDER_REVIEW"));
+        // SUBMITTED was 2 vs 5, UNDER_REVIEW 1 vs 0
+        assertEquals(4.0, meterRegistry.get("app.queue.reconcile.drift").counter().count());
+        assertEquals(5.0, meterRegistry.get("app.queue.size").tag("status", "SUBMITTED").gauge().value());
+    }
+
+    @Test
+    void reconcileShouldNotCountACommitInFlightTwice() throws Exception {
+        when(applicationRepository.countGroupedByStatus())
+                .thenReturn(List.of())
+                .thenReturn(List.of(statusCount(ApplicationStatus.DRAFT, 1)));
+        counters.reconcile();
+
+        // The row is committed in the database, its delta not yet applied
+        List<TransactionSynchronization> commit = record(() -> counters.recordCreated(ApplicationStatus.DRAFT));
+        commit.forEach(sync -> sync.beforeCommit(false));
+
+        CountDownLatch started = new CountDownLatch(1);
+        Thread reconcile = new Thread(() -> {
+            started.countDown();
+            counters.reconcile();
+        });
+        reconcile.start();
+        started.await();
+        reconcile.join(200);
+        assertTrue(reconcile.isAlive(), "reconcile should wait for the commit in flight");
+
+        commit.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        reconcile.join(5000);
+
+        assertFalse(reconcile.isAlive());
+        assertEquals(1L, counters.summary().getCounts().get("DRAFT"));
+        assertEquals(0.0, meterRegistry.get("app.queue.reconcile.drift").counter().count());
+    }
+
+    @Test
+    void transitionToSameStatusShouldBeIgnored() {
+        when(applicationRepository.countGroupedByStatus()).thenReturn(List.of(
+                statusCount(ApplicationStatus.SUBMITTED, 1)));
+        counters.reconcile();
+
+        counters.recordTransition(ApplicationStatus.SUBMITTED, ApplicationStatus.SUBMITTED);
+
+        assertEquals(1L, counters.summary().getCounts().get("SUBMITTED"));
+    }
+
+    // Runs the write with synchronization active and returns what it registered
+    private static List<TransactionSynchronization> record(Runnable write) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            write.run();
+            return TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static void complete(List<TransactionSynchronization> synchronizations, int status) {
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(sync -> sync.beforeCommit(false));
+        }
+        synchronizations.forEach(sync -> sync.afterCompletion(status));
+    }
+
+    private ApplicationRepository.StatusCount statusCount(ApplicationStatus status, long total) {
+        return new ApplicationRepository.StatusCount() {
+            @Override
+            public ApplicationStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+}
@@ -0,0 +1,152 @@
+package com.autoloan.backend.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.autoloan.backend.dto.loan.LoanApplicationResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApplicationResponseCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong clock;
+    private AtomicInteger loads;
+    private ApplicationResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new AtomicLong();
+        loads = new AtomicInteger();
+        cache = new ApplicationResponseCache(meterRegistry, 2, Duration.ofSeconds(30), clock::get);
+    }
+
+    @Test
+    void repeatedGetShouldLoadOnceAndCountHitsAndMisses() {
+        LoanApplicationResponse first = cache.get(1L, this::load);
+        LoanApplicationResponse second = cache.get(1L, this::load);
+
+        assertNotSame(first, second);
+        assertEquals(first.getId(), second.getId());
+        assertEquals(1, loads.get());
+        assertEquals(1.0, requests("hit"));
+        assertEquals(1.0, requests("miss"));
+        assertEquals(1.0, meterRegistry.get("app.cache.application_response.size").gauge().value());
+    }
+
+    @Test
+    void callerChangesShouldNotReachTheCachedEntry() {
+        LoanApplicationResponse loaded = cache.get(1L, this::load);
+        loaded.setStatus("CHANGED_BY_LOADER_CALLER");
+        LoanApplicationResponse hit = cache.get(1L, this::load);
+        hit.setStatus("CHANGED_BY_HIT_CALLER");
+
+        assertEquals("SUBMITTED", cache.get(1L, this::load).getStatus());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void entryShouldExpireAfterTtl() {
+        cache.get(1L, this::load);
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        cache.get(1L, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void leastRecentlyUsedEntryShouldBeEvictedWhenFull() {
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        cache.get(1L, this::load);
+        cache.get(3L, this::load);
+
+        assertEquals(2, cache.size());
+        cache.get(1L, this::load);
+        assertEquals(3, loads.get());
+        cache.get(2L, this::load);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void invalidateShouldForceReload() {
+        cache.get(1L, this::load);
+        cache.invalidate(1L);
+        cache.get(1L, this::load);
+
+        assertEquals(2, loads.get());
+        assertEquals(1.0, meterRegistry.get("app.cache.application_response.invalidations").counter().count());
+    }
+
+    @Test
+    void loadRacingWithInvalidationShouldNotBeCached() {
+        cache.get(1L, id -> {
+            cache.invalidate(id);
+            return load(id);
+        });
+        cache.get(1L, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidatingAnotherApplicationShouldNotDiscardALoad() {
+        cache.get(1L, id -> {
+            cache.invalidate(2L);
+            return load(id);
+        });
+        cache.get(1L, this::load);
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, requests("hit"));
+    }
+
+    @Test
+    void invalidateInsideTransactionShouldEvictAgainAfterCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidate(1L);
+            cache.get(1L, this::load);
+            assertEquals(1, cache.size());
+
+            for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+                sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(0, cache.size());
+        assertEquals(1.0, meterRegistry.get("app.cache.application_response.invalidations").counter().count());
+    }
+
+    @Test
+    void failedLoadShouldNotBeCached() {
+        assertThrows(IllegalStateException.class, () -> cache.get(1L, id -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals(0, cache.size());
+    }
+
+    private LoanApplicationResponse load(Long id) {
+        loads.incrementAndGet();
+        LoanApplicationResponse response = new LoanApplicationResponse();
+        response.setId(id);
+        response.setStatus("SUBMITTED");
+        return response;
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("app.cache.application_response.requests").tag("result", result).counter().count();
+    }
+}
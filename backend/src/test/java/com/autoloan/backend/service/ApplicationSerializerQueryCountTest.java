@@ -0,0 +1,89 @@
+package com.autoloan.backend.service;
+
+import java.math.BigDecimal;
+
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import com.autoloan.backend.dto.application.ApplicationDetailResponse;
+import com.autoloan.backend.model.Address;
+import com.autoloan.backend.model.Application;
+import com.autoloan.backend.model.Document;
+import com.autoloan.backend.model.FinancialInfo;
+import com.autoloan.backend.model.StatusHistory;
+import com.autoloan.backend.model.Vehicle;
+import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.repository.ApplicationRepository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Import(ApplicationSerializer.class)
+class ApplicationSerializerQueryCountTest extends BaseQueryCountTest {
+
+    @Autowired
+    private ApplicationSerializer serializer;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    private Long userId;
+    private Long applicationId;
+
+    @BeforeEach
+    void setUp() {
+        userId = entityManager.persist(user("detail@example.com").firstName("Detail").build()).getId();
+
+        applicationId = entityManager.persist(application("APP-DETAIL", userId, ApplicationStatus.UNDER_REVIEW)
+                .loanAmount(new BigDecimal("25000.00"))
+                .build()).getId();
+
+        entityManager.persist(Vehicle.builder()
+                .applicationId(applicationId).make("Honda").model("Civic").year(2023).build());
+        entityManager.persist(Address.builder()
+                .applicationId(applicationId).addressType("residential")
+                .streetAddress("1 Main St").city("Irvine").state("CA").zipCode("92618").build());
+        entityManager.persist(FinancialInfo.builder()
+                .applicationId(applicationId).incomeType("primary").employerName("Acme").build());
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(Document.builder()
+                    .applicationId(applicationId).fileName("doc" + i + ".pdf").build());
+            entityManager.persist(StatusHistory.builder()
+                    .applicationId(applicationId).userId(userId)
+                    .fromStatus("SUBMITTED").toStatus("UNDER_REVIEW").build());
+        }
+        flushAndClear();
+    }
+
+    @Test
+    void serializeByIdShouldUseFixedNumberOfQueries() {
+        ApplicationDetailResponse response = serializer.serialize(applicationId, userId);
+
+        // application + user + vehicle, then addresses, financial infos, documents, histories
+        assertEquals(5, statistics.getPrepareStatementCount());
+        assertEquals("Detail", response.getPersonalInfo().get("first_name"));
+        assertEquals("Honda", response.getCarDetails().get("make"));
+        assertEquals("Irvine", response.getPersonalInfo().get("city"));
+        assertEquals("Acme", response.getEmploymentInfo().get("employer"));
+        assertEquals(3, response.getDocuments().size());
+        assertEquals(3, response.getStatusHistories().size());
+    }
+
+    @Test
+    void serializeShouldReuseAssociationsAlreadyLoaded() {
+        Application app = applicationRepository.findDetailById(applicationId).orElseThrow();
+        Hibernate.initialize(app.getAddresses());
+        Hibernate.initialize(app.getFinancialInfos());
+        Hibernate.initialize(app.getDocuments());
+        Hibernate.initialize(app.getStatusHistories());
+        statistics.clear();
+
+        ApplicationDetailResponse response = serializer.serialize(app, userId);
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals("Honda", response.getCarDetails().get("make"));
+        assertEquals(3, response.getStatusHistories().size());
+    }
+}
@@ -13,6 +13,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.autoloan.backend.dto.application.ApplicationDetailResponse;
+import com.autoloan.backend.exception.ResourceNotFoundException;
 import com.autoloan.backend.model.Address;
 import com.autoloan.backend.model.Application;
 import com.autoloan.backend.model.Document;
@@ -25,6 +26,7 @@ import com.autoloan.backend.model.enums.DocumentStatus;
 import com.autoloan.backend.model.enums.DocumentType;
 import com.autoloan.backend.model.enums.Role;
 import com.autoloan.backend.repository.AddressRepository;
+import com.autoloan.backend.repository.ApplicationRepository;
 import com.autoloan.backend.repository.DocumentRepository;
 import com.autoloan.backend.repository.FinancialInfoRepository;
 import com.autoloan.backend.repository.StatusHistoryRepository;
@@ -43,6 +45,7 @@ class ApplicationSerializerTest {
     @Mock private FinancialInfoRepository financialInfoRepository;
     @Mock private DocumentRepository documentRepository;
     @Mock private StatusHistoryRepository statusHistoryRepository;
+    @Mock private ApplicationRepository applicationRepository;
 
     private ApplicationSerializer serializer;
     private Application app;
@@ -52,7 +55,8 @@ class ApplicationSerializerTest {
     @BeforeEach
     void setUp() {
         serializer = new ApplicationSerializer(userRepository, vehicleRepository,
-                addressRepository, financialInfoRepository, documentRepository, statusHistoryRepository);
+                addressRepository, financialInfoRepository, documentRepository, statusHistoryRepository,
+                applicationRepository);
 
         app = new Application();
         app.setId(1L);
@@ -117,6 +121,7 @@ class ApplicationSerializerTest {
         assertEquals("/api/loans/1", resp.getLinks().get("self"));
         assertEquals("/api/loans/1/documents", resp.getLinks().get("documents"));
         assertEquals("/api/loans/1/submit", resp.getLinks().get("submit"));
+        assertEquals("/api/loans/1/actions", resp.getLinks().get("actions"));
         assertNull(resp.getLinks().get("sign"));
     }
 
@@ -359,4 +364,37 @@ class ApplicationSerializerTest {
         assertNull(resp.getLinks().get("sign"));
         assertEquals("/api/loans/1", resp.getLinks().get("self"));
     }
+
+    @Test
+    void serializeByIdShouldLoadDetailGraph() {
+        stubRepos();
+        when(applicationRepository.findDetailById(1L)).thenReturn(Optional.of(app));
+
+        ApplicationDetailResponse resp = serializer.serialize(1L, 10L);
+
+        assertEquals("APP-001", resp.getApplicationNumber());
+        verify(applicationRepository).findDetailById(1L);
+    }
+
+    @Test
+    void serializeByIdShouldThrowWhenNotFound() {
+        when(applicationRepository.findDetailById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> serializer.serialize(99L, 10L));
+    }
+
+    @Test
+    void serializeShouldReuseInitializedUser() {
+        app.setUser(user);
+        when(vehicleRepository.findByApplicationId(1L)).thenReturn(Optional.of(vehicle));
+        when(addressRepository.findByApplicationId(1L)).thenReturn(List.of());
+        when(financialInfoRepository.findByApplicationId(1L)).thenReturn(List.of());
+        when(documentRepository.findByApplicationId(1L)).thenReturn(List.of());
+        when(statusHistoryRepository.findByApplicationIdOrderByCreatedAtDesc(1L)).thenReturn(List.of());
+
+        ApplicationDetailResponse resp = serializer.serialize(app, 10L);
+
+        assertEquals("John", resp.getPersonalInfo().get("first_name"));
+        verifyNoInteractions(userRepository);
+    }
 }
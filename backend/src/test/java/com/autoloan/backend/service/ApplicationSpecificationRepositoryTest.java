@@ -0,0 +1,104 @@
+package com.autoloan.backend.service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+
+import com.autoloan.backend.model.Application;
+import com.autoloan.backend.model.User;
+import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.repository.ApplicationRepository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs compiled $filter plans against a real database to check the generated SQL is valid
+@DataJpaTest
+class ApplicationSpecificationRepositoryTest {
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        Long userId = entityManager.persist(User.builder()
+                .email("filters@example.com")
+                .encryptedPassword("hash")
+                .firstName("Filter")
+                .lastName("Tester")
+                .phone("555-0101")
+                .build()).getId();
+
+        persist(userId, "APP-100", ApplicationStatus.SUBMITTED, 36, "18000.00", "2025-03-10T09:00:00Z");
+        persist(userId, "APP-101", ApplicationStatus.UNDER_REVIEW, 60, "32000.50", "2025-03-10T23:59:59Z");
+        persist(userId, "APP-200", ApplicationStatus.APPROVED, 48, "25000.00", "2025-03-11T00:00:00Z");
+        persist(userId, "APP_9%X", ApplicationStatus.DRAFT, 24, "9000.00", null);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void orWithParenthesesAndNot() {
+        assertEquals(List.of("APP-101", "APP-200"),
+                numbers("(status eq 'UNDER_REVIEW' or status eq 'APPROVED') and not (loan_term lt 24)"));
+    }
+
+    @Test
+    void inListOfStatuses() {
+        assertEquals(List.of("APP-100", "APP_9%X"), numbers("status in ('SUBMITTED','DRAFT')"));
+    }
+
+    @Test
+    void startsWithMatchesPrefix() {
+        assertEquals(List.of("APP-100", "APP-101"), numbers("startswith(application_number,'APP-1')"));
+    }
+
+    @Test
+    void containsTreatsWildcardsLiterally() {
+        assertEquals(List.of("APP_9%X"), numbers("contains(application_number,'_9%')"));
+    }
+
+    @Test
+    void containsOnStatus() {
+        assertEquals(List.of("APP-101"), numbers("contains(status,'review')"));
+    }
+
+    @Test
+    void decimalLiteralsCompareAgainstNumericColumns() {
+        assertEquals(List.of("APP-101", "APP-200"), numbers("loan_amount gt 20000 and interest_rate eq null"));
+        assertEquals(List.of("APP-101"), numbers("loan_amount ge 32000.50M"));
+    }
+
+    @Test
+    void dateLiteralMatchesWholeUtcDay() {
+        assertEquals(List.of("APP-100", "APP-101"), numbers("submitted_at eq 2025-03-10"));
+        assertEquals(List.of("APP-200", "APP_9%X"), numbers("submitted_at ne 2025-03-10 or submitted_at eq null"));
+    }
+
+    private List<String> numbers(String filter) {
+        return applicationRepository.findAll(ApplicationSpecification.fromOdataFilter(filter)).stream()
+                .map(Application::getApplicationNumber)
+                .sorted()
+                .toList();
+    }
+
+    private void persist(Long userId, String number, ApplicationStatus status, int term, String amount,
+                         String submittedAt) {
+        entityManager.persist(Application.builder()
+                .applicationNumber(number)
+                .userId(userId)
+                .status(status)
+                .loanTerm(term)
+                .loanAmount(new BigDecimal(amount))
+                .submittedAt(submittedAt == null ? null : Instant.parse(submittedAt))
+                .build());
+    }
+}
@@ -1,6 +1,11 @@
 // backend/src/test/java/com/autoloan/backend/service/ApplicationSpecificationTest.java
 package com.autoloan.backend.service;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,7 +14,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
+import com.autoloan.backend.exception.BadRequestException;
 import com.autoloan.backend.model.Application;
+import com.autoloan.backend.model.enums.ApplicationStatus;
 
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -20,6 +27,7 @@ import jakarta.persistence.criteria.Root;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyChar;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -48,7 +56,11 @@ class ApplicationSpecificationTest {
         lenient().when(cb.and(any(Predicate[].class))).thenReturn(predicate);
         lenient().when(cb.equal(any(), any())).thenReturn(predicate);
         lenient().when(cb.notEqual(any(), any())).thenReturn(predicate);
-        lenient().when(cb.like(any(Expression.class), anyString())).thenReturn(predicate);
+        lenient().when(cb.like(any(Expression.class), anyString(), anyChar())).thenReturn(predicate);
+        lenient().when(cb.or(any(Predicate[].class))).thenReturn(predicate);
+        lenient().when(cb.not(any())).thenReturn(predicate);
+        lenient().when(cb.disjunction()).thenReturn(predicate);
+        lenient().when(path.in(any(Collection.class))).thenReturn(predicate);
         lenient().when(cb.lower(any(Expression.class))).thenReturn(stringExpr);
         lenient().when(cb.isNull(any())).thenReturn(predicate);
         lenient().when(cb.isNotNull(any())).thenReturn(predicate);
@@ -86,58 +98,117 @@ class ApplicationSpecificationTest {
 
     @Test
     void fromOdataFilterContainsSingleQuotes() {
-        Specification<Application> spec = ApplicationSpecification.fromOdataFilter("contains(status,'DRAFT')");
+        Specification<Application> spec = ApplicationSpecification.fromOdataFilter("contains(application_number,'APP-2025')");
         spec.toPredicate(root, query, cb);
-        verify(cb).like(any(Expression.class), eq("%draft%"));
+        verify(cb).like(any(Expression.class), eq("%app-2025%"), eq('\\'));
     }
 
     @Test
     void fromOdataFilterContainsDoubleQuotes() {
-        Specification<Application> spec = ApplicationSpecification.fromOdataFilter("contains(status,\"DRAFT\")");
+        Specification<Application> spec = ApplicationSpecification.fromOdataFilter("contains(application_number,\"APP\")");
+        spec.toPredicate(root, query, cb);
+        verify(cb).like(any(Expression.class), eq("%app%"), eq('\\'));
+    }
+
+    @Test
+    void fromOdataFilterContainsEscapesLikeWildcards() {
+        Specification<Application> spec = ApplicationSpecification.fromOdataFilter("contains(application_number,'50%_off')");
+        spec.toPredicate(root, query, cb);
+        verify(cb).like(any(Expression.class), eq("%50\\%\\_off%"), eq('\\'));
+    }
+
+    @Test
+    void fromOdataFilterContainsOnStatusExpandsToInList() {
+        Specification<Application> spec = ApplicationSpecification.fromOdataFilter("contains(status,'sub')");
+        spec.toPredicate(root, query, cb);
+        verify(path).in(List.of(ApplicationStatus.SUBMITTED));
+        verify(cb, never()).like(any(Expression.class), anyString(), anyChar());
+    }
+
+    @Test
+    void fromOdataFilterContainsOnStatusWithoutMatchesMatchesNothing() {
+        Specification<Application> spec = ApplicationSpecification.fromOdataFilter("contains(status,'zzz')");
+        spec.toPredicate(root, query, cb);
+        verify(cb).or(new Predicate[0]);
+    }
+
+    @Test
+    void fromOdataFilterContainsRejectsNumericField() {
+        assertThrows(BadRequestException.class,
+                () -> ApplicationSpecification.fromOdataFilter("contains(loan_term,'12')"));
+    }
+
+    @Test
+    void fromOdataFilterStartsWithUsesAnchoredLike() {
+        Specification<Application> spec = ApplicationSpecification.fromOdataFilter("startswith(application_number,'APP-7')");
+        spec.toPredicate(root, query, cb);
+        verify(cb).like(any(Expression.class), eq("APP-7%"), eq('\\'));
+        verify(cb, never()).greaterThanOrEqualTo(any(Expression.class), anyString());
+        verify(cb, never()).lessThan(any(Expression.class), anyString());
+    }
+
+    @Test
+    void fromOdataFilterStartsWithOnStatusExpandsToInList() {
+        Specification<Application> spec = ApplicationSpecification.fromOdataFilter("startswith(status,'UNDER')");
         spec.toPredicate(root, query, cb);
-        verify(cb).like(any(Expression.class), eq("%draft%"));
+        verify(path).in(List.of(ApplicationStatus.UNDER_REVIEW));
+    }
+
+    @Test
+    void fromOdataFilterStartsWithEmptyPrefixMatchesAll() {
+        Specification<Application> spec = ApplicationSpecification.fromOdataFilter("startswith(application_number,'')");
+        spec.toPredicate(root, query, cb);
+        verify(cb).conjunction();
+        verify(cb, never()).like(any(Expression.class), anyString(), anyChar());
     }
 
     @Test
     void fromOdataFilterEqString() {
         Specification<Application> spec = ApplicationSpecification.fromOdataFilter("status eq 'DRAFT'");
         spec.toPredicate(root, query, cb);
-        verify(cb).equal(any(), eq("DRAFT"));
+        verify(cb).equal(path, ApplicationStatus.DRAFT);
     }
 
     @Test
     void fromOdataFilterNeString() {
         Specification<Application> spec = ApplicationSpecification.fromOdataFilter("status ne 'REJECTED'");
         spec.toPredicate(root, query, cb);
-        verify(cb).notEqual(any(), eq("REJECTED"));
+        verify(cb).notEqual(path, ApplicationStatus.REJECTED);
     }
 
     @Test
     void fromOdataFilterGtInteger() {
         Specification<Application> spec = ApplicationSpecification.fromOdataFilter("loan_term gt 12");
         spec.toPredicate(root, query, cb);
-        verify(cb).greaterThan(any(Expression.class), any(Comparable.class));
+        verify(cb).greaterThan(any(Expression.class), eq(12));
     }
 
     @Test
     void fromOdataFilterGeInteger() {
         Specification<Application> spec = ApplicationSpecification.fromOdataFilter("loan_term ge 12");
         spec.toPredicate(root, query, cb);
-        verify(cb).greaterThanOrEqualTo(any(Expression.class), any(Comparable.class));
+        verify(cb).greaterThanOrEqualTo(any(Expression.class), eq(12));
     }
 
     @Test
     void fromOdataFilterLtInteger() {
         Specification<Application> spec = ApplicationSpecification.fromOdataFilter("loan_term lt 60");
         spec.toPredicate(root, query, cb);
-        verify(cb).lessThan(any(Expression.class), any(Comparable.class));
+        verify(cb).lessThan(any(Expression.class), eq(60));
     }
 
     @Test
     void fromOdataFilterLeInteger() {
         Specification<Application> spec = ApplicationSpecification.fromOdataFilter("loan_term le 60");
         spec.toPredicate(root, query, cb);
-        verify(cb).lessThanOrEqualTo(any(Expression.class), any(Comparable.class));
+        verify(cb).lessThanOrEqualTo(any(Expression.class), eq(60));
+    }
+
+    @Test
+    void fromOdataFilterEqInteger() {
+        Specification<Application> spec = ApplicationSpecification.fromOdataFilter("current_step eq 3");
+        spec.toPredicate(root, query, cb);
+        verify(cb).equal(path, 3);
     }
 
     @Test
@@ -155,32 +226,78 @@ class ApplicationSpecificationTest {
     }
 
     @Test
-    void fromOdataFilterEqTrue() {
-        Specification<Application> spec = ApplicationSpecification.fromOdataFilter("status eq true");
-        spec.toPredicate(root, query, cb);
-        verify(cb).equal(any(), eq(true));
+    void fromOdataFilterRejectsNullWithRangeOperator() {
+        assertThrows(BadRequestException.class,
+                () -> ApplicationSpecification.fromOdataFilter("submitted_at gt null"));
     }
 
     @Test
-    void fromOdataFilterEqFalse() {
-        Specification<Application> spec = ApplicationSpecification.fromOdataFilter("status eq false");
-        spec.toPredicate(root, query, cb);
-        verify(cb).equal(any(), eq(false));
+    void fromOdataFilterRejectsBooleanForStatus() {
+        assertThrows(BadRequestException.class,
+                () -> ApplicationSpecification.fromOdataFilter("status eq true"));
+    }
+
+    @Test
+    void fromOdataFilterRejectsUnknownStatus() {
+        assertThrows(BadRequestException.class,
+                () -> ApplicationSpecification.fromOdataFilter("status eq not-a-status"));
     }
 
     @Test
     void fromOdataFilterDecimal() {
         Specification<Application> spec = ApplicationSpecification.fromOdataFilter("interest_rate gt 5.5");
         spec.toPredicate(root, query, cb);
-        verify(cb).greaterThan(any(Expression.class), any(Comparable.class));
+        verify(cb).greaterThan(any(Expression.class), eq(new BigDecimal("5.5")));
+    }
+
+    @Test
+    void fromOdataFilterDecimalSuffixAndIntegerWidening() {
+        Specification<Application> spec = ApplicationSpecification.fromOdataFilter(
+                "loan_amount ge 15000 and loan_amount le 42000.50M");
+        spec.toPredicate(root, query, cb);
+        verify(cb).greaterThanOrEqualTo(any(Expression.class), eq(BigDecimal.valueOf(15000)));
+        verify(cb).lessThanOrEqualTo(any(Expression.class), eq(new BigDecimal("42000.50")));
+    }
+
+    @Test
+    void fromOdataFilterRejectsDecimalForIntegerField() {
+        assertThrows(BadRequestException.class,
+                () -> ApplicationSpecification.fromOdataFilter("loan_term gt 12.5"));
     }
 
     @Test
     void fromOdataFilterAndCombination() {
         Specification<Application> spec = ApplicationSpecification.fromOdataFilter("status eq 'DRAFT' and loan_term gt 12");
         spec.toPredicate(root, query, cb);
-        verify(cb).equal(any(), eq("DRAFT"));
-        verify(cb).greaterThan(any(Expression.class), any(Comparable.class));
+        verify(cb).equal(path, ApplicationStatus.DRAFT);
+        verify(cb).greaterThan(any(Expression.class), eq(12));
+        verify(cb).and(any(Predicate[].class));
+    }
+
+    @Test
+    void fromOdataFilterOrNotAndParentheses() {
+        Specification<Application> spec = ApplicationSpecification.fromOdataFilter(
+                "(status eq 'SUBMITTED' or status eq 'UNDER_REVIEW') and not (loan_term lt 24)");
+        spec.toPredicate(root, query, cb);
+        verify(cb).equal(path, ApplicationStatus.SUBMITTED);
+        verify(cb).equal(path, ApplicationStatus.UNDER_REVIEW);
+        verify(cb).or(any(Predicate[].class));
+        verify(cb).not(predicate);
+        verify(cb).lessThan(any(Expression.class), eq(24));
+    }
+
+    @Test
+    void fromOdataFilterInList() {
+        Specification<Application> spec = ApplicationSpecification.fromOdataFilter(
+                "status in ('SUBMITTED', 'pending_documents')");
+        spec.toPredicate(root, query, cb);
+        verify(path).in(List.of(ApplicationStatus.SUBMITTED, ApplicationStatus.PENDING_DOCUMENTS));
+    }
+
+    @Test
+    void fromOdataFilterRejectsNullInList() {
+        assertThrows(BadRequestException.class,
+                () -> ApplicationSpecification.fromOdataFilter("status in ('DRAFT', null)"));
     }
 
     @Test
@@ -190,32 +307,64 @@ class ApplicationSpecificationTest {
         verify(cb, never()).equal(any(), eq("bad"));
     }
 
+    @Test
+    void fromOdataFilterDropsDisallowedFieldsInsideOrAndNot() {
+        Specification<Application> spec = ApplicationSpecification.fromOdataFilter(
+                "not hacker_field eq 'bad' or (loan_term gt 12 or hacker_field in ('x'))");
+        spec.toPredicate(root, query, cb);
+        verify(cb).greaterThan(any(Expression.class), eq(12));
+        verify(cb, never()).or(any(Predicate[].class));
+        verify(cb, never()).not(any());
+    }
+
     @Test
     void fromOdataFilterIgnoresDisallowedContainsFields() {
         Specification<Application> spec = ApplicationSpecification.fromOdataFilter("contains(hacker_field,'bad')");
         spec.toPredicate(root, query, cb);
-        verify(cb, never()).like(any(Expression.class), anyString());
+        verify(cb, never()).like(any(Expression.class), anyString(), anyChar());
     }
 
     @Test
     void fromOdataFilterMalformedContains() {
         Specification<Application> spec = ApplicationSpecification.fromOdataFilter("contains(status)");
         spec.toPredicate(root, query, cb);
-        verify(cb, never()).like(any(Expression.class), anyString());
+        verify(cb, never()).like(any(Expression.class), anyString(), anyChar());
     }
 
     @Test
     void fromOdataFilterInstantValue() {
         Specification<Application> spec = ApplicationSpecification.fromOdataFilter("created_at gt 2025-01-01T00:00:00Z");
         spec.toPredicate(root, query, cb);
-        verify(cb).greaterThan(any(Expression.class), any(Comparable.class));
+        verify(cb).greaterThan(any(Expression.class), eq(Instant.parse("2025-01-01T00:00:00Z")));
+    }
+
+    @Test
+    void fromOdataFilterQuotedInstantValue() {
+        Specification<Application> spec = ApplicationSpecification.fromOdataFilter("submitted_at lt '2025-06-01T12:00:00+02:00'");
+        spec.toPredicate(root, query, cb);
+        verify(cb).lessThan(any(Expression.class), eq(Instant.parse("2025-06-01T10:00:00Z")));
     }
 
     @Test
-    void fromOdataFilterUnparseableDateFallsBackToString() {
-        Specification<Application> spec = ApplicationSpecification.fromOdataFilter("status eq not-a-date-or-number");
+    void fromOdataFilterDateEqCoversWholeUtcDay() {
+        Specification<Application> spec = ApplicationSpecification.fromOdataFilter("created_at eq 2025-03-10");
         spec.toPredicate(root, query, cb);
-        verify(cb).equal(any(), eq("not-a-date-or-number"));
+        verify(cb).greaterThanOrEqualTo(any(Expression.class), eq(Instant.parse("2025-03-10T00:00:00Z")));
+        verify(cb).lessThan(any(Expression.class), eq(Instant.parse("2025-03-11T00:00:00Z")));
+    }
+
+    @Test
+    void fromOdataFilterDateLeIncludesWholeDay() {
+        Specification<Application> spec = ApplicationSpecification.fromOdataFilter("submitted_at le 2025-03-10");
+        spec.toPredicate(root, query, cb);
+        verify(cb).lessThan(any(Expression.class), eq(Instant.parse("2025-03-11T00:00:00Z")));
+    }
+
+    @Test
+    void fromOdataFilterStringFieldKeepsBareWords() {
+        Specification<Application> spec = ApplicationSpecification.fromOdataFilter("application_number eq APP-100");
+        spec.toPredicate(root, query, cb);
+        verify(cb).equal(path, "APP-100");
     }
 
     // ==================== withUserId ====================
@@ -231,9 +380,16 @@ class ApplicationSpecificationTest {
 
     @Test
     void withStatusValidReturnsEqualPredicate() {
-        Specification<Application> spec = ApplicationSpecification.withStatus("DRAFT");
+        Specification<Application> spec = ApplicationSpecification.withStatus("draft");
+        spec.toPredicate(root, query, cb);
+        verify(cb).equal(path, ApplicationStatus.DRAFT);
+    }
+
+    @Test
+    void withStatusUnknownMatchesNothing() {
+        Specification<Application> spec = ApplicationSpecification.withStatus("ARCHIVED");
         spec.toPredicate(root, query, cb);
-        verify(cb).equal(any(), eq("DRAFT"));
+        verify(cb).disjunction();
     }
 
     @Test
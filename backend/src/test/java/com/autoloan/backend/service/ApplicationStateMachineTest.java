@@ -0,0 +1,87 @@
+package com.autoloan.backend.service;
+
+import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.model.enums.Role;
+import com.autoloan.backend.model.enums.WorkflowAction;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApplicationStateMachineTest {
+
+    @Test
+    void applicantActions() {
+        assertEquals(Set.of(WorkflowAction.SUBMIT),
+                ApplicationStateMachine.allowedActions(ApplicationStatus.DRAFT, Role.CUSTOMER));
+        assertEquals(Set.of(WorkflowAction.SIGN),
+                ApplicationStateMachine.allowedActions(ApplicationStatus.APPROVED, Role.CUSTOMER));
+        assertTrue(ApplicationStateMachine.allowedActions(ApplicationStatus.SUBMITTED, Role.CUSTOMER).isEmpty());
+    }
+
+    @Test
+    void staffActions() {
+        for (Role role : EnumSet.of(Role.LOAN_OFFICER, Role.UNDERWRITER)) {
+            assertEquals(EnumSet.of(WorkflowAction.START_VERIFICATION, WorkflowAction.REQUEST_DOCUMENTS,
+                            WorkflowAction.APPROVE, WorkflowAction.REJECT),
+                    ApplicationStateMachine.allowedActions(ApplicationStatus.SUBMITTED, role));
+            assertEquals(EnumSet.of(WorkflowAction.MOVE_TO_REVIEW),
+                    ApplicationStateMachine.allowedActions(ApplicationStatus.PENDING_DOCUMENTS, role));
+            assertTrue(ApplicationStateMachine.allowedActions(ApplicationStatus.DRAFT, role).isEmpty());
+            assertFalse(ApplicationStateMachine.isAllowed(ApplicationStatus.APPROVED, role, WorkflowAction.SIGN));
+        }
+    }
+
+    @Test
+    void terminalStatusesAllowNothing() {
+        for (ApplicationStatus status : EnumSet.of(ApplicationStatus.REJECTED, ApplicationStatus.SIGNED)) {
+            for (WorkflowAction action : WorkflowAction.values()) {
+                assertFalse(ApplicationStateMachine.isAllowed(status, action), status + " " + action);
+            }
+        }
+    }
+
+    @Test
+    void anyRoleCheckIsUnionOfRoles() {
+        assertTrue(ApplicationStateMachine.isAllowed(ApplicationStatus.DRAFT, WorkflowAction.SUBMIT));
+        assertTrue(ApplicationStateMachine.isAllowed(ApplicationStatus.UNDER_REVIEW, WorkflowAction.APPROVE));
+        assertFalse(ApplicationStateMachine.isAllowed(ApplicationStatus.DRAFT, WorkflowAction.APPROVE));
+    }
+
+    @Test
+    void canTransitionFollowsActionTargets() {
+        assertTrue(ApplicationStateMachine.canTransition(
+                ApplicationStatus.SUBMITTED, ApplicationStatus.PENDING_DOCUMENTS, Role.LOAN_OFFICER));
+        assertTrue(ApplicationStateMachine.canTransition(
+                ApplicationStatus.APPROVED, ApplicationStatus.SIGNED, Role.CUSTOMER));
+        assertFalse(ApplicationStateMachine.canTransition(
+                ApplicationStatus.APPROVED, ApplicationStatus.SIGNED, Role.UNDERWRITER));
+        assertFalse(ApplicationStateMachine.canTransition(
+                ApplicationStatus.REJECTED, ApplicationStatus.APPROVED, Role.UNDERWRITER));
+        assertFalse(ApplicationStateMachine.canTransition(
+                ApplicationStatus.DRAFT, ApplicationStatus.SUBMITTED, Role.LOAN_OFFICER));
+    }
+
+    @Test
+    void isPerformableBy() {
+        assertTrue(ApplicationStateMachine.isPerformableBy(WorkflowAction.APPROVE, Role.UNDERWRITER));
+        assertFalse(ApplicationStateMachine.isPerformableBy(WorkflowAction.SIGN, Role.LOAN_OFFICER));
+        assertFalse(ApplicationStateMachine.isPerformableBy(WorkflowAction.APPROVE, Role.CUSTOMER));
+    }
+
+    @Test
+    void tablesAreReadOnly() {
+        Set<WorkflowAction> actions = ApplicationStateMachine.allowedActions(ApplicationStatus.DRAFT, Role.CUSTOMER);
+        assertThrows(UnsupportedOperationException.class, () -> actions.add(WorkflowAction.APPROVE));
+    }
+
+    @Test
+    void fromParameterAcceptsRoutesAndNames() {
+        assertEquals(WorkflowAction.MOVE_TO_REVIEW, WorkflowAction.fromParameter("review"));
+        assertEquals(WorkflowAction.MOVE_TO_REVIEW, WorkflowAction.fromParameter("MOVE_TO_REVIEW"));
+        assertEquals(WorkflowAction.REQUEST_DOCUMENTS, WorkflowAction.fromParameter("request-documents"));
+        assertNull(WorkflowAction.fromParameter("archive"));
+    }
+}
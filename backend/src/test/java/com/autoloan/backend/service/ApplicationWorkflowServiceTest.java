@@ -1,19 +1,28 @@
 package com.autoloan.backend.service;
 
 import com.autoloan.backend.dto.application.ApplicationApprovalRequest;
+import com.autoloan.backend.dto.application.BulkActionRequest;
+import com.autoloan.backend.dto.application.BulkActionResponse;
 import com.autoloan.backend.dto.application.StatusHistoryResponse;
 import com.autoloan.backend.dto.loan.LoanApplicationResponse;
+import com.autoloan.backend.event.ApplicationStatusChanged;
+import com.autoloan.backend.event.DomainEventPublisher;
 import com.autoloan.backend.exception.BadRequestException;
 import com.autoloan.backend.exception.ResourceNotFoundException;
 import com.autoloan.backend.model.Application;
 import com.autoloan.backend.model.StatusHistory;
+import com.autoloan.backend.dto.application.AllowedActionsResponse;
 import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.model.enums.Role;
+import com.autoloan.backend.model.enums.WorkflowAction;
 import com.autoloan.backend.repository.ApplicationRepository;
+import com.autoloan.backend.repository.ApplicationRepository.IdStatus;
 import com.autoloan.backend.repository.StatusHistoryRepository;
 import com.autoloan.backend.repository.VehicleRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -21,7 +30,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
+import java.util.stream.LongStream;
 import java.util.Optional;
+import java.util.function.IntFunction;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -39,6 +50,18 @@ class ApplicationWorkflowServiceTest {
     @Mock
     private VehicleRepository vehicleRepository;
 
+    @Mock
+    private ApplicationResponseCache responseCache;
+
+    @Mock
+    private ApplicationQueueCounters queueCounters;
+
+    @Mock
+    private TransitionRetry transitionRetry;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
     @InjectMocks
     private ApplicationWorkflowService workflowService;
 
@@ -52,6 +75,17 @@ class ApplicationWorkflowServiceTest {
         testApp.setApplicationNumber("APP-TEST1234");
         testApp.setStatus(ApplicationStatus.SUBMITTED);
         testApp.setCurrentStep(1);
+        // Retry behaviour is covered by TransitionRetryTest; here each action runs once
+        lenient().when(transitionRetry.execute(any(), any())).thenAnswer(inv ->
+                inv.<IntFunction<?>>getArgument(1).apply(1));
+    }
+
+    private static IdStatus idStatus(Long id, Long userId, ApplicationStatus status) {
+        return new IdStatus() {
+            public Long getId() { return id; }
+            public Long getUserId() { return userId; }
+            public ApplicationStatus getStatus() { return status; }
+        };
     }
 
     private void mockSave() {
@@ -68,7 +102,10 @@ class ApplicationWorkflowServiceTest {
         LoanApplicationResponse response = workflowService.startVerification(1L, 200L);
 
         assertEquals("UNDER_REVIEW", response.getStatus());
+        assertNotNull(testApp.getStatusEnteredAt());
         verify(statusHistoryRepository).save(any(StatusHistory.class));
+        verify(responseCache).invalidate(1L);
+        verify(queueCounters).recordTransition(ApplicationStatus.SUBMITTED, ApplicationStatus.UNDER_REVIEW);
     }
 
     @Test
@@ -86,6 +123,22 @@ class ApplicationWorkflowServiceTest {
         assertThrows(ResourceNotFoundException.class, () -> workflowService.startVerification(999L, 200L));
     }
 
+    @Test
+    void startVerification_retryAfterConcurrentStart_returnsCurrentState() {
+        // Second attempt: another officer's identical transition won the version race
+        doAnswer(inv -> inv.<IntFunction<?>>getArgument(1).apply(2))
+                .when(transitionRetry).execute(eq(WorkflowAction.START_VERIFICATION), any());
+        testApp.setStatus(ApplicationStatus.UNDER_REVIEW);
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApp));
+        when(vehicleRepository.findByApplicationId(1L)).thenReturn(Optional.empty());
+
+        LoanApplicationResponse response = workflowService.startVerification(1L, 200L);
+
+        assertEquals("UNDER_REVIEW", response.getStatus());
+        verify(applicationRepository, never()).save(any());
+        verify(statusHistoryRepository, never()).save(any());
+    }
+
     @Test
     void moveToReview_fromUnderReview() {
         testApp.setStatus(ApplicationStatus.UNDER_REVIEW);
@@ -162,6 +215,24 @@ class ApplicationWorkflowServiceTest {
         assertEquals(60, response.getLoanTerm());
     }
 
+    @Test
+    void approve_computesMonthlyPaymentFromTerms() {
+        testApp.setStatus(ApplicationStatus.UNDER_REVIEW);
+        testApp.setLoanAmount(new BigDecimal("25000.00"));
+        testApp.setDownPayment(new BigDecimal("5000.00"));
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApp));
+        mockSave();
+
+        ApplicationApprovalRequest request = new ApplicationApprovalRequest();
+        request.setLoanTerm(48);
+        request.setInterestRate(new BigDecimal("6.90"));
+        request.setMonthlyPayment(new BigDecimal("999.99"));
+
+        LoanApplicationResponse response = workflowService.approve(1L, 200L, request);
+
+        assertEquals(new BigDecimal("478.00"), response.getMonthlyPayment());
+    }
+
     @Test
     void approve_withNullRequest() {
         testApp.setStatus(ApplicationStatus.UNDER_REVIEW);
@@ -192,6 +263,22 @@ class ApplicationWorkflowServiceTest {
 
         assertEquals("REJECTED", response.getStatus());
         assertEquals("Insufficient income", response.getRejectionReason());
+        ArgumentCaptor<ApplicationStatusChanged> event = ArgumentCaptor.forClass(ApplicationStatusChanged.class);
+        verify(eventPublisher).publish(event.capture());
+        assertEquals(100L, event.getValue().applicantId());
+        assertEquals(200L, event.getValue().actorId());
+        assertEquals(ApplicationStatus.UNDER_REVIEW, event.getValue().fromStatus());
+        assertEquals(ApplicationStatus.REJECTED, event.getValue().toStatus());
+        assertEquals("Rejected: Insufficient income", event.getValue().comment());
+    }
+
+    @Test
+    void wrongStatus_publishesNothing() {
+        testApp.setStatus(ApplicationStatus.APPROVED);
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApp));
+
+        assertThrows(BadRequestException.class, () -> workflowService.reject(1L, 200L, "reason"));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -213,6 +300,168 @@ class ApplicationWorkflowServiceTest {
                 () -> workflowService.reject(1L, 200L, "reason"));
     }
 
+    @Test
+    void bulkAction_reportsPerIdResults() {
+        Application underReview = new Application();
+        underReview.setId(2L);
+        underReview.setStatus(ApplicationStatus.UNDER_REVIEW);
+        Application approved = new Application();
+        approved.setId(3L);
+        approved.setStatus(ApplicationStatus.APPROVED);
+        when(applicationRepository.findAllById(List.of(1L, 2L, 3L, 999L)))
+                .thenReturn(List.of(testApp, underReview, approved));
+
+        BulkActionRequest request = new BulkActionRequest();
+        request.setAction("reject");
+        request.setIds(List.of(1L, 2L, 3L, 999L));
+        request.setReason("Insufficient income");
+
+        BulkActionResponse response = workflowService.bulkAction(request, 200L, Role.LOAN_OFFICER);
+
+        assertEquals("REJECT", response.getAction());
+        assertEquals(2, response.getSucceeded());
+        assertEquals(2, response.getFailed());
+        assertTrue(response.getResults().get(0).isSuccess());
+        assertEquals("REJECTED", response.getResults().get(1).getStatus());
+        assertEquals("APPROVED", response.getResults().get(2).getStatus());
+        assertEquals("Application must be under review or submitted", response.getResults().get(2).getError());
+        assertEquals("Application not found", response.getResults().get(3).getError());
+        assertEquals("Insufficient income", testApp.getRejectionReason());
+        assertEquals(ApplicationStatus.APPROVED, approved.getStatus());
+        verify(applicationRepository).saveAll(List.of(testApp, underReview));
+        verify(statusHistoryRepository).saveAll(argThat(histories -> histories.spliterator().getExactSizeIfKnown() == 2));
+        verify(applicationRepository, never()).save(any());
+        verify(responseCache).invalidate(1L);
+        verify(responseCache).invalidate(2L);
+        verify(queueCounters, times(2)).recordTransition(any(), eq(ApplicationStatus.REJECTED));
+    }
+
+    @Test
+    void bulkAction_approveAppliesTerms() {
+        when(applicationRepository.findAllById(List.of(1L))).thenReturn(List.of(testApp));
+
+        BulkActionRequest request = new BulkActionRequest();
+        request.setAction("APPROVE");
+        request.setIds(List.of(1L, 1L));
+        request.setLoanTerm(48);
+        request.setInterestRate(new BigDecimal("5.25"));
+
+        BulkActionResponse response = workflowService.bulkAction(request, 200L, Role.LOAN_OFFICER);
+
+        assertEquals(1, response.getResults().size());
+        assertEquals(ApplicationStatus.APPROVED, testApp.getStatus());
+        assertEquals(48, testApp.getLoanTerm());
+        assertEquals(new BigDecimal("5.25"), testApp.getInterestRate());
+        assertNotNull(testApp.getDecidedAt());
+    }
+
+    @Test
+    void bulkAction_noneValid_savesNothing() {
+        testApp.setStatus(ApplicationStatus.DRAFT);
+        when(applicationRepository.findAllById(List.of(1L))).thenReturn(List.of(testApp));
+
+        BulkActionRequest request = new BulkActionRequest();
+        request.setAction("start-verification");
+        request.setIds(List.of(1L));
+
+        BulkActionResponse response = workflowService.bulkAction(request, 200L, Role.LOAN_OFFICER);
+
+        assertEquals(0, response.getSucceeded());
+        assertEquals("DRAFT", response.getResults().get(0).getStatus());
+        verify(applicationRepository, never()).saveAll(any());
+        verify(statusHistoryRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void bulkAction_unknownAction() {
+        BulkActionRequest request = new BulkActionRequest();
+        request.setAction("archive");
+        request.setIds(List.of(1L));
+
+        assertThrows(BadRequestException.class, () -> workflowService.bulkAction(request, 200L, Role.LOAN_OFFICER));
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void bulkAction_tooManyIds() {
+        BulkActionRequest request = new BulkActionRequest();
+        request.setAction("approve");
+        request.setIds(LongStream.rangeClosed(1, ApplicationWorkflowService.MAX_BULK_IDS + 1).boxed().toList());
+
+        assertThrows(BadRequestException.class, () -> workflowService.bulkAction(request, 200L, Role.LOAN_OFFICER));
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void bulkAction_applicantActionNotPermittedForStaff() {
+        BulkActionRequest request = new BulkActionRequest();
+        request.setAction("sign");
+        request.setIds(List.of(1L));
+
+        BadRequestException ex = assertThrows(BadRequestException.class,
+                () -> workflowService.bulkAction(request, 200L, Role.LOAN_OFFICER));
+        assertEquals("Action not permitted: sign", ex.getMessage());
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void updateStatus_followsTransitionTable() {
+        testApp.setStatus(ApplicationStatus.UNDER_REVIEW);
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApp));
+        mockSave();
+
+        LoanApplicationResponse response = workflowService.updateStatus(1L, 200L, Role.UNDERWRITER, "approved", null);
+
+        assertEquals("APPROVED", response.getStatus());
+        assertNotNull(testApp.getDecidedAt());
+    }
+
+    @Test
+    void updateStatus_rejectsJumpOutsideTable() {
+        testApp.setStatus(ApplicationStatus.DRAFT);
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApp));
+
+        BadRequestException ex = assertThrows(BadRequestException.class,
+                () -> workflowService.updateStatus(1L, 200L, Role.LOAN_OFFICER, "APPROVED", null));
+        assertEquals("Cannot move application from DRAFT to APPROVED", ex.getMessage());
+        verify(applicationRepository, never()).save(any());
+    }
+
+    @Test
+    void getAllowedActions_forApplicant() {
+        when(applicationRepository.findStatusesByIdIn(List.of(1L)))
+                .thenReturn(List.of(idStatus(1L, 100L, ApplicationStatus.APPROVED)));
+
+        AllowedActionsResponse response = workflowService.getAllowedActions(1L, 100L, Role.CUSTOMER);
+
+        assertEquals("APPROVED", response.getStatus());
+        assertEquals(List.of("sign"), response.getActions());
+    }
+
+    @Test
+    void getAllowedActions_otherApplicantsApplication() {
+        when(applicationRepository.findStatusesByIdIn(List.of(1L)))
+                .thenReturn(List.of(idStatus(1L, 100L, ApplicationStatus.APPROVED)));
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> workflowService.getAllowedActions(1L, 999L, Role.CUSTOMER));
+    }
+
+    @Test
+    void getAllowedActions_bulkForStaff() {
+        when(applicationRepository.findStatusesByIdIn(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                idStatus(1L, 100L, ApplicationStatus.SUBMITTED),
+                idStatus(3L, 101L, ApplicationStatus.SIGNED)));
+
+        List<AllowedActionsResponse> responses =
+                workflowService.getAllowedActions(List.of(1L, 2L, 3L, 1L), Role.LOAN_OFFICER);
+
+        assertEquals(2, responses.size());
+        assertEquals(List.of("start_verification", "request_documents", "approve", "reject"),
+                responses.get(0).getActions());
+        assertTrue(responses.get(1).getActions().isEmpty());
+    }
+
     @Test
     void sign_success() {
         testApp.setStatus(ApplicationStatus.APPROVED);
@@ -244,13 +493,11 @@ class ApplicationWorkflowServiceTest {
 
     @Test
     void getHistory_success() {
-        when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApp));
-
         StatusHistory h = StatusHistory.builder()
                 .id(1L).applicationId(1L).userId(200L)
                 .fromStatus("SUBMITTED").toStatus("UNDER_REVIEW")
                 .comment("Verification started").createdAt(Instant.now()).build();
-        when(statusHistoryRepository.findByApplicationIdOrderByCreatedAtDesc(1L))
+        when(statusHistoryRepository.findByApplicationIdOrderByIdDesc(1L))
                 .thenReturn(List.of(h));
 
         List<StatusHistoryResponse> history = workflowService.getHistory(1L);
@@ -258,12 +505,81 @@ class ApplicationWorkflowServiceTest {
         assertEquals(1, history.size());
         assertEquals("SUBMITTED", history.get(0).getFromStatus());
         assertEquals("UNDER_REVIEW", history.get(0).getToStatus());
+        // Rows imply the application exists
+        verify(applicationRepository, never()).existsById(any());
     }
 
     @Test
     void getHistory_applicationNotFound() {
-        when(applicationRepository.findById(999L)).thenReturn(Optional.empty());
+        when(statusHistoryRepository.findByApplicationIdOrderByIdDesc(999L)).thenReturn(List.of());
+        when(applicationRepository.existsById(999L)).thenReturn(false);
 
         assertThrows(ResourceNotFoundException.class, () -> workflowService.getHistory(999L));
     }
+
+    @Test
+    void getHistory_emptyForExistingApplication() {
+        when(statusHistoryRepository.findByApplicationIdOrderByIdDesc(1L)).thenReturn(List.of());
+        when(applicationRepository.existsById(1L)).thenReturn(true);
+
+        assertTrue(workflowService.getHistory(1L).isEmpty());
+    }
+
+    @Test
+    void getHistory_sinceReturnsOnlyNewerEntries() {
+        StatusHistory h = StatusHistory.builder()
+                .id(12L).applicationId(1L).userId(200L)
+                .fromStatus("UNDER_REVIEW").toStatus("APPROVED").build();
+        when(statusHistoryRepository.findByApplicationIdAndIdGreaterThanOrderByIdDesc(1L, 11L))
+                .thenReturn(List.of(h));
+
+        List<StatusHistoryResponse> history = workflowService.getHistory(1L, 11L);
+
+        assertEquals(1, history.size());
+        assertEquals(12L, history.get(0).getId());
+        verify(statusHistoryRepository, never()).findByApplicationIdOrderByIdDesc(any());
+    }
+
+    @Test
+    void getHistory_negativeSinceRejected() {
+        assertThrows(BadRequestException.class, () -> workflowService.getHistory(1L, -1L));
+    }
+
+    @Test
+    void getHistoryTag_fromLatestIdAndCount() {
+        when(statusHistoryRepository.findVersionByApplicationId(1L)).thenReturn(historyVersion(3, 42L));
+
+        assertEquals("W/\"42-3\"", workflowService.getHistoryTag(1L));
+        verify(applicationRepository, never()).existsById(any());
+    }
+
+    @Test
+    void getHistoryTag_emptyHistory() {
+        when(statusHistoryRepository.findVersionByApplicationId(1L)).thenReturn(historyVersion(0, null));
+        when(applicationRepository.existsById(1L)).thenReturn(true);
+
+        assertEquals("W/\"0\"", workflowService.getHistoryTag(1L));
+    }
+
+    @Test
+    void getHistoryTag_applicationNotFound() {
+        when(statusHistoryRepository.findVersionByApplicationId(999L)).thenReturn(historyVersion(0, null));
+        when(applicationRepository.existsById(999L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> workflowService.getHistoryTag(999L));
+    }
+
+    private static StatusHistoryRepository.HistoryVersion historyVersion(long total, Long latestId) {
+        return new StatusHistoryRepository.HistoryVersion() {
+            @Override
+            public long getTotal() {
+                return total;
+            }
+
+            @Override
+            public Long getLatestId() {
+                return latestId;
+            }
+        };
+    }
 }
@@ -0,0 +1,70 @@
+package com.autoloan.backend.service;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.autoloan.backend.model.Application;
+import com.autoloan.backend.model.User;
+import com.autoloan.backend.model.enums.ApplicationStatus;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Counts the statements Hibernate prepares for a piece of work. Subclasses run in the usual
+// rolled-back test transaction, or commit for real with @Transactional(NOT_SUPPORTED).
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public abstract class BaseQueryCountTest {
+
+    @Autowired
+    protected TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    protected Statistics statistics;
+
+    @BeforeEach
+    void setUpStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    // Inside the test transaction the persistence context is cleared first, so nothing loaded
+    // earlier in the test is served without a statement
+    protected long countStatements(Runnable action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.clear();
+        }
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    // Writes the fixtures and starts counting from a cold persistence context
+    protected void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    protected static User.UserBuilder user(String email) {
+        return User.builder()
+                .email(email)
+                .encryptedPassword("hash")
+                .firstName("Query")
+                .lastName("Counter")
+                .phone("555-0000");
+    }
+
+    protected static Application.ApplicationBuilder application(String number, Long userId,
+                                                                ApplicationStatus status) {
+        return Application.builder()
+                .applicationNumber(number)
+                .userId(userId)
+                .status(status);
+    }
+}
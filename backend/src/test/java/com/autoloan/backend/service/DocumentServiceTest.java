@@ -2,6 +2,8 @@ package com.autoloan.backend.service;
 
 import com.autoloan.backend.dto.document.DocumentResponse;
 import com.autoloan.backend.dto.document.DocumentStatusUpdateRequest;
+import com.autoloan.backend.event.DocumentUploaded;
+import com.autoloan.backend.event.DomainEventPublisher;
 import com.autoloan.backend.exception.BadRequestException;
 import com.autoloan.backend.exception.ResourceNotFoundException;
 import com.autoloan.backend.model.Application;
@@ -14,13 +16,18 @@ import com.autoloan.backend.repository.DocumentRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -38,7 +45,15 @@ class DocumentServiceTest {
     @Mock
     private ApplicationRepository applicationRepository;
 
-    @InjectMocks
+    @Mock
+    private ApplicationResponseCache responseCache;
+
+    @Mock
+    private DomainEventPublisher eventPublisher;
+
+    @TempDir
+    private Path uploadDir;
+
     private DocumentService documentService;
 
     private Application testApplication;
@@ -46,6 +61,9 @@ class DocumentServiceTest {
 
     @BeforeEach
     void setUp() {
+        documentService = new DocumentService(documentRepository, applicationRepository, responseCache,
+                eventPublisher, new DocumentStorage(uploadDir, DocumentStorage.MAX_FILE_SIZE));
+
         testApplication = new Application();
         testApplication.setId(1L);
         testApplication.setUserId(100L);
@@ -89,6 +107,9 @@ class DocumentServiceTest {
         assertEquals("license.pdf", response.getFileName());
         assertEquals("UPLOADED", response.getStatus());
         verify(documentRepository).save(any(Document.class));
+        verify(responseCache).invalidate(1L);
+        verify(eventPublisher).publish(argThat(event -> event instanceof DocumentUploaded uploaded
+                && uploaded.documentId().equals(10L) && uploaded.docType() == DocumentType.DRIVERS_LICENSE));
     }
 
     @Test
@@ -144,6 +165,62 @@ class DocumentServiceTest {
                 () -> documentService.uploadDocument(1L, 100L, "INVALID_TYPE", mockFile));
     }
 
+    @Test
+    void uploadDocumentStream_storesBodyWithSha256() throws Exception {
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApplication));
+        when(documentRepository.save(any(Document.class))).thenAnswer(invocation -> {
+            Document doc = invocation.getArgument(0);
+            doc.setId(10L);
+            return doc;
+        });
+        byte[] content = "%PDF-1.7 pay stub".getBytes();
+
+        DocumentResponse response = documentService.uploadDocumentStream(1L, 100L, "pay_stub", "stub.pdf",
+                "application/pdf", content.length, new ByteArrayInputStream(content));
+
+        assertEquals("PAY_STUB", response.getDocType());
+        assertEquals("stub.pdf", response.getFileName());
+        assertEquals(content.length, response.getFileSize());
+        assertEquals("application/pdf", response.getContentType());
+        assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)),
+                response.getSha256());
+        assertArrayEquals(content, Files.readAllBytes(Path.of(response.getFileUrl())));
+        verify(responseCache).invalidate(1L);
+        verify(eventPublisher).publish(any(DocumentUploaded.class));
+    }
+
+    @Test
+    void uploadDocumentStream_declaredLengthTooLargeIsRejectedBeforeReading() {
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApplication));
+        InputStream body = mock(InputStream.class);
+
+        assertThrows(BadRequestException.class, () -> documentService.uploadDocumentStream(1L, 100L,
+                "PAY_STUB", "stub.pdf", "application/pdf", DocumentStorage.MAX_FILE_SIZE + 1, body));
+        verifyNoInteractions(body);
+    }
+
+    @Test
+    void uploadDocumentStream_wrongUser() {
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApplication));
+
+        assertThrows(ResourceNotFoundException.class, () -> documentService.uploadDocumentStream(1L, 999L,
+                "PAY_STUB", "stub.pdf", "application/pdf", 3, new ByteArrayInputStream(new byte[3])));
+        verifyNoInteractions(documentRepository);
+    }
+
+    @Test
+    void uploadDocumentStream_failedSaveRemovesTheFile() throws IOException {
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApplication));
+        when(documentRepository.save(any(Document.class))).thenThrow(new IllegalStateException("db down"));
+
+        assertThrows(IllegalStateException.class, () -> documentService.uploadDocumentStream(1L, 100L,
+                "PAY_STUB", "stub.pdf", "application/pdf", -1, new ByteArrayInputStream(new byte[3])));
+        try (var files = Files.list(uploadDir)) {
+            assertEquals(0, files.count());
+        }
+        verifyNoInteractions(eventPublisher);
+    }
+
     @Test
     void getDocumentsByApplication_success() {
         when(applicationRepository.findById(1L)).thenReturn(Optional.of(testApplication));
@@ -198,6 +275,7 @@ class DocumentServiceTest {
 
         assertDoesNotThrow(() -> documentService.deleteDocument(10L, 100L));
         verify(documentRepository).delete(testDocument);
+        verify(responseCache).invalidate(1L);
     }
 
     @Test
@@ -230,6 +308,7 @@ class DocumentServiceTest {
         assertEquals("VERIFIED", response.getStatus());
         assertEquals(200L, response.getVerifiedById());
         assertNotNull(response.getVerifiedAt());
+        verify(responseCache).invalidate(testDocument.getApplicationId());
     }
 
     @Test
@@ -0,0 +1,124 @@
+package com.autoloan.backend.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.autoloan.backend.exception.BadRequestException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DocumentStorageTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void storesTheBytesWithTheirSizeAndSha256() throws Exception {
+        byte[] content = new byte[200_000];
+        new Random(7).nextBytes(content);
+        DocumentStorage storage = new DocumentStorage(directory, 1_000_000);
+
+        DocumentStorage.StoredFile stored = storage.store(new ByteArrayInputStream(content), "license.pdf");
+
+        assertArrayEquals(content, Files.readAllBytes(stored.path()));
+        assertEquals(200_000, stored.size());
+        assertEquals(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)),
+                stored.sha256());
+        assertTrue(stored.path().getFileName().toString().endsWith("_license.pdf"));
+        assertEquals(directory + "/" + stored.path().getFileName(), stored.fileUrl());
+        assertEquals(1, files().size());
+    }
+
+    @Test
+    void oversizedUploadStopsReadingAndLeavesNothingBehind() {
+        DocumentStorage storage = new DocumentStorage(directory, 100_000);
+        CountingInputStream body = new CountingInputStream(10_000_000);
+
+        BadRequestException e = assertThrows(BadRequestException.class, () -> storage.store(body, "big.pdf"));
+
+        assertTrue(e.getMessage().startsWith("File size exceeds maximum"));
+        // One chunk past the limit at most, not the whole body
+        assertTrue(body.read < 200_000, "read " + body.read);
+        assertTrue(files().isEmpty());
+    }
+
+    @Test
+    void emptyUploadIsRejected() {
+        DocumentStorage storage = new DocumentStorage(directory, 100_000);
+
+        assertThrows(BadRequestException.class,
+                () -> storage.store(new ByteArrayInputStream(new byte[0]), "empty.pdf"));
+        assertTrue(files().isEmpty());
+    }
+
+    @Test
+    void failingClientLeavesNoTempFile() {
+        DocumentStorage storage = new DocumentStorage(directory, 100_000);
+        InputStream broken = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+
+        assertThrows(IOException.class, () -> storage.store(broken, "license.pdf"));
+        assertTrue(files().isEmpty());
+    }
+
+    @Test
+    void storedNameKeepsOnlyASafeLastSegment() {
+        assertEquals("passwd", DocumentStorage.safeName("../../etc/passwd"));
+        assertEquals("scan.png", DocumentStorage.safeName("C:\\Users\\me\\scan.png"));
+        assertEquals("pay_stub__1_.pdf", DocumentStorage.safeName("pay stub (1).pdf"));
+        assertEquals("file", DocumentStorage.safeName(".."));
+        assertEquals("file", DocumentStorage.safeName(null));
+    }
+
+    private List<Path> files() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    // A long body of zeros that records how much of it was consumed
+    private static final class CountingInputStream extends InputStream {
+        private final long length;
+        private long read;
+
+        private CountingInputStream(long length) {
+            this.length = length;
+        }
+
+        @Override
+        public int read() {
+            if (read >= length) {
+                return -1;
+            }
+            read++;
+            return 0;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (read >= length) {
+                return -1;
+            }
+            int n = (int) Math.min(len, length - read);
+            read += n;
+            return n;
+        }
+    }
+}
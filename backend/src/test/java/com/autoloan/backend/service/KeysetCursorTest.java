@@ -0,0 +1,97 @@
+package com.autoloan.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import com.autoloan.backend.exception.BadRequestException;
+import com.autoloan.backend.model.enums.ApplicationStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    @Test
+    void keysetSortShouldAppendIdTieBreaker() {
+        Sort sort = KeysetCursor.keysetSort(Sort.by(Sort.Order.asc("status")));
+
+        List<Sort.Order> orders = sort.toList();
+        assertEquals(2, orders.size());
+        assertEquals("status", orders.get(0).getProperty());
+        assertEquals("id", orders.get(1).getProperty());
+        assertEquals(Sort.Direction.ASC, orders.get(1).getDirection());
+    }
+
+    @Test
+    void keysetSortShouldDropNullableColumns() {
+        Sort sort = KeysetCursor.keysetSort(Sort.by(Sort.Order.desc("submittedAt"), Sort.Order.asc("loanAmount")));
+
+        List<Sort.Order> orders = sort.toList();
+        assertEquals("createdAt", orders.get(0).getProperty());
+        assertEquals(Sort.Direction.DESC, orders.get(0).getDirection());
+        assertEquals("id", orders.get(1).getProperty());
+    }
+
+    @Test
+    void encodeAndDecodeShouldRoundTrip() {
+        Sort sort = KeysetCursor.keysetSort(Sort.by(Sort.Order.asc("status"), Sort.Order.desc("createdAt")));
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("status", ApplicationStatus.SUBMITTED);
+        keys.put("createdAt", Instant.parse("2024-05-01T10:15:30.123456Z"));
+        keys.put("id", 42L);
+
+        String token = KeysetCursor.encode(ScrollPosition.forward(keys));
+        KeysetScrollPosition decoded = KeysetCursor.decode(token, sort);
+
+        assertEquals(keys, decoded.getKeys());
+        assertTrue(decoded.scrollsForward());
+    }
+
+    @Test
+    void decodeBlankTokenShouldStartFromBeginning() {
+        KeysetScrollPosition position = KeysetCursor.decode("", KeysetCursor.keysetSort(Sort.unsorted()));
+
+        assertTrue(position.isInitial());
+    }
+
+    @Test
+    void decodeShouldRejectGarbage() {
+        Sort sort = KeysetCursor.keysetSort(Sort.unsorted());
+
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode("!!not-base64!!", sort));
+    }
+
+    @Test
+    void decodeShouldRejectTokenFromDifferentOrderby() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("status", ApplicationStatus.SUBMITTED);
+        keys.put("id", 1L);
+        String token = KeysetCursor.encode(ScrollPosition.forward(keys));
+
+        Sort createdAtSort = KeysetCursor.keysetSort(Sort.unsorted());
+
+        assertThrows(BadRequestException.class, () -> KeysetCursor.decode(token, createdAtSort));
+    }
+
+    @Test
+    void decodeShouldRejectMalformedValue() {
+        String token = Base64.getUrlEncoder().encodeToString(
+                "createdAt=yesterday;id=1".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(BadRequestException.class,
+                () -> KeysetCursor.decode(token, KeysetCursor.keysetSort(Sort.unsorted())));
+    }
+
+    @Test
+    void encodeShouldRejectOffsetPositions() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.encode(ScrollPosition.offset(5)));
+    }
+}
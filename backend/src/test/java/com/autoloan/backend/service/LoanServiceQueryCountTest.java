@@ -0,0 +1,167 @@
+package com.autoloan.backend.service;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import com.autoloan.backend.dto.application.QueueSummaryResponse;
+import com.autoloan.backend.dto.loan.CountKind;
+import com.autoloan.backend.dto.loan.CursorPaginatedResponse;
+import com.autoloan.backend.dto.loan.LoanApplicationResponse;
+import com.autoloan.backend.dto.loan.PaginatedResponse;
+import com.autoloan.backend.model.Vehicle;
+import com.autoloan.backend.model.enums.ApplicationStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Import({LoanService.class, ApplicationCountEstimator.class, ApplicationResponseCache.class,
+        ApplicationQueueCounters.class, SimpleMeterRegistry.class})
+class LoanServiceQueryCountTest extends BaseQueryCountTest {
+
+    private static final int APPLICATION_COUNT = 30;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private ApplicationQueueCounters queueCounters;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = entityManager.persist(user("counter@example.com").build()).getId();
+
+        for (int i = 0; i < APPLICATION_COUNT; i++) {
+            Long appId = entityManager.persist(application("APP-QC" + i, userId, ApplicationStatus.SUBMITTED)
+                    .loanAmount(new BigDecimal("20000.00"))
+                    .build()).getId();
+            entityManager.persist(Vehicle.builder()
+                    .applicationId(appId)
+                    .make("Toyota")
+                    .model("Camry")
+                    .year(2024)
+                    .build());
+        }
+        flushAndClear();
+    }
+
+    @Test
+    void paginatedPageShouldUseFixedNumberOfQueriesRegardlessOfPageSize() {
+        long smallPage = countStatements(() -> loanService.getApplicationsPaginated(null, null, null, null, 1, 5));
+        long largePage = countStatements(() -> loanService.getApplicationsPaginated(null, null, null, null, 1, 25));
+
+        // projected page query (vehicle joined) + count query
+        assertEquals(2, smallPage);
+        assertEquals(smallPage, largePage);
+    }
+
+    @Test
+    void paginatedPageWithCountFalseShouldSkipCountQuery() {
+        AtomicReference<PaginatedResponse<LoanApplicationResponse>> response = new AtomicReference<>();
+        long statements = countStatements(() -> response.set(
+                loanService.getApplicationsPaginated(null, null, null, null, "false", 6, 5)));
+
+        // one projected page query (limit + 1), no count
+        assertEquals(1, statements);
+        assertEquals(5, response.get().getData().size());
+        assertFalse(response.get().isHasMore());
+        assertNull(response.get().getTotal());
+    }
+
+    @Test
+    void paginatedPageWithCountEstimateFallsBackToExactWithoutPlannerStatistics() {
+        PaginatedResponse<LoanApplicationResponse> response =
+                loanService.getApplicationsPaginated(null, null, null, null, "estimate", 1, 5);
+
+        assertEquals(CountKind.EXACT, response.getCountKind());
+        assertEquals(APPLICATION_COUNT, response.getTotal());
+        assertTrue(response.isHasMore());
+    }
+
+    @Test
+    void paginatedPageShouldStillPopulateVehicleFields() {
+        PaginatedResponse<LoanApplicationResponse> response =
+                loanService.getApplicationsPaginated(userId, null, null, null, 1, 10);
+
+        assertEquals(10, response.getData().size());
+        assertEquals(APPLICATION_COUNT, response.getTotal());
+        assertTrue(response.getData().stream().allMatch(r -> "Toyota".equals(r.getVehicleMake())));
+    }
+
+    @Test
+    void userAndAllApplicationListsShouldUseOneQuery() {
+        assertEquals(1, countStatements(() -> loanService.getUserApplications(userId)));
+        assertEquals(1, countStatements(() -> loanService.getAllApplications()));
+    }
+
+    @Test
+    void repeatedDetailReadsShouldBeServedFromCache() {
+        Long appId = loanService.getUserApplications(userId).get(0).getId();
+
+        assertEquals(2, countStatements(() -> loanService.getApplication(appId, userId)));
+        assertEquals(0, countStatements(() -> loanService.getApplication(appId, userId)));
+        assertEquals(0, countStatements(() -> loanService.getApplicationById(appId)));
+    }
+
+    @Test
+    void cursorPagesShouldCostTheSameAtAnyDepthAndSkipCount() {
+        String[] token = {""};
+        long firstPage = countStatements(() -> token[0] =
+                loanService.getApplicationsByCursor(null, null, null, null, token[0], 5).getNextSkipToken());
+        for (int i = 0; i < 3; i++) {
+            token[0] = loanService.getApplicationsByCursor(null, null, null, null, token[0], 5).getNextSkipToken();
+        }
+        long deepPage = countStatements(() ->
+                loanService.getApplicationsByCursor(null, null, null, null, token[0], 5));
+
+        // one projected page query, never a COUNT(*)
+        assertEquals(1, firstPage);
+        assertEquals(firstPage, deepPage);
+    }
+
+    @Test
+    void cursorPagesShouldVisitEveryApplicationOnce() {
+        Set<Long> seen = new HashSet<>();
+        String token = "";
+        int pages = 0;
+        CursorPaginatedResponse<LoanApplicationResponse> page;
+        do {
+            page = loanService.getApplicationsByCursor(userId, null, "status asc", null, token, 7);
+            page.getData().forEach(r -> assertTrue(seen.add(r.getId()), "duplicate id " + r.getId()));
+            token = page.getNextSkipToken();
+            pages++;
+        } while (page.isHasMore());
+
+        assertEquals(APPLICATION_COUNT, seen.size());
+        assertEquals(5, pages);
+        assertNull(token);
+    }
+
+    @Test
+    void listQueriesShouldNotLoadEntitiesOrWideColumns() {
+        loanService.getApplicationsPaginated(null, null, null, null, 1, 10);
+        loanService.getApplicationsByCursor(null, null, null, null, "", 10);
+
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void queueSummaryShouldBeServedFromMemoryAfterReconcile() {
+        // one GROUP BY status query
+        assertEquals(1, countStatements(() -> queueCounters.reconcile()));
+
+        AtomicReference<QueueSummaryResponse> summary = new AtomicReference<>();
+        assertEquals(0, countStatements(() -> summary.set(queueCounters.summary())));
+        assertEquals(APPLICATION_COUNT, summary.get().getCounts().get("SUBMITTED"));
+        assertEquals(APPLICATION_COUNT, summary.get().getTotal());
+    }
+}
@@ -1,28 +1,42 @@
 package com.autoloan.backend.service;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
+import com.autoloan.backend.dto.loan.CountKind;
 import com.autoloan.backend.dto.loan.LoanApplicationRequest;
 import com.autoloan.backend.dto.loan.LoanApplicationResponse;
+import com.autoloan.backend.dto.loan.PaginatedResponse;
+import com.autoloan.backend.dto.loan.PaymentScheduleResponse;
 import com.autoloan.backend.exception.BadRequestException;
 import com.autoloan.backend.exception.ResourceNotFoundException;
 import com.autoloan.backend.model.Application;
 import com.autoloan.backend.model.Vehicle;
 import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.model.enums.Role;
 import com.autoloan.backend.repository.ApplicationRepository;
+import com.autoloan.backend.repository.ApplicationRow;
 import com.autoloan.backend.repository.VehicleRepository;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +48,16 @@ class LoanServiceTest {
     @Mock
     private VehicleRepository vehicleRepository;
 
+    @Mock
+    private ApplicationCountEstimator countEstimator;
+
+    @Spy
+    private ApplicationResponseCache responseCache = new ApplicationResponseCache(
+            new SimpleMeterRegistry(), 100, Duration.ofMinutes(1), System::nanoTime);
+
+    @Mock
+    private ApplicationQueueCounters queueCounters;
+
     @InjectMocks
     private LoanService loanService;
 
@@ -84,6 +108,7 @@ class LoanServiceTest {
         assertEquals("Toyota", response.getVehicleMake());
         verify(applicationRepository).save(any(Application.class));
         verify(vehicleRepository).save(any(Vehicle.class));
+        verify(queueCounters).recordCreated(ApplicationStatus.DRAFT);
     }
 
     @Test
@@ -97,6 +122,32 @@ class LoanServiceTest {
         assertEquals("Toyota", response.getVehicleMake());
     }
 
+    @Test
+    void getApplicationShouldServeRepeatReadsFromCache() {
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(existingApp));
+        when(vehicleRepository.findByApplicationId(1L)).thenReturn(Optional.of(existingVehicle));
+
+        LoanApplicationResponse first = loanService.getApplication(1L, 1L);
+        LoanApplicationResponse second = loanService.getApplicationById(1L);
+
+        assertNotSame(first, second);
+        assertEquals(first.getApplicationNumber(), second.getApplicationNumber());
+        assertEquals("Toyota", second.getVehicleMake());
+        verify(applicationRepository, times(1)).findById(1L);
+        verify(vehicleRepository, times(1)).findByApplicationId(1L);
+    }
+
+    @Test
+    void getApplicationShouldCheckOwnerOnCachedResponse() {
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(existingApp));
+
+        loanService.getApplicationById(1L);
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> loanService.getApplication(1L, 99L));
+        verify(applicationRepository, times(1)).findById(1L);
+    }
+
     @Test
     void getApplicationShouldThrowWhenNotOwner() {
         when(applicationRepository.findById(1L)).thenReturn(Optional.of(existingApp));
@@ -134,24 +185,146 @@ class LoanServiceTest {
 
     @Test
     void getUserApplicationsShouldReturnList() {
-        when(applicationRepository.findByUserId(1L)).thenReturn(List.of(existingApp));
-        when(vehicleRepository.findByApplicationId(1L)).thenReturn(Optional.of(existingVehicle));
+        when(applicationRepository.findRows(any(Specification.class), eq(Sort.unsorted())))
+                .thenReturn(List.of(row(1L, "APP-12345678", ApplicationStatus.DRAFT, "Toyota")));
 
         List<LoanApplicationResponse> responses = loanService.getUserApplications(1L);
 
         assertEquals(1, responses.size());
         assertEquals("APP-12345678", responses.get(0).getApplicationNumber());
+        assertEquals("Toyota", responses.get(0).getVehicleMake());
+        verifyNoInteractions(vehicleRepository);
     }
 
     @Test
     void getAllApplicationsShouldReturnAll() {
-        when(applicationRepository.findAll()).thenReturn(List.of(existingApp));
-        when(vehicleRepository.findByApplicationId(1L)).thenReturn(Optional.of(existingVehicle));
+        when(applicationRepository.findRows(any(Specification.class), eq(Sort.unsorted())))
+                .thenReturn(List.of(row(1L, "APP-12345678", ApplicationStatus.DRAFT, "Toyota")));
 
         List<LoanApplicationResponse> responses = loanService.getAllApplications();
 
         assertEquals(1, responses.size());
         assertEquals("APP-12345678", responses.get(0).getApplicationNumber());
+        verify(applicationRepository, never()).findAll();
+    }
+
+    @Test
+    void getApplicationsPaginatedShouldReadVehicleColumnsFromTheSameRow() {
+        when(applicationRepository.findRows(any(Specification.class), any(Sort.class), eq(0L), eq(20)))
+                .thenReturn(List.of(
+                        row(1L, "APP-12345678", ApplicationStatus.DRAFT, "Toyota"),
+                        row(2L, "APP-87654321", ApplicationStatus.SUBMITTED, null)));
+
+        PaginatedResponse<LoanApplicationResponse> response =
+                loanService.getApplicationsPaginated(null, null, null, null, 1, 20);
+
+        assertEquals(2, response.getData().size());
+        assertEquals("Toyota", response.getData().get(0).getVehicleMake());
+        assertNull(response.getData().get(1).getVehicleMake());
+        assertEquals("SUBMITTED", response.getData().get(1).getStatus());
+        // A short first page already gives the total
+        assertEquals(2L, response.getTotal());
+        verify(applicationRepository, never()).count(any(Specification.class));
+        verifyNoInteractions(vehicleRepository);
+    }
+
+    @Test
+    void getApplicationsPaginatedShouldCountWhenPageIsFull() {
+        when(applicationRepository.findRows(any(Specification.class), any(Sort.class), eq(0L), eq(1)))
+                .thenReturn(List.of(row(1L, "APP-12345678", ApplicationStatus.DRAFT, "Toyota")));
+        when(applicationRepository.count(any(Specification.class))).thenReturn(7L);
+
+        PaginatedResponse<LoanApplicationResponse> response =
+                loanService.getApplicationsPaginated(null, null, null, null, 1, 1);
+
+        assertEquals(7L, response.getTotal());
+        assertEquals(7, response.getTotalPages());
+        assertTrue(response.isHasMore());
+    }
+
+    @Test
+    void getApplicationsPaginatedWithCountFalseSkipsCount() {
+        when(applicationRepository.findRows(any(Specification.class), any(Sort.class), eq(0L), eq(2)))
+                .thenReturn(List.of(
+                        row(1L, "APP-12345678", ApplicationStatus.DRAFT, "Toyota"),
+                        row(2L, "APP-87654321", ApplicationStatus.DRAFT, "Toyota")));
+
+        PaginatedResponse<LoanApplicationResponse> response =
+                loanService.getApplicationsPaginated(null, null, null, null, "false", 1, 1);
+
+        assertEquals(CountKind.NONE, response.getCountKind());
+        assertEquals(1, response.getData().size());
+        assertNull(response.getTotal());
+        assertNull(response.getTotalPages());
+        assertTrue(response.isHasMore());
+        verify(applicationRepository, never()).count(any(Specification.class));
+        verifyNoInteractions(countEstimator);
+    }
+
+    @Test
+    void getApplicationsPaginatedWithCountEstimateUsesPlannerStatistics() {
+        when(applicationRepository.findRows(any(Specification.class), any(Sort.class), eq(0L), eq(21)))
+                .thenReturn(List.of(row(1L, "APP-12345678", ApplicationStatus.SUBMITTED, "Toyota")));
+        when(countEstimator.estimate(ApplicationStatus.SUBMITTED)).thenReturn(OptionalLong.of(95));
+
+        PaginatedResponse<LoanApplicationResponse> response =
+                loanService.getApplicationsPaginated(null, null, null, "submitted", "estimate", 1, 20);
+
+        assertEquals(CountKind.ESTIMATE, response.getCountKind());
+        assertEquals(95L, response.getTotal());
+        assertEquals(5, response.getTotalPages());
+        verify(applicationRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    void getApplicationsPaginatedEstimateNeverUndercountsSeenRows() {
+        List<ApplicationRow> rows = new ArrayList<>();
+        for (long id = 1; id <= 11; id++) {
+            rows.add(row(id, "APP-" + id, ApplicationStatus.SUBMITTED, null));
+        }
+        when(applicationRepository.findRows(any(Specification.class), any(Sort.class), eq(20L), eq(11)))
+                .thenReturn(rows);
+        when(countEstimator.estimate(null)).thenReturn(OptionalLong.of(3));
+
+        PaginatedResponse<LoanApplicationResponse> response =
+                loanService.getApplicationsPaginated(null, null, null, null, "estimate", 3, 10);
+
+        assertEquals(10, response.getData().size());
+        assertEquals(31L, response.getTotal());
+        assertEquals(4, response.getTotalPages());
+    }
+
+    @Test
+    void getApplicationsPaginatedEstimateFallsBackToExactForFilteredQueries() {
+        when(applicationRepository.findRows(any(Specification.class), any(Sort.class), eq(0L), eq(20)))
+                .thenReturn(List.of(row(1L, "APP-12345678", ApplicationStatus.DRAFT, "Toyota")));
+
+        PaginatedResponse<LoanApplicationResponse> response =
+                loanService.getApplicationsPaginated(null, "loan_term gt 12", null, null, "estimate", 1, 20);
+
+        assertEquals(CountKind.EXACT, response.getCountKind());
+        assertEquals(1L, response.getTotal());
+        assertFalse(response.isHasMore());
+        verifyNoInteractions(countEstimator);
+    }
+
+    @Test
+    void getApplicationsPaginatedEstimateFallsBackToExactWithoutStatistics() {
+        when(countEstimator.estimate(null)).thenReturn(OptionalLong.empty());
+        when(applicationRepository.findRows(any(Specification.class), any(Sort.class), eq(0L), eq(20)))
+                .thenReturn(List.of());
+
+        PaginatedResponse<LoanApplicationResponse> response =
+                loanService.getApplicationsPaginated(null, null, null, null, "estimate", 1, 20);
+
+        assertEquals(CountKind.EXACT, response.getCountKind());
+        assertEquals(0L, response.getTotal());
+    }
+
+    @Test
+    void getApplicationsPaginatedRejectsUnknownCountOption() {
+        assertThrows(BadRequestException.class,
+                () -> loanService.getApplicationsPaginated(null, null, null, null, "maybe", 1, 20));
     }
 
     @Test
@@ -174,6 +347,7 @@ class LoanServiceTest {
         assertNotNull(response);
         verify(applicationRepository).save(any(Application.class));
         verify(vehicleRepository).save(any(Vehicle.class));
+        verify(responseCache).invalidate(1L);
     }
 
     @Test
@@ -208,6 +382,8 @@ class LoanServiceTest {
         loanService.deleteApplication(1L, 1L);
 
         verify(applicationRepository).delete(existingApp);
+        verify(responseCache).invalidate(1L);
+        verify(queueCounters).recordDeleted(ApplicationStatus.DRAFT);
     }
 
     @Test
@@ -244,7 +420,11 @@ class LoanServiceTest {
         LoanApplicationResponse response = loanService.submitApplication(1L, 1L);
 
         assertEquals(ApplicationStatus.SUBMITTED.name(), response.getStatus());
+        assertEquals(existingApp.getSubmittedAt(), existingApp.getStatusEnteredAt());
+        assertNotNull(existingApp.getStatusEnteredAt());
         verify(applicationRepository).save(existingApp);
+        verify(responseCache).invalidate(1L);
+        verify(queueCounters).recordTransition(ApplicationStatus.DRAFT, ApplicationStatus.SUBMITTED);
     }
 
     @Test
@@ -263,4 +443,50 @@ class LoanServiceTest {
         assertThrows(ResourceNotFoundException.class,
                 () -> loanService.submitApplication(1L, 99L));
     }
+
+    @Test
+    void paymentScheduleShouldAmortizeAmountFinanced() {
+        existingApp.setDownPayment(new BigDecimal("5000.00"));
+        existingApp.setInterestRate(new BigDecimal("6.90"));
+        existingApp.setLoanTerm(48);
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(existingApp));
+        when(vehicleRepository.findByApplicationId(1L)).thenReturn(Optional.empty());
+
+        PaymentScheduleResponse schedule = loanService.getPaymentSchedule(1L, 1L, Role.CUSTOMER);
+
+        assertEquals(new BigDecimal("20000.00"), schedule.getAmountFinanced());
+        assertEquals(new BigDecimal("478.00"), schedule.getMonthlyPayment());
+        assertEquals(new BigDecimal("2943.86"), schedule.getTotalInterest());
+        assertEquals(new BigDecimal("22943.86"), schedule.getTotalOfPayments());
+        assertEquals(48, schedule.getPayments().size());
+        assertEquals(new BigDecimal("115.00"), schedule.getPayments().get(0).getInterest());
+        assertEquals(new BigDecimal("0.00"), schedule.getPayments().get(47).getBalance());
+    }
+
+    @Test
+    void paymentScheduleShouldBeHiddenFromOtherCustomers() {
+        existingApp.setInterestRate(new BigDecimal("6.90"));
+        existingApp.setLoanTerm(48);
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(existingApp));
+        when(vehicleRepository.findByApplicationId(1L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> loanService.getPaymentSchedule(1L, 99L, Role.CUSTOMER));
+        assertEquals(48, loanService.getPaymentSchedule(1L, 99L, Role.UNDERWRITER).getPayments().size());
+    }
+
+    @Test
+    void paymentScheduleShouldRequireCompleteTerms() {
+        when(applicationRepository.findById(1L)).thenReturn(Optional.of(existingApp));
+        when(vehicleRepository.findByApplicationId(1L)).thenReturn(Optional.empty());
+
+        assertThrows(BadRequestException.class,
+                () -> loanService.getPaymentSchedule(1L, 1L, Role.CUSTOMER));
+    }
+
+    private static ApplicationRow row(Long id, String number, ApplicationStatus status, String vehicleMake) {
+        return new ApplicationRow(id, number, status, 1, null, new BigDecimal("25000.00"), null, 36,
+                null, null, null, 1L, null, null, null, null,
+                vehicleMake, vehicleMake != null ? "Camry" : null, vehicleMake != null ? 2024 : null, null, null);
+    }
 }
@@ -0,0 +1,101 @@
+package com.autoloan.backend.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import com.autoloan.backend.dto.application.StatusHistoryResponse;
+import com.autoloan.backend.event.DomainEventPublisher;
+import com.autoloan.backend.exception.ResourceNotFoundException;
+import com.autoloan.backend.model.StatusHistory;
+import com.autoloan.backend.model.enums.ApplicationStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Import({ApplicationWorkflowService.class, ApplicationResponseCache.class, ApplicationQueueCounters.class,
+        TransitionRetry.class, DomainEventPublisher.class, SimpleMeterRegistry.class})
+class StatusHistoryQueryCountTest extends BaseQueryCountTest {
+
+    @Autowired
+    private ApplicationWorkflowService workflowService;
+
+    private Long appId;
+    private Long emptyAppId;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = entityManager.persist(user("timeline@example.com").build()).getId();
+        appId = persistApplication("APP-TL1", ApplicationStatus.UNDER_REVIEW);
+        emptyAppId = persistApplication("APP-TL2", ApplicationStatus.DRAFT);
+        appendHistory("DRAFT", "SUBMITTED");
+        appendHistory("SUBMITTED", "UNDER_REVIEW");
+        flushAndClear();
+    }
+
+    @Test
+    void tagIsOneAggregateAndLoadsNoRows() {
+        AtomicReference<String> tag = new AtomicReference<>();
+        assertEquals(1, countStatements(() -> tag.set(workflowService.getHistoryTag(appId))));
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        Long latestId = workflowService.getHistory(appId).get(0).getId();
+        assertEquals("W/\"" + latestId + "-2\"", tag.get());
+    }
+
+    @Test
+    void tagChangesWhenHistoryIsAppended() {
+        String before = workflowService.getHistoryTag(appId);
+        appendHistory("UNDER_REVIEW", "APPROVED");
+        entityManager.flush();
+
+        assertNotEquals(before, workflowService.getHistoryTag(appId));
+    }
+
+    @Test
+    void sinceReturnsOnlyEntriesAfterTheCursor() {
+        List<StatusHistoryResponse> all = workflowService.getHistory(appId);
+        Long newest = all.get(0).getId();
+        Long oldest = all.get(1).getId();
+
+        AtomicReference<List<StatusHistoryResponse>> newer = new AtomicReference<>();
+        // One history query; rows imply the application exists
+        assertEquals(1, countStatements(() -> newer.set(workflowService.getHistory(appId, oldest))));
+        assertEquals(1, newer.get().size());
+        assertEquals(newest, newer.get().get(0).getId());
+
+        assertTrue(workflowService.getHistory(appId, newest).isEmpty());
+    }
+
+    @Test
+    void historyWithRowsSkipsTheApplicationLookup() {
+        assertEquals(1, countStatements(() -> workflowService.getHistory(appId)));
+    }
+
+    @Test
+    void emptyHistoryStillDistinguishesMissingApplications() {
+        assertEquals("W/\"0\"", workflowService.getHistoryTag(emptyAppId));
+        assertTrue(workflowService.getHistory(emptyAppId).isEmpty());
+        assertThrows(ResourceNotFoundException.class, () -> workflowService.getHistoryTag(-1L));
+        assertThrows(ResourceNotFoundException.class, () -> workflowService.getHistory(-1L, 0L));
+    }
+
+    private Long persistApplication(String number, ApplicationStatus status) {
+        return entityManager.persist(application(number, userId, status).build()).getId();
+    }
+
+    private void appendHistory(String from, String to) {
+        entityManager.persist(StatusHistory.builder()
+                .applicationId(appId)
+                .userId(userId)
+                .fromStatus(from)
+                .toStatus(to)
+                .build());
+    }
+}
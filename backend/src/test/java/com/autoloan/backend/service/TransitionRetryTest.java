@@ -0,0 +1,157 @@
+package com.autoloan.backend.service;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.autoloan.backend.exception.ConflictException;
+import com.autoloan.backend.model.Application;
+import com.autoloan.backend.model.User;
+import com.autoloan.backend.model.enums.ApplicationStatus;
+import com.autoloan.backend.model.enums.WorkflowAction;
+import com.autoloan.backend.repository.ApplicationRepository;
+import com.autoloan.backend.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Real commits against H2: a concurrent writer bumps @Version between our read and our flush
+@DataJpaTest(properties = "app.workflow.retry.backoff-ms=0")
+@Import({TransitionRetry.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TransitionRetryTest {
+
+    @Autowired
+    private TransitionRetry transitionRetry;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long userId;
+    private Long appId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder()
+                .email("retry@example.com")
+                .encryptedPassword("hash")
+                .firstName("Retry")
+                .lastName("Test")
+                .phone("555-0000")
+                .build()).getId();
+        appId = applicationRepository.save(Application.builder()
+                .applicationNumber("APP-RETRY")
+                .userId(userId)
+                .status(ApplicationStatus.SUBMITTED)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        applicationRepository.deleteAll();
+        userRepository.deleteById(userId);
+    }
+
+    @Test
+    void versionIncrementsOnEachUpdate() {
+        Application app = applicationRepository.findById(appId).orElseThrow();
+        assertEquals(0L, app.getVersion());
+
+        app.setCurrentStep(2);
+        assertEquals(1L, applicationRepository.save(app).getVersion());
+    }
+
+    @Test
+    void idempotentAction_retriesFromFreshReadAfterConflict() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        ApplicationStatus result = transitionRetry.execute(WorkflowAction.REQUEST_DOCUMENTS, attempt -> {
+            attempts.incrementAndGet();
+            Application app = applicationRepository.findById(appId).orElseThrow();
+            if (attempt == 1) {
+                concurrentlyMoveTo(ApplicationStatus.UNDER_REVIEW);
+            }
+            app.setStatus(ApplicationStatus.PENDING_DOCUMENTS);
+            return app.getStatus();
+        });
+
+        assertEquals(ApplicationStatus.PENDING_DOCUMENTS, result);
+        assertEquals(2, attempts.get());
+        Application stored = applicationRepository.findById(appId).orElseThrow();
+        assertEquals(ApplicationStatus.PENDING_DOCUMENTS, stored.getStatus());
+        assertEquals(2L, stored.getVersion());
+        assertEquals(1.0, conflicts(WorkflowAction.REQUEST_DOCUMENTS, "retried"));
+    }
+
+    @Test
+    void decision_conflictIsRejectedWithoutRetry() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(ConflictException.class, () -> transitionRetry.execute(WorkflowAction.APPROVE, attempt -> {
+            attempts.incrementAndGet();
+            Application app = applicationRepository.findById(appId).orElseThrow();
+            concurrentlyMoveTo(ApplicationStatus.REJECTED);
+            app.setStatus(ApplicationStatus.APPROVED);
+            return app;
+        }));
+
+        assertEquals(1, attempts.get());
+        // The concurrent decision stands; ours was never written
+        assertEquals(ApplicationStatus.REJECTED, applicationRepository.findById(appId).orElseThrow().getStatus());
+        assertEquals(1.0, conflicts(WorkflowAction.APPROVE, "rejected"));
+    }
+
+    @Test
+    void idempotentAction_givesUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(ConflictException.class, () -> transitionRetry.execute(WorkflowAction.START_VERIFICATION,
+                attempt -> {
+                    attempts.incrementAndGet();
+                    Application app = applicationRepository.findById(appId).orElseThrow();
+                    concurrentlyMoveTo(ApplicationStatus.SUBMITTED);
+                    app.setStatus(ApplicationStatus.UNDER_REVIEW);
+                    return app;
+                }));
+
+        assertEquals(3, attempts.get());
+        assertEquals(2.0, conflicts(WorkflowAction.START_VERIFICATION, "retried"));
+        assertEquals(1.0, conflicts(WorkflowAction.START_VERIFICATION, "exhausted"));
+    }
+
+    // Another officer's request, committed in its own transaction
+    private void concurrentlyMoveTo(ApplicationStatus status) {
+        TransactionTemplate other = new TransactionTemplate(transactionManager);
+        other.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        other.executeWithoutResult(tx -> {
+            Application app = applicationRepository.findById(appId).orElseThrow();
+            app.setStatus(status);
+            app.setCurrentStep(app.getCurrentStep() + 1);
+        });
+    }
+
+    private double conflicts(WorkflowAction action, String outcome) {
+        return meterRegistry.counter("app.workflow.conflicts", "action", action.name(), "outcome", outcome).count();
+    }
+}
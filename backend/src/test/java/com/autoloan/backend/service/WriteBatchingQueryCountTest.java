@@ -0,0 +1,141 @@
+package com.autoloan.backend.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.autoloan.backend.dto.application.BulkActionRequest;
+import com.autoloan.backend.dto.application.BulkActionResponse;
+import com.autoloan.backend.dto.loan.LoanApplicationRequest;
+import com.autoloan.backend.event.DomainEventPublisher;
+import com.autoloan.backend.model.enums.Role;
+import com.autoloan.backend.repository.ApplicationRepository;
+import com.autoloan.backend.repository.StatusHistoryRepository;
+import com.autoloan.backend.repository.UserRepository;
+import com.autoloan.backend.repository.VehicleRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Statements sent to the database per write path, with real commits so every flush is counted.
+// Pooled-lo sequences let Hibernate assign ids in memory, so inserts wait for flush and go out
+// as one JDBC batch per table instead of one round trip per row (as IDENTITY forces).
+@Import({LoanService.class, ApplicationWorkflowService.class, ApplicationCountEstimator.class,
+        ApplicationResponseCache.class, ApplicationQueueCounters.class, TransitionRetry.class,
+        DomainEventPublisher.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WriteBatchingQueryCountTest extends BaseQueryCountTest {
+
+    private static final int BULK_SIZE = 20;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private ApplicationWorkflowService workflowService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private StatusHistoryRepository statusHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+    private Long officerId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(user("applicant@example.com").build()).getId();
+        officerId = userRepository.save(user("officer@example.com").build()).getId();
+        // Draw the first id block from each sequence so counts below are steady-state
+        submit(createApplication());
+        workflowService.startVerification(applicationRepository.findAll().get(0).getId(), officerId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statusHistoryRepository.deleteAll();
+        vehicleRepository.deleteAll();
+        applicationRepository.deleteAll();
+        userRepository.deleteAllById(List.of(userId, officerId));
+    }
+
+    @Test
+    void createApplication_insertsApplicationAndVehicle() {
+        // application insert + vehicle insert
+        assertEquals(2, countStatements(this::createApplication));
+        assertEquals(2, statistics.getEntityInsertCount());
+    }
+
+    @Test
+    void createApplication_idsComeFromTheBlockWithoutSequenceCalls() {
+        long statements = countStatements(() -> {
+            for (int i = 0; i < 10; i++) {
+                createApplication();
+            }
+        });
+
+        assertEquals(20, statements);
+    }
+
+    @Test
+    void singleTransition_readsUpdatesAndAppendsHistory() {
+        Long appId = submit(createApplication());
+
+        // application select + vehicle select + history id nextval + application update + history insert
+        assertEquals(5, countStatements(() -> workflowService.startVerification(appId, officerId)));
+    }
+
+    @Test
+    void bulkAction_batchesUpdatesAndHistoryInserts() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < BULK_SIZE; i++) {
+            ids.add(submit(createApplication()));
+        }
+        BulkActionRequest request = new BulkActionRequest();
+        request.setAction("start_verification");
+        request.setIds(ids);
+
+        BulkActionResponse[] response = new BulkActionResponse[1];
+        long statements = countStatements(() ->
+                response[0] = workflowService.bulkAction(request, officerId, Role.LOAN_OFFICER));
+
+        assertEquals(BULK_SIZE, response[0].getSucceeded());
+        // IN select + one batched update + one batched history insert, plus one nextval per history id
+        // (status_histories has no id blocks, its ids are the history cursor)
+        assertEquals(3 + BULK_SIZE, statements);
+        assertEquals(BULK_SIZE, statistics.getEntityInsertCount());
+        assertEquals(BULK_SIZE, statistics.getEntityUpdateCount());
+    }
+
+    private Long createApplication() {
+        LoanApplicationRequest request = new LoanApplicationRequest();
+        request.setLoanAmount(new BigDecimal("25000.00"));
+        request.setDownPayment(new BigDecimal("5000.00"));
+        request.setLoanTerm(60);
+        request.setVehicleMake("Toyota");
+        request.setVehicleModel("Camry");
+        request.setVehicleYear(2024);
+        return loanService.createApplication(userId, request).getId();
+    }
+
+    private Long submit(Long appId) {
+        loanService.submitApplication(appId, userId);
+        return appId;
+    }
+}
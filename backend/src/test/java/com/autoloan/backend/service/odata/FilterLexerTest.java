@@ -0,0 +1,56 @@
+// backend/src/test/java/com/autoloan/backend/service/odata/FilterLexerTest.java
+package com.autoloan.backend.service.odata;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.autoloan.backend.exception.BadRequestException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilterLexerTest {
+
+    @Test
+    void tokenizeSplitsWordsPunctuationAndStrings() {
+        List<FilterToken> tokens = FilterLexer.tokenize("contains(status, 'DRAFT')");
+
+        assertEquals(List.of(
+                new FilterToken(FilterToken.Type.WORD, "contains"),
+                new FilterToken(FilterToken.Type.LPAREN, "("),
+                new FilterToken(FilterToken.Type.WORD, "status"),
+                new FilterToken(FilterToken.Type.COMMA, ","),
+                new FilterToken(FilterToken.Type.STRING, "DRAFT"),
+                new FilterToken(FilterToken.Type.RPAREN, ")"),
+                new FilterToken(FilterToken.Type.END, "")), tokens);
+    }
+
+    @Test
+    void tokenizeUnescapesDoubledQuotes() {
+        List<FilterToken> tokens = FilterLexer.tokenize("name eq 'O''Brien'");
+        assertEquals(new FilterToken(FilterToken.Type.STRING, "O'Brien"), tokens.get(2));
+    }
+
+    @Test
+    void tokenizeKeepsWhitespaceInsideStrings() {
+        List<FilterToken> tokens = FilterLexer.tokenize("status eq \"IN  REVIEW\"");
+        assertEquals("IN  REVIEW", tokens.get(2).text());
+    }
+
+    @Test
+    void tokenizeRejectsUnterminatedString() {
+        assertThrows(BadRequestException.class, () -> FilterLexer.tokenize("status eq 'DRAFT"));
+    }
+
+    @Test
+    void normalizeCollapsesWhitespaceOutsideQuotes() {
+        assertEquals("status eq 'A  B' and loan_term gt 12",
+                FilterLexer.normalize("  status   eq 'A  B'\tand loan_term  gt 12  "));
+    }
+
+    @Test
+    void isWordIgnoresCase() {
+        assertTrue(new FilterToken(FilterToken.Type.WORD, "AND").isWord("and"));
+        assertFalse(new FilterToken(FilterToken.Type.STRING, "and").isWord("and"));
+    }
+}
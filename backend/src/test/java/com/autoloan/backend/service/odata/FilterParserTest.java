@@ -0,0 +1,121 @@
+// backend/src/test/java/com/autoloan/backend/service/odata/FilterParserTest.java
+package com.autoloan.backend.service.odata;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.autoloan.backend.exception.BadRequestException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilterParserTest {
+
+    @Test
+    void parsesSingleComparison() {
+        FilterNode node = FilterParser.parse("status eq 'DRAFT'");
+        assertEquals(new FilterNode.Comparison("status", FilterNode.Operator.EQ, "DRAFT"), node);
+    }
+
+    @Test
+    void parsesConjunctionInOrder() {
+        FilterNode node = FilterParser.parse("loan_term GT 12 AND contains(status,'sub')");
+
+        assertEquals(new FilterNode.And(List.of(
+                new FilterNode.Comparison("loan_term", FilterNode.Operator.GT, 12),
+                new FilterNode.Contains("status", "sub"))), node);
+    }
+
+    @Test
+    void typesUnquotedLiterals() {
+        assertEquals(12, comparisonValue("loan_term gt 12"));
+        assertEquals(new BigDecimal("5.5"), comparisonValue("interest_rate gt 5.5"));
+        assertEquals(new BigDecimal("7"), comparisonValue("interest_rate gt 7M"));
+        assertEquals(new BigDecimal("99999999999"), comparisonValue("loan_amount gt 99999999999"));
+        assertEquals(LocalDate.of(2025, 1, 31), comparisonValue("created_at gt 2025-01-31"));
+        assertEquals(Instant.parse("2025-01-01T08:00:00Z"), comparisonValue("created_at gt 2025-01-01T10:00:00+02:00"));
+        assertEquals(true, comparisonValue("status eq true"));
+        assertNull(comparisonValue("status eq null"));
+        assertEquals(Instant.parse("2025-01-01T00:00:00Z"), comparisonValue("created_at gt 2025-01-01T00:00:00Z"));
+        assertEquals("not-a-date", comparisonValue("status eq not-a-date"));
+        assertEquals("2025-13-45", comparisonValue("status eq 2025-13-45"));
+    }
+
+    @Test
+    void orBindsLooserThanAnd() {
+        FilterNode node = FilterParser.parse("a eq 1 or b eq 2 and c eq 3");
+
+        assertEquals(new FilterNode.Or(List.of(
+                new FilterNode.Comparison("a", FilterNode.Operator.EQ, 1),
+                new FilterNode.And(List.of(
+                        new FilterNode.Comparison("b", FilterNode.Operator.EQ, 2),
+                        new FilterNode.Comparison("c", FilterNode.Operator.EQ, 3))))), node);
+    }
+
+    @Test
+    void parenthesesAndNotOverridePrecedence() {
+        FilterNode node = FilterParser.parse("not (a eq 1 or b eq 2) and c eq 3");
+
+        assertEquals(new FilterNode.And(List.of(
+                new FilterNode.Not(new FilterNode.Or(List.of(
+                        new FilterNode.Comparison("a", FilterNode.Operator.EQ, 1),
+                        new FilterNode.Comparison("b", FilterNode.Operator.EQ, 2)))),
+                new FilterNode.Comparison("c", FilterNode.Operator.EQ, 3))), node);
+    }
+
+    @Test
+    void parsesInList() {
+        assertEquals(new FilterNode.In("status", List.of("DRAFT", "SIGNED")),
+                FilterParser.parse("status in ('DRAFT','SIGNED')"));
+    }
+
+    @Test
+    void parsesStartsWith() {
+        assertEquals(new FilterNode.StartsWith("application_number", "APP-"),
+                FilterParser.parse("startswith(application_number,'APP-')"));
+    }
+
+    @Test
+    void rejectsEmptyInList() {
+        assertThrows(BadRequestException.class, () -> FilterParser.parse("status in ()"));
+    }
+
+    @Test
+    void rejectsUnbalancedParentheses() {
+        assertThrows(BadRequestException.class, () -> FilterParser.parse("(a eq 1 or b eq 2"));
+    }
+
+    @Test
+    void rejectsExcessiveNesting() {
+        String filter = "(".repeat(40) + "a eq 1" + ")".repeat(40);
+        assertThrows(BadRequestException.class, () -> FilterParser.parse(filter));
+    }
+
+    @Test
+    void unsupportedFunctionMatchesAll() {
+        assertEquals(FilterNode.And.MATCH_ALL, FilterParser.parse("contains(status)"));
+        assertEquals(FilterNode.And.MATCH_ALL, FilterParser.parse("endswith(status,'x')"));
+    }
+
+    @Test
+    void rejectsMissingValue() {
+        assertThrows(BadRequestException.class, () -> FilterParser.parse("status eq"));
+    }
+
+    @Test
+    void rejectsTrailingTokens() {
+        assertThrows(BadRequestException.class, () -> FilterParser.parse("status eq 'A' 'B'"));
+    }
+
+    @Test
+    void rejectsLeadingPunctuation() {
+        assertThrows(BadRequestException.class, () -> FilterParser.parse(", status eq 'A'"));
+    }
+
+    private Object comparisonValue(String filter) {
+        return ((FilterNode.Comparison) FilterParser.parse(filter)).value();
+    }
+}
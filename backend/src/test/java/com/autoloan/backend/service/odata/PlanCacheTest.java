@@ -0,0 +1,48 @@
+// backend/src/test/java/com/autoloan/backend/service/odata/PlanCacheTest.java
+package com.autoloan.backend.service.odata;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlanCacheTest {
+
+    @Test
+    void compilesOncePerNormalizedKey() {
+        PlanCache<String> cache = new PlanCache<>(8);
+        AtomicInteger compilations = new AtomicInteger();
+
+        String first = cache.get("status eq 'A'", key -> key + "#" + compilations.incrementAndGet());
+        String second = cache.get("  status  eq 'A' ", key -> key + "#" + compilations.incrementAndGet());
+
+        assertSame(first, second);
+        assertEquals(1, compilations.get());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedEntry() {
+        PlanCache<String> cache = new PlanCache<>(2);
+        AtomicInteger compilations = new AtomicInteger();
+
+        cache.get("a", key -> key + compilations.incrementAndGet());
+        cache.get("b", key -> key + compilations.incrementAndGet());
+        cache.get("a", key -> key + compilations.incrementAndGet());
+        cache.get("c", key -> key + compilations.incrementAndGet());
+        assertEquals(2, cache.size());
+
+        cache.get("a", key -> key + compilations.incrementAndGet());
+        assertEquals(3, compilations.get());
+        cache.get("b", key -> key + compilations.incrementAndGet());
+        assertEquals(4, compilations.get());
+    }
+
+    @Test
+    void clearDropsAllEntries() {
+        PlanCache<String> cache = new PlanCache<>(4);
+        cache.get("a", key -> key);
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+}
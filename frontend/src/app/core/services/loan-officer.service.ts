@@ -12,6 +12,8 @@ export interface PaginatedResponse<T> {
   perPage: number;
   total: number;
   totalPages: number;
+  countKind?: 'exact' | 'estimate' | 'none';
+  hasMore?: boolean;
 }
 
 export interface ListParams {